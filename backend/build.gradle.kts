@@ -4,6 +4,7 @@ plugins {
     id("org.springframework.boot") version "3.5.7"
     id("io.spring.dependency-management") version "1.1.4"
     id("org.sonarqube") version "4.4.1.3373"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.kanban"
@@ -44,6 +45,7 @@ dependencies {
     // Real-time
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-websocket")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 
     // Database
     runtimeOnly("com.h2database:h2")
@@ -71,6 +73,8 @@ dependencies {
 
     // Test
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:postgresql")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
     // Excel processing
@@ -86,6 +90,16 @@ tasks.withType<Test> {
     finalizedBy(tasks.jacocoTestReport)
 }
 
+// 마이크로벤치마크 (src/jmh/java), 실행: ./gradlew jmh -Pjmh.includes=<벤치마크 클래스 이름>
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    (findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+    resultFormat.set("JSON")
+}
+
 tasks.withType<JavaCompile> {
     options.compilerArgs.add("-parameters")
 }
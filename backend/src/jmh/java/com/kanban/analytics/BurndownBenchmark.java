@@ -0,0 +1,173 @@
+package com.kanban.analytics;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import com.kanban.analytics.dto.BurndownDataPoint;
+
+/**
+ * 합성 대형 보드의 번다운 계산 비용 비교 (H2 메모리 DB)
+ * entityScan: 보드의 카드 행을 모두 읽어 객체로 만든 뒤 날짜마다 전체 카드를 훑는 기존 방식 (O(days × cards))
+ * aggregateSweep: CardRepository.countCreatedByDay/countClosedByDay와 같은 GROUP BY 두 번 후 날짜 순 누적
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BurndownBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BurndownBenchmark {
+
+    private static final long BOARD_ID = 1L;
+    private static final String OPEN_CARD = "board_id = ? AND created_at IS NOT NULL "
+            + "AND (is_archived = FALSE OR archived_at IS NOT NULL)";
+    private static final String CLOSED_AT = "CASE WHEN completed_at IS NOT NULL AND "
+            + "(is_archived = FALSE OR archived_at > completed_at) THEN completed_at "
+            + "ELSE archived_at END";
+
+    @Param({"10000", "50000"})
+    public int cards;
+
+    @Param({"30", "90"})
+    public int days;
+
+    private Connection connection;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:burndown-" + cards + "-" + days
+                + ";DB_CLOSE_DELAY=-1", "sa", "");
+        today = LocalDate.now();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE cards (id BIGINT PRIMARY KEY, board_id BIGINT, "
+                    + "title VARCHAR(200), description VARCHAR(2000), created_at TIMESTAMP, "
+                    + "completed_at TIMESTAMP, is_archived BOOLEAN, archived_at TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_cards_board_id ON cards (board_id)");
+        }
+        insertSyntheticBoard(new Random(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<BurndownDataPoint> entityScan() throws SQLException {
+        List<CardRow> rows = new ArrayList<>();
+        try (PreparedStatement statement =
+                connection.prepareStatement("SELECT * FROM cards WHERE board_id = ?")) {
+            statement.setLong(1, BOARD_ID);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new CardRow(rs.getLong("id"), rs.getString("title"),
+                            rs.getString("description"), toLocalDateTime(rs, "created_at"),
+                            toLocalDateTime(rs, "completed_at"), rs.getBoolean("is_archived"),
+                            toLocalDateTime(rs, "archived_at")));
+                }
+            }
+        }
+
+        LocalDate startDate = today.minusDays(days);
+        List<BurndownDataPoint> points = new ArrayList<>(days + 1);
+        for (int i = 0; i <= days; i++) {
+            LocalDate date = startDate.plusDays(i);
+            LocalDateTime endOfDay = date.atTime(23, 59, 59);
+            long remaining = rows.stream()
+                    .filter(c -> c.createdAt() != null && c.createdAt().isBefore(endOfDay))
+                    .filter(c -> c.completedAt() == null || c.completedAt().isAfter(endOfDay))
+                    .filter(c -> !c.archived()
+                            || (c.archivedAt() != null && c.archivedAt().isAfter(endOfDay)))
+                    .count();
+            points.add(BurndownDataPoint.builder().date(date).remainingTasks(remaining).build());
+        }
+        return points;
+    }
+
+    @Benchmark
+    public List<BurndownDataPoint> aggregateSweep() throws SQLException {
+        List<Object[]> created = countByDay("SELECT CAST(created_at AS DATE), COUNT(*) FROM cards "
+                + "WHERE " + OPEN_CARD + " GROUP BY CAST(created_at AS DATE)");
+        List<Object[]> closed = countByDay("SELECT CAST(" + CLOSED_AT + " AS DATE), COUNT(*) "
+                + "FROM cards WHERE " + OPEN_CARD
+                + " AND (completed_at IS NOT NULL OR is_archived = TRUE) "
+                + "GROUP BY CAST(" + CLOSED_AT + " AS DATE)");
+        return AnalyticsService.burndown(created, closed, today, days);
+    }
+
+    private List<Object[]> countByDay(String sql) throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, BOARD_ID);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new Object[] {rs.getObject(1, LocalDate.class), rs.getLong(2)});
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 최근 days × 2일 동안 생성된 카드 (1/3 미완료, 1/5 아카이브, 아카이브 중 1/10은 시각 없음)
+     */
+    private void insertSyntheticBoard(Random random) throws SQLException {
+        LocalDateTime origin = today.minusDays(days * 2L).atStartOfDay();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO cards VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < cards; i++) {
+                LocalDateTime createdAt = origin.plusMinutes(random.nextInt(days * 2 * 24 * 60));
+                LocalDateTime completedAt = random.nextInt(3) == 0 ? null
+                        : createdAt.plusMinutes(random.nextInt(20 * 24 * 60));
+                boolean archived = random.nextInt(5) == 0;
+                LocalDateTime archivedAt = !archived || random.nextInt(10) == 0 ? null
+                        : createdAt.plusMinutes(random.nextInt(30 * 24 * 60));
+                statement.setLong(1, i + 1L);
+                statement.setLong(2, BOARD_ID);
+                statement.setString(3, "합성 카드 " + i);
+                statement.setString(4, "설명 ".repeat(20));
+                statement.setTimestamp(5, Timestamp.valueOf(createdAt));
+                statement.setTimestamp(6, completedAt == null ? null : Timestamp.valueOf(completedAt));
+                statement.setBoolean(7, archived);
+                statement.setTimestamp(8, archivedAt == null ? null : Timestamp.valueOf(archivedAt));
+                statement.addBatch();
+                if (i % 1_000 == 999) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private record CardRow(long id, String title, String description, LocalDateTime createdAt,
+            LocalDateTime completedAt, boolean archived, LocalDateTime archivedAt) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.kanban.audit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import com.kanban.board.Board;
+import com.kanban.card.Card;
+import com.kanban.column.BoardColumn;
+import com.kanban.user.User;
+
+/**
+ * 감사 로그 diff 비용 측정 (@Auditable 메서드 한 번에 AuditLogAspect가 더하는 CPU 비용)
+ * snapshot: 엔터티 필드 값 복사, diff*: 스냅샷 두 개 비교 + JSON 직렬화, audit*: 스냅샷 두 번 + diff
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=EntityDiffBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityDiffBenchmark {
+
+    private EntityDiffCalculator calculator;
+    private Card card;
+    private EntitySnapshot before;
+    private EntitySnapshot afterTitleChange;
+    private EntitySnapshot unchanged;
+
+    @Setup
+    public void setUp() {
+        calculator = new EntityDiffCalculator();
+        Board board = Board.builder().id(1L).name("보드").build();
+        BoardColumn column = BoardColumn.builder().id(7L).board(board).name("진행 중").build();
+        card = Card.builder().id(100L).column(column).title("결제 모듈 리팩터링")
+                .description("<p>결제 실패 재시도 로직 정리</p>").position(3).rankKey(3L << 20)
+                .priority("HIGH").assignee(User.builder().id(5L).build())
+                .dueDate(LocalDate.of(2025, 3, 1)).storyPoints(5)
+                .startedAt(LocalDateTime.of(2025, 1, 15, 10, 30)).build();
+
+        before = EntitySnapshot.of(card);
+        unchanged = EntitySnapshot.of(card);
+        String title = card.getTitle();
+        card.setTitle(title + " (2차)");
+        afterTitleChange = EntitySnapshot.of(card);
+        card.setTitle(title);
+    }
+
+    @Benchmark
+    public EntitySnapshot snapshot() {
+        return EntitySnapshot.of(card);
+    }
+
+    @Benchmark
+    public String diffOneFieldChanged() {
+        return calculator.calculateDiff(before, afterTitleChange);
+    }
+
+    @Benchmark
+    public String diffUnchanged() {
+        return calculator.calculateDiff(before, unchanged);
+    }
+
+    @Benchmark
+    public String diffCreated() {
+        return calculator.calculateDiff(null, before);
+    }
+
+    @Benchmark
+    public String auditUpdate() {
+        EntitySnapshot oldState = EntitySnapshot.of(card);
+        return calculator.calculateDiff(oldState, EntitySnapshot.of(card));
+    }
+}
@@ -0,0 +1,84 @@
+package com.kanban.notification.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kanban.card.dto.CardResponse;
+
+/**
+ * 실시간 이벤트 프레임 형식별(JSON/SMILE) 처리량 비교
+ * encode: 발행 측 직렬화, decode: 객체 역직렬화, toJson: 구독 측이 STOMP로 전달할 JSON 본문 변환
+ * 프레임 크기 비교는 RealtimeEventCodecTest.shouldProduceSmallerSmileFrame 참고
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RealtimeEventCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RealtimeEventCodecBenchmark {
+
+    @Param({"JSON", "SMILE"})
+    public RealtimeEventCodec.Format format;
+
+    /**
+     * BATCH 이벤트에 담긴 카드 이벤트 수 (1이면 단건 이벤트)
+     */
+    @Param({"1", "50", "500"})
+    public int batchSize;
+
+    private RealtimeEventCodec codec;
+    private BoardEvent event;
+    private byte[] frame;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        codec = new RealtimeEventCodec(objectMapper, format);
+        event = batchSize == 1 ? cardEvent(0) : batchEvent(batchSize);
+        frame = codec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public BoardEvent decode() {
+        return codec.decode(frame, BoardEvent.class);
+    }
+
+    @Benchmark
+    public byte[] toJson() {
+        return codec.toJson(frame);
+    }
+
+    private static BoardEvent batchEvent(int size) {
+        List<BoardEvent> events =
+                IntStream.range(0, size).mapToObj(RealtimeEventCodecBenchmark::cardEvent).toList();
+        return BoardEvent.builder().type("BATCH").boardId(42L).payload(Map.of("events", events))
+                .triggeredByUserId(1L).timestamp(1_736_900_000_000L).build();
+    }
+
+    private static BoardEvent cardEvent(int i) {
+        return BoardEvent.builder().type("CARD_UPDATED").boardId(42L)
+                .payload(CardResponse.builder().id((long) i).columnId(7L)
+                        .title("결제 모듈 리팩터링 " + i).description("설명 " + i).priority("HIGH")
+                        .position(i).createdAt(LocalDateTime.of(2025, 1, 15, 10, 30)).build())
+                .triggeredByUserId(1L).timestamp(1_736_900_000_000L).build();
+    }
+}
@@ -5,10 +5,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import com.kanban.auth.config.ApiTokenProperties;
 import com.kanban.auth.config.JwtProperties;
+import com.kanban.retention.RetentionProperties;
 import io.github.cdimascio.dotenv.Dotenv;
 
 @SpringBootApplication
-@EnableConfigurationProperties({JwtProperties.class, ApiTokenProperties.class})
+@EnableConfigurationProperties({JwtProperties.class, ApiTokenProperties.class,
+        RetentionProperties.class})
 @org.springframework.cache.annotation.EnableCaching
 @org.springframework.context.annotation.EnableAspectJAutoProxy
 public class KanbanApplication {
@@ -16,7 +16,8 @@ import lombok.*;
         @Index(name = "idx_activities_scope", columnList = "scope_type,scope_id"),
         @Index(name = "idx_activities_actor", columnList = "actor_id"),
         @Index(name = "idx_activities_created_at", columnList = "created_at"),
-        @Index(name = "idx_activities_event_type", columnList = "event_type")
+        @Index(name = "idx_activities_event_type", columnList = "event_type"),
+        @Index(name = "idx_activities_board_created", columnList = "board_id,created_at,id")
     }
 )
 @Getter
@@ -43,6 +44,13 @@ public class Activity extends BaseEntity {
     @Column(nullable = false)
     private Long scopeId;
 
+    /**
+     * 활동이 속한 보드 ID (보드 활동 피드 조회용 비정규화 칼럼)
+     * 카드 활동은 카드가 속한 보드 ID를 기록하며, 이관 전 삭제된 카드의 활동은 null일 수 있다.
+     */
+    @Column(name = "board_id")
+    private Long boardId;
+
     /**
      * 이벤트 유형
      */
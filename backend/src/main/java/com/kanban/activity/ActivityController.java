@@ -1,5 +1,6 @@
 package com.kanban.activity;
 
+import com.kanban.activity.dto.ActivityPageResponse;
 import com.kanban.activity.dto.ActivityResponse;
 import com.kanban.common.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,23 +25,25 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Activities", description = "활동 로그 API")
 public class ActivityController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ActivityService activityService;
 
     /**
      * 보드의 모든 활동 로그 조회
      */
     @GetMapping("/boards/{boardId}")
-    @Operation(summary = "보드 활동 로그 조회", description = "특정 보드와 하위 카드의 모든 활동 로그를 조회합니다 (페이지네이션)")
-    public ResponseEntity<Page<ActivityResponse>> getBoardActivities(
+    @Operation(summary = "보드 활동 로그 조회", description = "특정 보드와 하위 카드의 모든 활동 로그를 최신순으로 조회합니다 (커서 페이지네이션)")
+    public ResponseEntity<ActivityPageResponse> getBoardActivities(
         @PathVariable Long boardId,
-        @Parameter(description = "페이지 번호 (0부터 시작)")
-        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
         @Parameter(description = "페이지 크기")
         @RequestParam(defaultValue = "50") int size
     ) {
         Long currentUserId = SecurityUtil.getCurrentUserId();
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<ActivityResponse> activities = activityService.getBoardActivitiesWithValidation(boardId, currentUserId, pageable);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ActivityPageResponse activities = activityService.getBoardActivitiesWithValidation(boardId, currentUserId, cursor, pageSize);
         return ResponseEntity.ok(activities);
     }
 
@@ -0,0 +1,21 @@
+package com.kanban.activity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 대기 중인 활동 로그 (엔터티/연관 로딩 없이 ID만 보관)
+ *
+ * @param boardId    활동이 속한 보드 ID (카드 활동에서 null이면 반영 시점에 카드가 속한 보드로 채움)
+ * @param occurredAt 이벤트 발생 시각 (DB 반영 시점이 아닌 created_at으로 저장)
+ */
+public record ActivityRecord(
+    ActivityScopeType scopeType,
+    Long scopeId,
+    Long boardId,
+    ActivityEventType eventType,
+    Long actorId,
+    String message,
+    String payload,
+    LocalDateTime occurredAt
+) {
+}
@@ -1,5 +1,8 @@
 package com.kanban.activity;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -49,8 +52,20 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
     );
 
     /**
-     * 특정 보드의 모든 활동 조회 (actor 즉시 로딩)
+     * 특정 보드의 모든 활동 첫 페이지 조회 (보드 및 하위 카드 활동, actor 즉시 로딩)
+     * (board_id, created_at, id) 인덱스를 역순으로 읽으며 pageable은 조회 건수 제한에만 사용
+     */
+    @Query("SELECT a FROM Activity a JOIN FETCH a.actor WHERE a.boardId = :boardId ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findBoardActivityPage(@Param("boardId") Long boardId, Pageable pageable);
+
+    /**
+     * 특정 보드의 활동 중 커서(createdAt, id) 이후 페이지 조회 (actor 즉시 로딩)
      */
-    @Query("SELECT a FROM Activity a JOIN FETCH a.actor WHERE (a.scopeType = 'BOARD' AND a.scopeId = :boardId) OR (a.scopeId IN (SELECT c.id FROM com.kanban.card.Card c WHERE c.column.board.id = :boardId)) ORDER BY a.createdAt DESC")
-    Page<Activity> findAllBoardActivities(@Param("boardId") Long boardId, Pageable pageable);
+    @Query("SELECT a FROM Activity a JOIN FETCH a.actor WHERE a.boardId = :boardId AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findBoardActivityPageAfter(
+        @Param("boardId") Long boardId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
 }
@@ -1,21 +1,26 @@
 package com.kanban.activity;
 
+import com.kanban.activity.dto.ActivityPageResponse;
 import com.kanban.activity.dto.ActivityResponse;
 import com.kanban.board.Board;
 import com.kanban.board.BoardRepository;
 import com.kanban.board.member.BoardMemberRepository;
 import com.kanban.board.member.InvitationStatus;
-import com.kanban.user.User;
-import com.kanban.user.UserRepository;
+import com.kanban.common.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 활동 로그 서비스
  * 모든 주요 이벤트를 기록하고 조회하는 비즈니스 로직 제공
@@ -27,12 +32,14 @@ import org.springframework.web.server.ResponseStatusException;
 public class ActivityService {
 
     private final ActivityRepository activityRepository;
-    private final UserRepository userRepository;
+    private final ActivityWriter activityWriter;
     private final BoardRepository boardRepository;
     private final BoardMemberRepository boardMemberRepository;
 
     /**
      * 활동 로그 기록
+     * 요청 스레드에서는 기록만 예약하고, 커밋 이후 ActivityWriter가 배치로 반영한다.
+     * 카드 활동은 보드 ID를 알고 있다면 recordCardActivity를 사용한다 (모르면 반영 시점에 카드에서 조회).
      *
      * @param scopeType  활동 범위 (BOARD 또는 CARD)
      * @param scopeId    범위 ID (보드 ID 또는 카드 ID)
@@ -40,10 +47,9 @@ public class ActivityService {
      * @param actorId    수행 사용자 ID
      * @param message    활동 메시지
      * @param payload    추가 데이터 (JSON)
-     * @return 저장된 ActivityResponse
      */
-    @Transactional
-    public ActivityResponse recordActivity(
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordActivity(
         ActivityScopeType scopeType,
         Long scopeId,
         ActivityEventType eventType,
@@ -51,35 +57,68 @@ public class ActivityService {
         String message,
         String payload
     ) {
-        User actor = userRepository.findById(actorId)
-            .orElseThrow(() -> new IllegalArgumentException("User not found: " + actorId));
-
-        Activity activity = Activity.builder()
-            .scopeType(scopeType)
-            .scopeId(scopeId)
-            .eventType(eventType)
-            .actor(actor)
-            .message(message)
-            .payload(payload)
-            .build();
-
-        Activity savedActivity = activityRepository.save(activity);
-        log.info("Activity recorded - Type: {}, Scope: {}, Actor: {}", eventType, scopeType, actorId);
-        return ActivityResponse.from(savedActivity);
+        Long boardId = scopeType == ActivityScopeType.BOARD ? scopeId : null;
+        submit(scopeType, scopeId, boardId, eventType, actorId, message, payload);
     }
 
     /**
      * 활동 로그 기록 (payload 없음)
      */
-    @Transactional
-    public ActivityResponse recordActivity(
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordActivity(
         ActivityScopeType scopeType,
         Long scopeId,
         ActivityEventType eventType,
         Long actorId,
         String message
     ) {
-        return recordActivity(scopeType, scopeId, eventType, actorId, message, null);
+        recordActivity(scopeType, scopeId, eventType, actorId, message, null);
+    }
+
+    /**
+     * 카드 활동 로그 기록 (보드 활동 피드에 노출될 보드 ID 포함)
+     *
+     * @param boardId    카드가 속한 보드 ID
+     * @param cardId     카드 ID
+     * @param eventType  이벤트 타입
+     * @param actorId    수행 사용자 ID
+     * @param message    활동 메시지
+     * @param payload    추가 데이터 (JSON)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordCardActivity(
+        Long boardId,
+        Long cardId,
+        ActivityEventType eventType,
+        Long actorId,
+        String message,
+        String payload
+    ) {
+        submit(ActivityScopeType.CARD, cardId, boardId, eventType, actorId, message, payload);
+    }
+
+    /**
+     * 카드 활동 로그 기록 (payload 없음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordCardActivity(
+        Long boardId,
+        Long cardId,
+        ActivityEventType eventType,
+        Long actorId,
+        String message
+    ) {
+        recordCardActivity(boardId, cardId, eventType, actorId, message, null);
+    }
+
+    private void submit(ActivityScopeType scopeType, Long scopeId, Long boardId,
+                        ActivityEventType eventType, Long actorId, String message, String payload) {
+        if (actorId == null) {
+            throw new IllegalArgumentException("Actor is required for activity: " + eventType);
+        }
+        activityWriter.submit(new ActivityRecord(scopeType, scopeId, boardId, eventType, actorId,
+            message, payload, LocalDateTime.now()));
+        log.debug("Activity submitted - Type: {}, Scope: {}, Actor: {}", eventType, scopeType, actorId);
     }
 
     /**
@@ -127,15 +166,29 @@ public class ActivityService {
     }
 
     /**
-     * 특정 보드의 모든 활동 조회 (보드 및 하위 카드의 활동 포함)
+     * 특정 보드의 모든 활동 조회 (보드 및 하위 카드의 활동 포함, keyset 페이지네이션)
+     * 깊은 페이지도 (board_id, created_at, id) 인덱스에서 커서 위치부터 size + 1건만 읽는다.
      *
-     * @param boardId  보드 ID
-     * @param pageable 페이지네이션 정보
+     * @param boardId 보드 ID
+     * @param cursor  이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size    페이지 크기
      * @return 활동 로그 페이지
      */
-    public Page<ActivityResponse> getBoardActivities(Long boardId, Pageable pageable) {
-        return activityRepository.findAllBoardActivities(boardId, pageable)
-                .map(ActivityResponse::from);
+    public ActivityPageResponse getBoardActivities(Long boardId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Activity> rows = after == null
+            ? activityRepository.findBoardActivityPage(boardId, limit)
+            : activityRepository.findBoardActivityPageAfter(boardId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<Activity> page = hasNext ? rows.subList(0, size) : rows;
+        Activity last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null;
+        return ActivityPageResponse.builder()
+            .content(page.stream().map(ActivityResponse::from).toList())
+            .nextCursor(nextCursor).hasNext(hasNext).size(size)
+            .build();
     }
 
     /**
@@ -156,10 +209,11 @@ public class ActivityService {
      *
      * @param boardId     보드 ID
      * @param currentUserId 현재 사용자 ID
-     * @param pageable    페이지네이션 정보
+     * @param cursor      이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size        페이지 크기
      * @return 활동 로그 페이지
      */
-    public Page<ActivityResponse> getBoardActivitiesWithValidation(Long boardId, Long currentUserId, Pageable pageable) {
+    public ActivityPageResponse getBoardActivitiesWithValidation(Long boardId, Long currentUserId, String cursor, int size) {
         if (currentUserId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증 정보가 없습니다");
         }
@@ -177,6 +231,6 @@ public class ActivityService {
             }
         }
 
-        return getBoardActivities(boardId, pageable);
+        return getBoardActivities(boardId, cursor, size);
     }
 }
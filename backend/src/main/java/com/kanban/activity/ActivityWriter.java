@@ -0,0 +1,71 @@
+package com.kanban.activity;
+
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import com.kanban.common.AsyncBatchWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 활동 로그 비동기 배치 기록기
+ * 커밋된 활동을 모아 다중 행 INSERT로 반영한다 (큐/재시도/back-pressure 동작은 AsyncBatchWriter 참고).
+ * 삭제된 사용자 등 무결성 위반 행은 건별 재시도 후 버린다.
+ *
+ * 메트릭: activity.writer.*
+ */
+@Component
+public class ActivityWriter extends AsyncBatchWriter<ActivityRecord> {
+
+    private static final String INSERT_PREFIX = "INSERT INTO activities "
+            + "(scope_type, scope_id, board_id, event_type, actor_id, message, payload, created_at, updated_at) VALUES ";
+    // board_id를 모르는 카드 활동은 INSERT 시점에 카드가 속한 보드로 채움
+    private static final String ROW_PLACEHOLDER = "(?, ?, COALESCE(CAST(? AS BIGINT), (SELECT col.board_id FROM card c "
+            + "JOIN columns col ON col.id = c.column_id WHERE c.id = CAST(? AS BIGINT))), ?, ?, ?, ?, ?, ?)";
+    private static final int PARAMS_PER_ROW = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${activity.writer.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${activity.writer.batch-size:500}") int batchSize,
+            @Value("${activity.writer.queue-capacity:10000}") int queueCapacity) {
+        super("activity.writer", transactionManager, meterRegistry, flushIntervalMs, batchSize,
+                queueCapacity);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    protected void write(List<ActivityRecord> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * PARAMS_PER_ROW];
+        int index = 0;
+        for (ActivityRecord row : batch) {
+            if (index > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            Timestamp occurredAt = Timestamp.valueOf(row.occurredAt());
+            args[index++] = row.scopeType().name();
+            args[index++] = row.scopeId();
+            args[index++] = row.boardId();
+            args[index++] = row.scopeType() == ActivityScopeType.CARD ? row.scopeId() : null;
+            args[index++] = row.eventType().name();
+            args[index++] = row.actorId();
+            args[index++] = row.message();
+            args[index++] = row.payload();
+            args[index++] = occurredAt;
+            args[index++] = occurredAt;
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    @Override
+    protected String describe(ActivityRecord record) {
+        return "Type: " + record.eventType() + ", Scope: " + record.scopeType() + " " + record.scopeId()
+                + ", Actor: " + record.actorId();
+    }
+}
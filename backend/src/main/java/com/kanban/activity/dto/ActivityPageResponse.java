@@ -0,0 +1,28 @@
+package com.kanban.activity.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 활동 로그 페이지 응답 DTO (keyset 페이지네이션)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityPageResponse {
+
+    private List<ActivityResponse> content;
+
+    /**
+     * 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private int size;
+}
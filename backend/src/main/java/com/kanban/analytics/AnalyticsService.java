@@ -4,13 +4,13 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.kanban.analytics.dto.BurndownDataPoint;
 import com.kanban.analytics.dto.CycleTimeData;
-import com.kanban.card.Card;
 import com.kanban.card.CardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,37 +23,39 @@ public class AnalyticsService {
 
     private final CardRepository cardRepository;
 
+    /**
+     * 번다운 차트 (일자별 남은 카드 수)
+     * 카드 엔터티를 불러오지 않고 생성일/종료일(완료 또는 아카이브)별 개수만 조회한 뒤,
+     * 날짜 순으로 누적하여 각 날짜가 끝난 시점의 남은 카드 수를 계산한다.
+     */
     public List<BurndownDataPoint> getBurndownChart(Long boardId, int days) {
-        List<Card> allCards = cardRepository.findByBoardId(boardId);
-        log.info("Found {} cards for board {}", allCards.size(), boardId);
-        LocalDate today = LocalDate.now();
+        return burndown(cardRepository.countCreatedByDay(boardId),
+                cardRepository.countClosedByDay(boardId), LocalDate.now(), days);
+    }
+
+    /**
+     * 일자별 생성/종료 카드 수([날짜, 개수] 행)를 날짜 순으로 누적하여 today 기준 최근 days일의 잔량 계산
+     */
+    static List<BurndownDataPoint> burndown(List<Object[]> createdByDay,
+            List<Object[]> closedByDay, LocalDate today, int days) {
+        NavigableMap<LocalDate, Long> deltas = new TreeMap<>();
+        for (Object[] row : createdByDay) {
+            deltas.merge((LocalDate) row[0], (Long) row[1], Long::sum);
+        }
+        for (Object[] row : closedByDay) {
+            deltas.merge((LocalDate) row[0], -((Long) row[1]), Long::sum);
+        }
+
         LocalDate startDate = today.minusDays(days);
 
-        List<BurndownDataPoint> points = new ArrayList<>();
+        // 조회 구간 이전의 변화량은 시작 잔량으로 합산
+        long remaining = deltas.headMap(startDate, false).values().stream()
+                .mapToLong(Long::longValue).sum();
 
+        List<BurndownDataPoint> points = new ArrayList<>(days + 1);
         for (int i = 0; i <= days; i++) {
             LocalDate date = startDate.plusDays(i);
-            LocalDateTime endOfDay = date.atTime(23, 59, 59);
-
-            long remaining = allCards.stream()
-                    .filter(c -> c.getCreatedAt() != null && c.getCreatedAt().isBefore(endOfDay)) // Created
-                                                                                                  // before
-                                                                                                  // this
-                                                                                                  // day
-                    .filter(c -> c.getCompletedAt() == null || c.getCompletedAt().isAfter(endOfDay)) // Not
-                                                                                                     // completed
-                                                                                                     // yet
-                                                                                                     // or
-                                                                                                     // completed
-                                                                                                     // after
-                    .filter(c -> !Boolean.TRUE.equals(c.getIsArchived())
-                            || (c.getArchivedAt() != null && c.getArchivedAt().isAfter(endOfDay))) // Not
-                                                                                                   // archived
-                                                                                                   // or
-                                                                                                   // archived
-                                                                                                   // after
-                    .count();
-
+            remaining += deltas.getOrDefault(date, 0L);
             points.add(BurndownDataPoint.builder().date(date).remainingTasks(remaining)
                     .idealTasks(null) // Can be calculated if we have a sprint concept
                     .build());
@@ -62,22 +64,21 @@ public class AnalyticsService {
         return points;
     }
 
+    /**
+     * 사이클 타임 (시작~완료 소요 일수, 완료 시각 순)
+     */
     public List<CycleTimeData> getCycleTime(Long boardId) {
-        List<Card> completedCards = cardRepository.findByBoardIdAndIsCompletedTrue(boardId);
-
-        return completedCards.stream()
-                .filter(c -> c.getStartedAt() != null && c.getCompletedAt() != null).map(c -> {
-                    Duration duration = Duration.between(c.getStartedAt(), c.getCompletedAt());
-                    double days = duration.toMinutes() / (24.0 * 60.0);
-                    return CycleTimeData.builder().cardId(c.getId()).title(c.getTitle())
-                            .cycleTimeDays(Math.round(days * 100.0) / 100.0)
-                            .completedAt(c.getCompletedAt()).build();
-                }).sorted(Comparator.comparing(CycleTimeData::getCompletedAt))
-                .toList();
+        return cardRepository.findCycleTimesByBoardId(boardId).stream().map(row -> {
+            LocalDateTime startedAt = (LocalDateTime) row[2];
+            LocalDateTime completedAt = (LocalDateTime) row[3];
+            double days = Duration.between(startedAt, completedAt).toMinutes() / (24.0 * 60.0);
+            return CycleTimeData.builder().cardId((Long) row[0]).title((String) row[1])
+                    .cycleTimeDays(Math.round(days * 100.0) / 100.0)
+                    .completedAt(completedAt).build();
+        }).toList();
     }
 
     public Long getCompletedTasksCount(Long boardId) {
-        List<Card> completedCards = cardRepository.findByBoardIdAndIsCompletedTrue(boardId);
-        return completedCards.stream().filter(c -> !Boolean.TRUE.equals(c.getIsArchived())).count();
+        return cardRepository.countCompletedActiveByBoardId(boardId);
     }
 }
@@ -6,46 +6,48 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.context.ApplicationContext;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
+import com.kanban.board.Board;
+import com.kanban.card.Card;
+import com.kanban.column.BoardColumn;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * @Auditable 메서드 감사 로그 수집
+ * 서비스 트랜잭션 안에서 실행되어, 변경 전/후 상태를 같은 영속성 컨텍스트의 엔터티에서 스냅샷으로 떠 비교한다.
+ * (트랜잭션 advisor가 바깥에 오도록 순서를 JpaConfig.TRANSACTION_ADVISOR_ORDER보다 뒤로 둔다)
+ * 변경 전 조회는 서비스가 이어서 같은 엔터티를 조회할 때 1차 캐시로 재사용되고, 변경 후 상태는 추가 조회 없이 읽는다.
+ * 감사 로그는 커밋 이후 AuditLogWriter가 배치로 기록한다.
+ */
 @Aspect
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE)
 @RequiredArgsConstructor
 @Slf4j
 public class AuditLogAspect {
 
-    private final AuditLogRepository auditLogRepository;
+    private static final int MAX_USER_AGENT_LENGTH = 255;
+
+    private final AuditLogWriter auditLogWriter;
     private final AuditContext auditContext;
     private final EntityDiffCalculator entityDiffCalculator;
-    private final ApplicationContext applicationContext;
-    private final com.fasterxml.jackson.databind.ObjectMapper objectMapper =
-            new com.fasterxml.jackson.databind.ObjectMapper()
-                    .registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule())
-                    .configure(
-                            com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
-                            false)
-                    .configure(
-                            com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_BEANS,
-                            false)
-                    .configure(
-                            com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                            false);
+    private final EntityManager entityManager;
     private final ExpressionParser parser = new SpelExpressionParser();
 
     @Around("@annotation(auditable)")
     public Object audit(ProceedingJoinPoint joinPoint, Auditable auditable) throws Throwable {
-        log.info("========== AUDIT ASPECT TRIGGERED: action={}, targetType={}, method={}",
-                auditable.action(), auditable.targetType(), joinPoint.getSignature().getName());
+        log.debug("AUDIT: action={}, targetType={}, method={}", auditable.action(),
+                auditable.targetType(), joinPoint.getSignature().getName());
 
         String targetId = resolveTargetId(joinPoint, auditable.targetId());
-        Object oldState = captureOldState(auditable, targetId);
+        EntitySnapshot oldState = captureOldState(auditable, targetId);
         Object result = joinPoint.proceed();
         StateCapture newStateCapture = captureNewState(auditable, result, targetId);
         saveAuditLog(auditable, newStateCapture.targetId(), oldState, newStateCapture.state());
@@ -53,28 +55,18 @@ public class AuditLogAspect {
         return result;
     }
 
-    private Object captureOldState(Auditable auditable, String targetId) {
+    private EntitySnapshot captureOldState(Auditable auditable, String targetId) {
         if (auditable.action() != AuditAction.UPDATE && auditable.action() != AuditAction.DELETE) {
             return null;
         }
-        Object entity = fetchEntity(auditable.targetType(), targetId);
+        Object entity = findEntity(auditable.targetType(), targetId);
         if (entity == null) {
             log.warn("AUDIT: oldState entity not found - targetType={}, targetId={}",
                     auditable.targetType(), targetId);
             return null;
         }
-        try {
-            log.info("AUDIT: Cloning oldState entity - type={}, id={}",
-                    entity.getClass().getSimpleName(), targetId);
-            String json = objectMapper.writeValueAsString(entity);
-            Object cloned = objectMapper.readValue(json, entity.getClass());
-            log.info("AUDIT: Successfully cloned oldState");
-            return cloned;
-        } catch (Exception e) {
-            log.error("AUDIT: CRITICAL - Failed to clone entity for audit! type={}, id={}",
-                    entity.getClass().getSimpleName(), targetId, e);
-            return entity;
-        }
+        // 서비스가 엔터티를 수정하기 전에 필드 값을 복사
+        return EntitySnapshot.of(entity);
     }
 
     private StateCapture captureNewState(Auditable auditable, Object result, String targetId) {
@@ -84,41 +76,37 @@ public class AuditLogAspect {
         if (auditable.action() == AuditAction.CREATE) {
             String newId = extractId(result);
             String effectiveId = newId != null ? newId : targetId;
-            Object fetched = newId != null ? fetchEntity(auditable.targetType(), newId) : null;
-            Object state = fetched != null ? fetched : result;
-            return new StateCapture(effectiveId, state);
+            Object created = newId != null ? findEntity(auditable.targetType(), newId) : null;
+            return new StateCapture(effectiveId, EntitySnapshot.of(created != null ? created : result));
         }
-        return new StateCapture(targetId, fetchEntity(auditable.targetType(), targetId));
+        return new StateCapture(targetId,
+                EntitySnapshot.of(findEntity(auditable.targetType(), targetId)));
     }
 
-    private void saveAuditLog(Auditable auditable, String targetId, Object oldState,
-            Object newState) {
+    private void saveAuditLog(Auditable auditable, String targetId, EntitySnapshot oldState,
+            EntitySnapshot newState) {
         try {
-            log.info("AUDIT: Calculating diff - oldState={}, newState={}",
-                    oldState != null ? oldState.getClass().getSimpleName() : "null",
-                    newState != null ? newState.getClass().getSimpleName() : "null");
-
             String changes = entityDiffCalculator.calculateDiff(oldState, newState);
-
-            log.info("AUDIT: Diff result - changes={}", changes != null ? "PRESENT" : "NULL");
-
-            if (changes != null || auditable.action() == AuditAction.DELETE) {
-                AuditLog auditLog = AuditLog.builder().action(auditable.action())
-                        .targetType(auditable.targetType()).targetId(targetId)
-                        .actorId(auditContext.getCurrentUserId() != null
-                                ? auditContext.getCurrentUserId()
-                                : 0L)
-                        .ipAddress(auditContext.getIpAddress())
-                        .userAgent(auditContext.getUserAgent()).changes(changes)
-                        .createdAt(LocalDateTime.now()).build();
-
-                auditLogRepository.save(auditLog);
-                log.info("AUDIT: Log saved successfully - id={}", auditLog.getId());
-            } else {
-                log.warn("AUDIT: Skipping save - no changes detected");
+            if (changes == null && auditable.action() != AuditAction.DELETE) {
+                log.debug("AUDIT: Skipping save - no changes detected");
+                return;
+            }
+            if (targetId == null) {
+                log.warn("AUDIT: Skipping save - target id unresolved, targetType={}, action={}",
+                        auditable.targetType(), auditable.action());
+                return;
             }
+
+            Long actorId = auditContext.getCurrentUserId();
+            AuditLog auditLog = AuditLog.builder().action(auditable.action())
+                    .targetType(auditable.targetType()).targetId(targetId)
+                    .actorId(actorId != null ? actorId : 0L)
+                    .ipAddress(auditContext.getIpAddress())
+                    .userAgent(truncate(auditContext.getUserAgent())).changes(changes)
+                    .createdAt(LocalDateTime.now()).build();
+            auditLogWriter.submit(auditLog);
         } catch (Exception e) {
-            log.error("AUDIT: Failed to save audit log - targetType={}, targetId={}, action={}",
+            log.error("AUDIT: Failed to record audit log - targetType={}, targetId={}, action={}",
                     auditable.targetType(), targetId, auditable.action(), e);
         }
     }
@@ -145,25 +133,25 @@ public class AuditLogAspect {
         }
     }
 
-    private Object fetchEntity(AuditTargetType type, String id) {
+    /**
+     * 영속성 컨텍스트에서 엔터티 조회 (이미 로드된 엔터티면 DB 조회 없음)
+     */
+    private Object findEntity(AuditTargetType type, String id) {
         if (id == null)
             return null;
         try {
-            Long entityId = Long.parseLong(id);
-            CrudRepository<?, Long> repository = getRepository(type);
-            return repository.findById(entityId).orElse(null);
+            return entityManager.find(entityClass(type), Long.parseLong(id));
         } catch (Exception e) {
             log.warn("Failed to fetch entity for audit: {} {}", type, id);
             return null;
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private CrudRepository<?, Long> getRepository(AuditTargetType type) {
+    private Class<?> entityClass(AuditTargetType type) {
         return switch (type) {
-            case BOARD -> (CrudRepository<?, Long>) applicationContext.getBean("boardRepository");
-            case COLUMN -> (CrudRepository<?, Long>) applicationContext.getBean("columnRepository");
-            case CARD -> (CrudRepository<?, Long>) applicationContext.getBean("cardRepository");
+            case BOARD -> Board.class;
+            case COLUMN -> BoardColumn.class;
+            case CARD -> Card.class;
             case MEMBER -> throw new IllegalArgumentException("MEMBER audit not yet supported");
         };
     }
@@ -181,6 +169,12 @@ public class AuditLogAspect {
         }
     }
 
-    private record StateCapture(String targetId, Object state) {
+    private String truncate(String userAgent) {
+        return userAgent != null && userAgent.length() > MAX_USER_AGENT_LENGTH
+                ? userAgent.substring(0, MAX_USER_AGENT_LENGTH)
+                : userAgent;
+    }
+
+    private record StateCapture(String targetId, EntitySnapshot state) {
     }
 }
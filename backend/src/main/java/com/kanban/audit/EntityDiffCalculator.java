@@ -1,7 +1,6 @@
 package com.kanban.audit;
 
-import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import org.springframework.stereotype.Component;
@@ -10,10 +9,18 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 감사 로그 변경 내역(JSON diff) 계산기
+ * 두 스냅샷의 필드 값을 순서대로 비교하며, 필드 목록은 EntityFieldAccessors가 타입별로 한 번만 계산한다.
+ * 결과 형식: {"필드명": {"from": 이전 값, "to": 이후 값}} (생성은 to만, 삭제는 from만 기록)
+ */
 @Slf4j
 @Component
 public class EntityDiffCalculator {
 
+    private static final String FROM = "from";
+    private static final String TO = "to";
+
     private final ObjectMapper objectMapper;
 
     public EntityDiffCalculator() {
@@ -22,20 +29,36 @@ public class EntityDiffCalculator {
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
 
+    /**
+     * 엔터티 두 상태의 변경 내역 계산 (스냅샷을 만들어 비교)
+     */
     public String calculateDiff(Object oldState, Object newState) {
-        if (oldState == null && newState == null)
-            return null;
+        return calculateDiff(EntitySnapshot.of(oldState), EntitySnapshot.of(newState));
+    }
 
-        Map<String, Map<String, Object>> diff = new HashMap<>();
+    /**
+     * 스냅샷 두 개의 변경 내역 계산
+     *
+     * @return JSON diff (변경이 없으면 null)
+     */
+    String calculateDiff(EntitySnapshot oldState, EntitySnapshot newState) {
+        if (oldState == null && newState == null) {
+            return null;
+        }
+        if (oldState != null && newState != null && oldState.accessors() != newState.accessors()) {
+            log.warn("Cannot diff different types: {} vs {}", oldState.accessors().type(),
+                    newState.accessors().type());
+            return null;
+        }
 
+        Map<String, Map<String, Object>> diff = new LinkedHashMap<>();
         if (oldState == null) {
             // Created: Log all fields as new values
-            extractFields(newState, diff, "to");
+            extractFields(newState, diff, TO);
         } else if (newState == null) {
             // Deleted: Log all fields as old values
-            extractFields(oldState, diff, "from");
+            extractFields(oldState, diff, FROM);
         } else {
-            // Updated: Compare fields
             compareFields(oldState, newState, diff);
         }
 
@@ -51,71 +74,38 @@ public class EntityDiffCalculator {
         }
     }
 
-    @SuppressWarnings("java:S3011")
-    private void extractFields(Object obj, Map<String, Map<String, Object>> diff, String key) {
-        Class<?> clazz = obj.getClass();
-        while (clazz != null) {
-            for (Field field : clazz.getDeclaredFields()) {
-                field.setAccessible(true);
-                try {
-                    Object value = field.get(obj);
-                    if (shouldIncludeField(field)) {
-                        diff.computeIfAbsent(field.getName(), k -> new HashMap<>()).put(key,
-                                formatValue(value));
-                    }
-                } catch (IllegalAccessException e) {
-                    log.warn("Failed to access field: {}", field.getName());
-                }
-            }
-            clazz = clazz.getSuperclass();
+    private void extractFields(EntitySnapshot snapshot, Map<String, Map<String, Object>> diff,
+            String key) {
+        EntityFieldAccessors accessors = snapshot.accessors();
+        Object[] values = snapshot.values();
+        for (int i = 0; i < values.length; i++) {
+            Map<String, Object> change = new LinkedHashMap<>(2);
+            change.put(key, formatValue(accessors, i, values[i]));
+            diff.put(accessors.name(i), change);
         }
     }
 
-    @SuppressWarnings("java:S3011")
-    private void compareFields(Object oldObj, Object newObj,
+    private void compareFields(EntitySnapshot oldState, EntitySnapshot newState,
             Map<String, Map<String, Object>> diff) {
-        Class<?> clazz = oldObj.getClass();
-        while (clazz != null) {
-            for (Field field : clazz.getDeclaredFields()) {
-                field.setAccessible(true);
-                try {
-                    Object oldValue = field.get(oldObj);
-                    Object newValue = field.get(newObj);
-
-                    if (shouldIncludeField(field) && !Objects.equals(oldValue, newValue)) {
-                        Map<String, Object> change = new HashMap<>();
-                        change.put("from", formatValue(oldValue));
-                        change.put("to", formatValue(newValue));
-                        diff.put(field.getName(), change);
-                    }
-                } catch (IllegalAccessException e) {
-                    log.warn("Failed to compare field: {}", field.getName());
-                }
+        EntityFieldAccessors accessors = oldState.accessors();
+        Object[] oldValues = oldState.values();
+        Object[] newValues = newState.values();
+        for (int i = 0; i < oldValues.length; i++) {
+            if (!Objects.equals(oldValues[i], newValues[i])) {
+                Map<String, Object> change = new LinkedHashMap<>(2);
+                change.put(FROM, formatValue(accessors, i, oldValues[i]));
+                change.put(TO, formatValue(accessors, i, newValues[i]));
+                diff.put(accessors.name(i), change);
             }
-            clazz = clazz.getSuperclass();
         }
     }
 
-    private boolean shouldIncludeField(Field field) {
-        // Exclude static, transient, or specific fields like 'password'
-        return !java.lang.reflect.Modifier.isStatic(field.getModifiers())
-                && !java.lang.reflect.Modifier.isTransient(field.getModifiers())
-                && !field.getName().equals("password"); // Example exclusion
-    }
-
-    private Object formatValue(Object value) {
-        if (value == null)
-            return null;
-        // Handle specific types if needed, e.g., entities to IDs
-        // For simplicity, we rely on toString() or basic types for now
-        // If it's a complex object (Entity), maybe just log ID?
-        // Let's keep it simple: if it has getId(), use it.
-        try {
-            if (value.getClass().getMethod("getId") != null) {
-                return value.getClass().getMethod("getId").invoke(value);
-            }
-        } catch (Exception e) {
-            // ignore
+    /**
+     * 스냅샷 값 표현 (연관 엔터티 ID는 숫자 그대로, 나머지는 문자열)
+     */
+    private Object formatValue(EntityFieldAccessors accessors, int index, Object value) {
+        if (value == null || accessors.isAssociation(index)) {
+            return value;
         }
         return value.toString();
     }
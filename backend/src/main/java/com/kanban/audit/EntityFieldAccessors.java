@@ -0,0 +1,154 @@
+package com.kanban.audit;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Transient;
+
+/**
+ * 감사 대상 타입별 필드 접근자 (클래스당 한 번만 계산해 재사용)
+ * 감사 대상 필드를 선별하고 MethodHandle 게터를 미리 만들어 두어, 스냅샷마다 리플렉션 탐색/setAccessible을 하지 않는다.
+ *
+ * 컬렉션 연관(@OneToMany 등)은 제외하고, 단일 연관(@ManyToOne/@OneToOne)은 지연 로딩 없이 대상 ID만 기록한다.
+ */
+final class EntityFieldAccessors {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final String EXCLUDED_FIELD = "password";
+
+    private static final ClassValue<EntityFieldAccessors> CACHE = new ClassValue<>() {
+        @Override
+        protected EntityFieldAccessors computeValue(Class<?> type) {
+            return new EntityFieldAccessors(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final String[] names;
+    private final MethodHandle[] getters;
+    private final boolean[] associations;
+    private final MethodHandle idGetter;
+
+    private EntityFieldAccessors(Class<?> type) {
+        this.type = type;
+        List<String> fieldNames = new ArrayList<>();
+        List<MethodHandle> fieldGetters = new ArrayList<>();
+        List<Boolean> associationFlags = new ArrayList<>();
+        MethodHandle id = null;
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class) && id == null) {
+                    id = getter(clazz, field);
+                }
+                if (!isAudited(field)) {
+                    continue;
+                }
+                fieldNames.add(field.getName());
+                fieldGetters.add(getter(clazz, field));
+                associationFlags.add(field.isAnnotationPresent(ManyToOne.class)
+                        || field.isAnnotationPresent(OneToOne.class));
+            }
+        }
+        this.names = fieldNames.toArray(String[]::new);
+        this.getters = fieldGetters.toArray(MethodHandle[]::new);
+        this.associations = new boolean[associationFlags.size()];
+        for (int i = 0; i < associations.length; i++) {
+            associations[i] = associationFlags.get(i);
+        }
+        this.idGetter = id;
+    }
+
+    /**
+     * 엔터티(또는 DTO) 타입의 접근자 조회 (Hibernate 프록시는 실제 클래스 기준)
+     */
+    static EntityFieldAccessors of(Object target) {
+        return CACHE.get(Hibernate.getClass(target));
+    }
+
+    /**
+     * 현재 필드 값을 스냅샷으로 복사 (연관 엔터티는 ID로 대체)
+     */
+    EntitySnapshot snapshot(Object target) {
+        Object entity = Hibernate.unproxy(target);
+        Object[] values = new Object[getters.length];
+        for (int i = 0; i < getters.length; i++) {
+            Object value = read(getters[i], entity);
+            values[i] = associations[i] ? identifierOf(value) : value;
+        }
+        return new EntitySnapshot(this, values);
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String name(int index) {
+        return names[index];
+    }
+
+    boolean isAssociation(int index) {
+        return associations[index];
+    }
+
+    private static Object identifierOf(Object associated) {
+        if (associated == null) {
+            return null;
+        }
+        if (associated instanceof HibernateProxy proxy) {
+            // 프록시를 초기화하지 않고 식별자만 사용
+            return proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        MethodHandle associatedId = CACHE.get(associated.getClass()).idGetter;
+        return associatedId != null ? read(associatedId, associated) : associated.toString();
+    }
+
+    private static boolean isAudited(Field field) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+                || field.isAnnotationPresent(Transient.class)
+                || field.isAnnotationPresent(OneToMany.class)
+                || field.isAnnotationPresent(ManyToMany.class)
+                || field.isAnnotationPresent(ElementCollection.class)) {
+            return false;
+        }
+        return !Collection.class.isAssignableFrom(field.getType())
+                && !Map.class.isAssignableFrom(field.getType())
+                && !field.getName().equals(EXCLUDED_FIELD);
+    }
+
+    private static MethodHandle getter(Class<?> declaringClass, Field field) {
+        try {
+            MethodHandles.Lookup lookup =
+                    MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access audited field: " + field, e);
+        }
+    }
+
+    private static Object read(MethodHandle getter, Object target) {
+        try {
+            return getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to read audited field", e);
+        }
+    }
+}
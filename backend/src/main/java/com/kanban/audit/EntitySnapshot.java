@@ -0,0 +1,12 @@
+package com.kanban.audit;
+
+/**
+ * 감사 대상 엔터티의 특정 시점 필드 값 (EntityFieldAccessors의 필드 순서를 따름)
+ * 값은 엔터티 필드 참조를 복사한 것이며, 연관 엔터티는 ID로 대체되어 있다.
+ */
+record EntitySnapshot(EntityFieldAccessors accessors, Object[] values) {
+
+    static EntitySnapshot of(Object entity) {
+        return entity == null ? null : EntityFieldAccessors.of(entity).snapshot(entity);
+    }
+}
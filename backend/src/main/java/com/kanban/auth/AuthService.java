@@ -16,6 +16,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 import com.kanban.auth.config.JwtProperties;
 import com.kanban.auth.dto.*;
+import com.kanban.auth.security.AuthenticatedUserCache;
 import com.kanban.auth.token.JwtTokenProvider;
 import com.kanban.exception.InvalidTokenException;
 import com.kanban.exception.TokenExpiredException;
@@ -41,6 +42,7 @@ public class AuthService {
         private final UserWorkspaceService userWorkspaceService;
         private final PasswordEncoder passwordEncoder;
         private final JwtTokenProvider tokenProvider;
+        private final AuthenticatedUserCache authenticatedUserCache;
         private final JwtProperties jwtProperties;
         private final EmailUtil emailUtil;
         private final EmailTemplateUtil emailTemplateUtil;
@@ -159,7 +161,10 @@ public class AuthService {
         public ResponseEntity<Void> logout(String refreshTokenValue) {
                 if (StringUtils.hasText(refreshTokenValue)) {
                         authTokenRepository.findByTokenAndRevokedFalse(refreshTokenValue)
-                                        .ifPresent(token -> token.setRevoked(true));
+                                        .ifPresent(token -> {
+                                                token.setRevoked(true);
+                                                authenticatedUserCache.evict(token.getUser().getId());
+                                        });
                 }
                 ResponseCookie expiredCookie = buildRefreshCookie("", true);
                 return ResponseEntity.noContent()
@@ -270,6 +275,8 @@ public class AuthService {
                 user.setVerificationTokenExpiry(null);
 
                 userRepository.save(user);
+                // 캐시된 인증 주체의 상태(PENDING)를 커밋 이후 제거
+                authenticatedUserCache.evict(user.getId());
                 log.info("💾 [verifyEmail] 사용자 정보 저장 완료 - userId: {}", user.getId());
 
                 // 사용자가 소속된 workspace가 없으면 default workspace 생성
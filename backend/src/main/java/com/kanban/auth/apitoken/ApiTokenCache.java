@@ -0,0 +1,143 @@
+package com.kanban.auth.apitoken;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검증된 API 토큰 캐시 (토큰 해시 → ApiTokenPrincipal)
+ * 엔트리 만료는 기본 TTL과 토큰의 expiresAt 중 빠른 시점이며, 폐기/만료된 토큰은 캐시하지 않는다.
+ *
+ * 토큰 폐기 시 커밋 이후 해당 토큰 ID의 엔트리를 제거하고 Redis 채널로 다른 인스턴스에 전파한다.
+ * 적중/미스 통계는 cache.gets{cache=apiTokens} 메트릭으로 Actuator에 노출된다.
+ */
+@Component
+@Slf4j
+public class ApiTokenCache implements MessageListener {
+
+    public static final String INVALIDATION_TOPIC = "api-token-invalidations";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, VerifiedToken> cache;
+
+    public ApiTokenCache(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+            @Value("${security.api-token.cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.api-token.cache.ttl:PT10M}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(ttl)).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "apiTokens");
+    }
+
+    /**
+     * 해시로 검증된 토큰 조회, 캐시 미스 시 loader로 DB 검증 (유효하지 않으면 null)
+     */
+    @Nullable
+    public ApiTokenPrincipal get(String tokenHash, LocalDateTime now,
+            Function<String, VerifiedToken> loader) {
+        VerifiedToken verified = cache.get(tokenHash, loader);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpiredAt(now)) {
+            cache.invalidate(tokenHash);
+            return null;
+        }
+        return verified.principal();
+    }
+
+    /**
+     * 토큰 폐기 반영 (트랜잭션 안이면 커밋 이후 제거 후 전파)
+     */
+    public void evict(Long tokenId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(tokenId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(tokenId);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 토큰 폐기 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        try {
+            evictLocally(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed API token invalidation message");
+        }
+    }
+
+    private void broadcast(Long tokenId) {
+        evictLocally(tokenId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_TOPIC, String.valueOf(tokenId));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast API token invalidation for token {}", tokenId, e);
+        }
+    }
+
+    private void evictLocally(long tokenId) {
+        cache.asMap().values()
+                .removeIf(verified -> verified.principal().tokenId().equals(tokenId));
+    }
+
+    /**
+     * 검증이 끝난 토큰 (expiresAt이 null이면 만료 없음)
+     */
+    public record VerifiedToken(ApiTokenPrincipal principal, @Nullable LocalDateTime expiresAt) {
+
+        boolean isExpiredAt(LocalDateTime now) {
+            return expiresAt != null && !expiresAt.isAfter(now);
+        }
+    }
+
+    /**
+     * 기본 TTL과 토큰 만료 시각 중 빠른 시점에 엔트리 만료
+     */
+    private record TokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long ttlNanos = ttl.toNanos();
+            if (value.expiresAt() == null) {
+                return ttlNanos;
+            }
+            long untilExpiry = Duration.between(LocalDateTime.now(), value.expiresAt()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
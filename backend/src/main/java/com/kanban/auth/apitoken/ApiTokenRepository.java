@@ -1,8 +1,12 @@
 package com.kanban.auth.apitoken;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ApiTokenRepository extends JpaRepository<ApiToken, Long> {
     Optional<ApiToken> findByTokenHash(String tokenHash);
@@ -10,4 +14,12 @@ public interface ApiTokenRepository extends JpaRepository<ApiToken, Long> {
     Optional<ApiToken> findByIdAndOwnerUserId(Long id, Long ownerUserId);
 
     List<ApiToken> findByOwnerUserIdOrderByCreatedAtDesc(Long ownerUserId);
+
+    /**
+     * 마지막 사용 시각 갱신 (이미 더 최근 값이면 유지)
+     */
+    @Modifying
+    @Query("UPDATE ApiToken t SET t.lastUsedAt = :usedAt "
+            + "WHERE t.id = :id AND (t.lastUsedAt IS NULL OR t.lastUsedAt < :usedAt)")
+    int updateLastUsedAt(@Param("id") Long id, @Param("usedAt") LocalDateTime usedAt);
 }
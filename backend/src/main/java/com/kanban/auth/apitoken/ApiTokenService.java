@@ -19,6 +19,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
@@ -35,17 +36,22 @@ public class ApiTokenService {
     private final BoardMemberRoleValidator roleValidator;
     private final ApiTokenHasher apiTokenHasher;
     private final ApiTokenProperties properties;
+    private final ApiTokenCache apiTokenCache;
+    private final ApiTokenUsageRecorder usageRecorder;
     private final SecureRandom secureRandom = new SecureRandom();
 
     public ApiTokenService(ApiTokenRepository apiTokenRepository, BoardRepository boardRepository,
             UserRepository userRepository, BoardMemberRoleValidator roleValidator,
-            ApiTokenHasher apiTokenHasher, ApiTokenProperties properties) {
+            ApiTokenHasher apiTokenHasher, ApiTokenProperties properties,
+            ApiTokenCache apiTokenCache, ApiTokenUsageRecorder usageRecorder) {
         this.apiTokenRepository = apiTokenRepository;
         this.boardRepository = boardRepository;
         this.userRepository = userRepository;
         this.roleValidator = roleValidator;
         this.apiTokenHasher = apiTokenHasher;
         this.properties = properties;
+        this.apiTokenCache = apiTokenCache;
+        this.usageRecorder = usageRecorder;
     }
 
     public CreateApiTokenResponse createToken(Long userId, CreateApiTokenRequest request) {
@@ -101,20 +107,33 @@ public class ApiTokenService {
         if (token.getRevokedAt() == null) {
             token.setRevokedAt(LocalDateTime.now());
         }
+        apiTokenCache.evict(token.getId());
     }
 
+    /**
+     * API 토큰 인증
+     * 검증 결과는 ApiTokenCache에 보관하여 캐시 적중 시 DB를 조회하지 않으며,
+     * lastUsedAt은 ApiTokenUsageRecorder가 주기적으로 모아서 반영한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<ApiTokenPrincipal> authenticate(String tokenValue, LocalDateTime now) {
         String tokenHash = apiTokenHasher.hash(tokenValue);
-        return apiTokenRepository.findByTokenHash(tokenHash)
-                .filter(token -> token.getRevokedAt() == null)
-                .filter(token -> token.getExpiresAt() == null || token.getExpiresAt().isAfter(now))
-                .map(token -> {
-                    token.setLastUsedAt(now);
-                    ApiTokenPrincipal principal = new ApiTokenPrincipal(token.getOwnerUser().getId(),
-                            token.getId(), token.getBoard().getId(), token.getRole(),
-                            token.getScopeSet());
-                    return principal;
-                });
+        ApiTokenPrincipal principal = apiTokenCache.get(tokenHash, now,
+                hash -> apiTokenRepository.findByTokenHash(hash)
+                        .filter(token -> token.getRevokedAt() == null)
+                        .filter(token -> token.getExpiresAt() == null
+                                || token.getExpiresAt().isAfter(now))
+                        .map(token -> new ApiTokenCache.VerifiedToken(
+                                new ApiTokenPrincipal(token.getOwnerUser().getId(), token.getId(),
+                                        token.getBoard().getId(), token.getRole(),
+                                        Set.copyOf(token.getScopeSet())),
+                                token.getExpiresAt()))
+                        .orElse(null));
+        if (principal == null) {
+            return Optional.empty();
+        }
+        usageRecorder.record(principal.tokenId(), now);
+        return Optional.of(principal);
     }
 
     private void validateCreateRequest(CreateApiTokenRequest request) {
@@ -0,0 +1,94 @@
+package com.kanban.auth.apitoken;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 토큰 마지막 사용 시각(lastUsedAt) 기록기
+ * 요청마다 DB에 쓰지 않고 토큰별 최신 사용 시각만 메모리에 모아 flush-interval마다 한 트랜잭션으로 반영한다.
+ * 종료 시 남은 기록을 반영하며, 비정상 종료 시 최대 한 주기의 사용 시각이 유실될 수 있다.
+ */
+@Component
+@Slf4j
+public class ApiTokenUsageRecorder {
+
+    private final ApiTokenRepository apiTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "api-token-usage-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public ApiTokenUsageRecorder(ApiTokenRepository apiTokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${security.api-token.usage-flush-interval-seconds:60}")
+            long flushIntervalSeconds) {
+        this.apiTokenRepository = apiTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalSeconds,
+                flushIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 토큰 사용 기록 (메모리에만 반영)
+     */
+    public void record(Long tokenId, LocalDateTime usedAt) {
+        pending.merge(tokenId, usedAt, (previous, next) -> next.isAfter(previous) ? next : previous);
+    }
+
+    /**
+     * 모인 사용 시각을 DB에 반영
+     *
+     * @return 갱신 대상 토큰 수
+     */
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long tokenId : pending.keySet()) {
+            LocalDateTime usedAt = pending.remove(tokenId);
+            if (usedAt != null) {
+                batch.put(tokenId, usedAt);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(
+                    (tokenId, usedAt) -> apiTokenRepository.updateLastUsedAt(tokenId, usedAt)));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영
+            batch.forEach(this::record);
+            throw e;
+        }
+        log.debug("Flushed lastUsedAt for {} API tokens", batch.size());
+        return batch.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flushSafely();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Failed to flush API token usage", e);
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     private final JwtProperties jwtProperties;
     private final UserWorkspaceService userWorkspaceService;
     private final com.kanban.user.AvatarDownloadService avatarDownloadService;
+    private final com.kanban.auth.security.AuthenticatedUserCache authenticatedUserCache;
 
     @Value("${app.oauth2.redirect-uri:http://localhost:3000/oauth2/callback}")
     private String redirectUri;
@@ -239,6 +240,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
             }
         }
 
+        authenticatedUserCache.evict(user.getId());
         log.debug("Profile synced for user: {}", user.getEmail());
     }
 
@@ -0,0 +1,65 @@
+package com.kanban.auth.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kanban.user.User;
+import com.kanban.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * JWT 인증 주체(User) 캐시
+ * JwtAuthenticationFilter가 요청마다 사용자를 조회하지 않도록 짧은 TTL 동안 분리(detached)된 User를 보관한다.
+ * 존재하지 않는 사용자는 캐시하지 않는다.
+ *
+ * 프로필 변경/로그아웃 시 UserService, AuthService 등이 evict를 호출하며, 트랜잭션 안이면 커밋 이후 제거한다.
+ * 다른 인스턴스의 캐시는 TTL(security.jwt.principal-cache.ttl) 이내에 갱신된다.
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> cache;
+
+    public AuthenticatedUserCache(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${security.jwt.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.jwt.principal-cache.ttl:PT1M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl)
+                .recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "authenticatedUsers");
+    }
+
+    /**
+     * 인증 주체 조회 (캐시 미스 시에만 DB 조회)
+     */
+    public Optional<User> get(Long userId) {
+        return Optional.ofNullable(
+                cache.get(userId, id -> userRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * 사용자 정보가 바뀌었거나 세션이 종료된 경우 캐시 제거
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+}
@@ -2,7 +2,6 @@ package com.kanban.auth.security;
 
 import com.kanban.auth.token.JwtTokenProvider;
 import com.kanban.user.User;
-import com.kanban.user.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,24 +26,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final List<GrantedAuthority> AUTHORITIES =
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            Long userId = tokenProvider.extractUserId(token);
-            log.info("[JwtAuthenticationFilter] Token validated. Extracted userId: {}", userId);
-            userRepository.findById(userId).ifPresent(user -> {
-                log.info("[JwtAuthenticationFilter] User found: id={}, email={}", user.getId(), user.getEmail());
-                setAuthentication(user, request);
-            });
-            if (!userRepository.findById(userId).isPresent()) {
-                log.warn("[JwtAuthenticationFilter] User not found for userId: {}", userId);
-            }
+        // 서명 검증과 userId 추출을 한 번의 파싱으로 처리, 사용자는 캐시에서 조회 (캐시 적중 시 DB 조회 없음)
+        Long userId = StringUtils.hasText(token) ? tokenProvider.parseUserId(token) : null;
+        if (userId != null) {
+            authenticatedUserCache.get(userId).ifPresentOrElse(
+                    user -> setAuthentication(user, request),
+                    () -> log.warn("[JwtAuthenticationFilter] User not found for userId: {}", userId));
         } else {
             log.debug("[JwtAuthenticationFilter] No valid token in request");
         }
@@ -57,15 +55,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.debug("[JwtAuthenticationFilter] Authentication already set");
             return;
         }
-        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                 user,
                 null,
-                authorities
+                AUTHORITIES
         );
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        log.info("[JwtAuthenticationFilter] Authentication set successfully for user: {}", user.getId());
+        log.debug("[JwtAuthenticationFilter] Authentication set for user: {}", user.getId());
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -55,4 +55,20 @@ public class JwtTokenProvider {
                 .getBody();
         return Long.parseLong(claims.getSubject());
     }
+
+    /**
+     * 서명/만료 검증과 사용자 ID 추출을 한 번의 파싱으로 처리 (유효하지 않으면 null)
+     */
+    public Long parseUserId(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            return Long.parseLong(claims.getSubject());
+        } catch (Exception ex) {
+            return null;
+        }
+    }
 }
@@ -58,6 +58,15 @@ public class Board extends BaseEntity {
     @Builder.Default
     private String mode = "KANBAN"; // KANBAN or SPRINT
 
+    /**
+     * 칼럼 순서 버전 (칼럼 생성, 삭제, 위치 변경 시 1씩 증가)
+     * 클라이언트가 마지막으로 본 버전과 다르면 칼럼 위치 변경 요청을 409로 거절
+     * 조건부 UPDATE로만 증가시키며, 엔티티 저장 시 읽어 둔 값으로 덮어쓰지 않도록 updatable = false
+     */
+    @Column(name = "column_order_version", updatable = false)
+    @Builder.Default
+    private Long columnOrderVersion = 0L;
+
     @Column
     private LocalDateTime deletedAt;
 
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -63,6 +64,30 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
                      + "WHERE b.workspace.id = :workspaceId AND b.status = 'ACTIVE'")
        long countActiveByWorkspaceId(@Param("workspaceId") Long workspaceId);
 
+       /**
+        * 보드가 속한 워크스페이스 ID 조회
+        */
+       @Query("SELECT b.workspace.id FROM Board b WHERE b.id = :boardId")
+       Optional<Long> findWorkspaceIdById(@Param("boardId") Long boardId);
+
+       /**
+        * 칼럼 순서 버전 조건부 증가 (expectedVersion이 null이면 무조건 증가)
+        *
+        * @return 갱신된 행 수 (0이면 버전 불일치)
+        */
+       @Modifying
+       @Query("UPDATE Board b SET b.columnOrderVersion = COALESCE(b.columnOrderVersion, 0) + 1 "
+                     + "WHERE b.id = :boardId "
+                     + "AND (:expectedVersion IS NULL OR COALESCE(b.columnOrderVersion, 0) = :expectedVersion)")
+       int incrementColumnOrderVersion(@Param("boardId") Long boardId,
+                     @Param("expectedVersion") Long expectedVersion);
+
+       /**
+        * 칼럼 순서 버전 조회
+        */
+       @Query("SELECT COALESCE(b.columnOrderVersion, 0) FROM Board b WHERE b.id = :boardId")
+       Long findColumnOrderVersionById(@Param("boardId") Long boardId);
+
        /**
         * 특정 이름의 보드가 워크스페이스에 존재하는지 확인
         */
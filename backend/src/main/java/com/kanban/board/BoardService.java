@@ -13,7 +13,9 @@ import com.kanban.board.dto.BoardResponse;
 import com.kanban.board.dto.CreateBoardRequest;
 import com.kanban.board.dto.UpdateBoardRequest;
 import com.kanban.board.member.BoardMemberRepository;
+import com.kanban.board.member.BoardPermissionCache;
 import com.kanban.common.SecurityUtil;
+import com.kanban.dashboard.DashboardSummaryCache;
 import com.kanban.user.User;
 import com.kanban.user.UserRepository;
 import com.kanban.workspace.Workspace;
@@ -32,6 +34,8 @@ public class BoardService {
         private final UserRepository userRepository;
         private final ActivityService activityService;
         private final BoardMemberRepository boardMemberRepository;
+        private final BoardPermissionCache boardPermissionCache;
+        private final DashboardSummaryCache dashboardSummaryCache;
     private final com.kanban.notification.service.RedisPublisher redisPublisher;
 
     private void rejectApiTokenAccess() {
@@ -57,8 +61,6 @@ public class BoardService {
         /**
          * 새로운 보드를 생성한다. - 워크스페이스와 사용자가 유효한지 확인 - 보드를 생성하고 소유자로 등록 - 생성자를 보드 멤버로 추가 (추후 구현)
          */
-        @org.springframework.cache.annotation.CacheEvict(
-                        value = {"dashboardSummary", "boardInsights"}, allEntries = true)
         @com.kanban.audit.Auditable(action = com.kanban.audit.AuditAction.CREATE,
                         targetType = com.kanban.audit.AuditTargetType.BOARD)
         public BoardResponse createBoard(Long workspaceId, Long userId,
@@ -89,6 +91,7 @@ public class BoardService {
                 activityService.recordActivity(ActivityScopeType.BOARD, savedBoard.getId(),
                                 ActivityEventType.BOARD_CREATED, userId,
                                 owner.getName() + "님이 \"" + savedBoard.getName() + "\" 보드를 생성했습니다");
+                dashboardSummaryCache.refreshWorkspace(workspaceId);
 
                 return BoardResponse.from(savedBoard);
         }
@@ -243,8 +246,6 @@ public class BoardService {
         /**
          * 보드 정보를 업데이트한다. - 소유자만 업데이트 가능 (향후 MANAGER 권한도 추가)
          */
-        @org.springframework.cache.annotation.CacheEvict(
-                        value = {"dashboardSummary", "boardInsights"}, allEntries = true)
         @com.kanban.audit.Auditable(action = com.kanban.audit.AuditAction.UPDATE,
                         targetType = com.kanban.audit.AuditTargetType.BOARD, targetId = "#boardId")
         public BoardResponse updateBoard(Long workspaceId, Long boardId, Long userId,
@@ -290,6 +291,7 @@ public class BoardService {
                 activityService.recordActivity(ActivityScopeType.BOARD, boardId,
                                 ActivityEventType.BOARD_UPDATED, userId,
                                 "\"" + board.getName() + "\" 보드가 업데이트되었습니다");
+                dashboardSummaryCache.refreshWorkspace(workspaceId);
 
                 return BoardResponse.from(updatedBoard);
         }
@@ -297,8 +299,6 @@ public class BoardService {
         /**
          * 보드를 아카이브한다.
          */
-        @org.springframework.cache.annotation.CacheEvict(
-                        value = {"dashboardSummary", "boardInsights"}, allEntries = true)
         @com.kanban.audit.Auditable(action = com.kanban.audit.AuditAction.UPDATE,
                         targetType = com.kanban.audit.AuditTargetType.BOARD, targetId = "#boardId")
         public BoardResponse archiveBoard(Long workspaceId, Long boardId, Long userId) {
@@ -317,6 +317,7 @@ public class BoardService {
                 board.archive();
                 Board updatedBoard = boardRepository.save(board);
                 log.info("Board {} archived successfully", boardId);
+                dashboardSummaryCache.refreshWorkspace(workspaceId);
 
                 return BoardResponse.from(updatedBoard);
         }
@@ -324,8 +325,6 @@ public class BoardService {
         /**
          * 아카이브된 보드를 복구한다.
          */
-        @org.springframework.cache.annotation.CacheEvict(
-                        value = {"dashboardSummary", "boardInsights"}, allEntries = true)
         @com.kanban.audit.Auditable(action = com.kanban.audit.AuditAction.UPDATE,
                         targetType = com.kanban.audit.AuditTargetType.BOARD, targetId = "#boardId")
         public BoardResponse unarchiveBoard(Long workspaceId, Long boardId, Long userId) {
@@ -344,6 +343,7 @@ public class BoardService {
                 board.unarchive();
                 Board updatedBoard = boardRepository.save(board);
                 log.info("Board {} unarchived successfully", boardId);
+                dashboardSummaryCache.refreshWorkspace(workspaceId);
 
                 return BoardResponse.from(updatedBoard);
         }
@@ -351,8 +351,6 @@ public class BoardService {
         /**
          * 보드를 삭제한다 (소프트 삭제). - DELETED 상태로 변경하고 deletedAt 타임스탐프 기록 - 30일 후 배치 작업으로 물리 삭제
          */
-        @org.springframework.cache.annotation.CacheEvict(
-                        value = {"dashboardSummary", "boardInsights"}, allEntries = true)
         @com.kanban.audit.Auditable(action = com.kanban.audit.AuditAction.DELETE,
                         targetType = com.kanban.audit.AuditTargetType.BOARD, targetId = "#boardId")
         public void deleteBoard(Long workspaceId, Long boardId, Long userId) {
@@ -376,6 +374,7 @@ public class BoardService {
                 board.markAsDeleted();
                 boardRepository.save(board);
                 log.info("Board {} deleted (soft delete) successfully", boardId);
+                dashboardSummaryCache.refreshWorkspace(workspaceId);
 
                 // Publish event
                 redisPublisher.publish(com.kanban.notification.event.BoardEvent.builder()
@@ -386,8 +385,6 @@ public class BoardService {
         /**
          * 삭제된 보드를 복구한다.
          */
-        @org.springframework.cache.annotation.CacheEvict(
-                        value = {"dashboardSummary", "boardInsights"}, allEntries = true)
         @com.kanban.audit.Auditable(action = com.kanban.audit.AuditAction.UPDATE,
                         targetType = com.kanban.audit.AuditTargetType.BOARD, targetId = "#boardId")
         public BoardResponse restoreBoard(Long workspaceId, Long boardId, Long userId) {
@@ -411,6 +408,7 @@ public class BoardService {
                 board.restore();
                 Board restoredBoard = boardRepository.save(board);
                 log.info("Board {} restored successfully", boardId);
+                dashboardSummaryCache.refreshWorkspace(workspaceId);
 
                 return BoardResponse.from(restoredBoard);
         }
@@ -419,8 +417,6 @@ public class BoardService {
          * 배치 작업: 30일 이상 경과된 삭제된 보드를 물리 삭제한다.
          */
         @Transactional
-        @org.springframework.cache.annotation.CacheEvict(
-                        value = {"dashboardSummary", "boardInsights"}, allEntries = true)
         public void purgePermanentlyDeletedBoards() {
                 log.info("Starting purge of permanently deleted boards");
 
@@ -433,7 +429,10 @@ public class BoardService {
                         return;
                 }
 
+                boardsToPurge.stream().map(board -> board.getWorkspace().getId()).distinct()
+                                .forEach(dashboardSummaryCache::refreshWorkspace);
                 boardRepository.deleteAll(boardsToPurge);
+                boardsToPurge.forEach(board -> boardPermissionCache.evictBoard(board.getId()));
                 log.info("Purged {} permanently deleted boards", boardsToPurge.size());
         }
 }
@@ -82,4 +82,10 @@ public interface BoardMemberRepository extends JpaRepository<BoardMember, BoardM
      */
     @Query("SELECT bm FROM BoardMember bm WHERE bm.user.id = :userId ORDER BY bm.invitedAt DESC")
     List<BoardMember> findAllInvitationsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 권한 판정용 보드 소유자 ID와 수락된 멤버 역할을 한 번에 조회 (보드가 없으면 빈 목록, 멤버가 아니면 역할 NULL)
+     */
+    @Query("SELECT b.owner.id, bm.role FROM Board b LEFT JOIN BoardMember bm ON bm.board.id = b.id AND bm.user.id = :userId AND bm.invitationStatus = :status WHERE b.id = :boardId")
+    List<Object[]> findOwnerIdAndMemberRole(@Param("boardId") Long boardId, @Param("userId") Long userId, @Param("status") InvitationStatus status);
 }
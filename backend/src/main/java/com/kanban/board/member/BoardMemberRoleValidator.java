@@ -2,7 +2,6 @@ package com.kanban.board.member;
 
 import com.kanban.auth.apitoken.ApiTokenPrincipal;
 import com.kanban.auth.apitoken.ApiTokenScope;
-import com.kanban.board.BoardRepository;
 import com.kanban.common.SecurityUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
@@ -11,16 +10,15 @@ import org.springframework.web.server.ResponseStatusException;
 
 /**
  * 보드 멤버의 역할 기반 권한을 검증하는 유틸리티
+ * 소유 여부와 멤버 역할은 BoardPermissionCache에서 조회하여 요청마다 DB를 조회하지 않는다.
  */
 @Component
 public class BoardMemberRoleValidator {
 
-    private final BoardMemberRepository boardMemberRepository;
-    private final BoardRepository boardRepository;
+    private final BoardPermissionCache boardPermissionCache;
 
-    public BoardMemberRoleValidator(BoardMemberRepository boardMemberRepository, BoardRepository boardRepository) {
-        this.boardMemberRepository = boardMemberRepository;
-        this.boardRepository = boardRepository;
+    public BoardMemberRoleValidator(BoardPermissionCache boardPermissionCache) {
+        this.boardPermissionCache = boardPermissionCache;
     }
 
     /**
@@ -47,30 +45,23 @@ public class BoardMemberRoleValidator {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증 정보가 없습니다");
         }
 
-        // 보드 조회
-        var board = boardRepository.findById(boardId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "보드를 찾을 수 없습니다"));
+        BoardPermission permission = boardPermissionCache.get(boardId, currentUserId);
+        if (permission == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "보드를 찾을 수 없습니다");
+        }
 
         // Owner이면 무조건 권한 있음
-        if (board.getOwner().getId().equals(currentUserId)) {
+        if (permission.isOwner()) {
             return;
         }
 
-        // Owner가 아니면 멤버 권한 확인
-        var memberOptional = boardMemberRepository.findByBoardIdAndUserId(boardId, currentUserId);
-        if (memberOptional.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 보드에 접근할 권한이 없습니다");
-        }
-
-        var member = memberOptional.get();
-
-        // ACCEPTED 상태여야 함
-        if (member.getInvitationStatus() != InvitationStatus.ACCEPTED) {
+        // Owner가 아니면 멤버 권한 확인 (ACCEPTED 상태여야 함)
+        if (!permission.isMember()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 보드에 접근할 권한이 없습니다");
         }
 
         // 역할 검증
-        if (!hasRequiredRole(member.getRole(), requiredRole)) {
+        if (!hasRequiredRole(permission.getMemberRole(), requiredRole)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이 작업을 수행할 권한이 없습니다");
         }
     }
@@ -92,12 +83,8 @@ public class BoardMemberRoleValidator {
             return false;
         }
 
-        var memberOptional = boardMemberRepository.findByBoardIdAndUserId(boardId, currentUserId);
-        if (memberOptional.isEmpty()) {
-            return false;
-        }
-
-        return memberOptional.get().getInvitationStatus() == InvitationStatus.ACCEPTED;
+        BoardPermission permission = boardPermissionCache.get(boardId, currentUserId);
+        return permission != null && permission.isMember();
     }
 
     /**
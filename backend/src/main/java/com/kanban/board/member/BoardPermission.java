@@ -0,0 +1,54 @@
+package com.kanban.board.member;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 사용자의 보드 권한 판정 결과 (소유 여부 + 수락된 멤버 역할)
+ * 가능한 조합이 8개뿐이므로 미리 만든 인스턴스를 공유하여 캐시 엔트리가 참조 하나만 차지하도록 한다.
+ */
+public final class BoardPermission {
+
+    private static final BoardPermission[] INSTANCES = new BoardPermission[8];
+
+    static {
+        for (int owner = 0; owner < 2; owner++) {
+            INSTANCES[index(owner == 1, null)] = new BoardPermission(owner == 1, null);
+            for (BoardMemberRole role : BoardMemberRole.values()) {
+                INSTANCES[index(owner == 1, role)] = new BoardPermission(owner == 1, role);
+            }
+        }
+    }
+
+    private final boolean owner;
+    @Nullable
+    private final BoardMemberRole memberRole;
+
+    private BoardPermission(boolean owner, @Nullable BoardMemberRole memberRole) {
+        this.owner = owner;
+        this.memberRole = memberRole;
+    }
+
+    public static BoardPermission of(boolean owner, @Nullable BoardMemberRole memberRole) {
+        return INSTANCES[index(owner, memberRole)];
+    }
+
+    private static int index(boolean owner, @Nullable BoardMemberRole memberRole) {
+        return (owner ? 4 : 0) + (memberRole == null ? 0 : memberRole.ordinal() + 1);
+    }
+
+    public boolean isOwner() {
+        return owner;
+    }
+
+    /**
+     * 초대를 수락한 멤버인지 여부
+     */
+    public boolean isMember() {
+        return memberRole != null;
+    }
+
+    @Nullable
+    public BoardMemberRole getMemberRole() {
+        return memberRole;
+    }
+}
@@ -0,0 +1,131 @@
+package com.kanban.board.member;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보드 권한 캐시 ((boardId, userId) → BoardPermission)
+ * 캐시 미스 시 보드 소유자와 수락된 멤버 역할을 쿼리 한 번으로 조회한다. 존재하지 않는 보드는 캐시하지 않는다.
+ *
+ * 무효화: 멤버 역할 변경/초대 수락/멤버 제거 시 해당 사용자, 보드 소유권 변경/삭제 시 보드 전체.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 제거하며, Redis 채널로 다른 인스턴스에도 전파한다.
+ * 적중/미스 통계는 cache.gets{cache=boardPermissions} 메트릭으로 Actuator에 노출된다.
+ */
+@Component
+@Slf4j
+public class BoardPermissionCache implements MessageListener {
+
+    public static final String INVALIDATION_TOPIC = "board-permission-invalidations";
+    private static final String ALL_USERS = "*";
+
+    private final BoardMemberRepository boardMemberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Key, BoardPermission> cache;
+
+    public BoardPermissionCache(BoardMemberRepository boardMemberRepository,
+            StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+            @Value("${board-permission-cache.maximum-size:100000}") long maximumSize,
+            @Value("${board-permission-cache.ttl:PT10M}") Duration ttl) {
+        this.boardMemberRepository = boardMemberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl)
+                .recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardPermissions");
+    }
+
+    /**
+     * 사용자의 보드 권한 조회 (보드가 없으면 null)
+     */
+    @Nullable
+    public BoardPermission get(Long boardId, Long userId) {
+        return cache.get(new Key(boardId, userId), this::load);
+    }
+
+    /**
+     * 특정 사용자의 보드 권한 무효화
+     */
+    public void evict(Long boardId, Long userId) {
+        afterCommit(boardId + ":" + userId);
+    }
+
+    /**
+     * 보드의 모든 사용자 권한 무효화
+     */
+    public void evictBoard(Long boardId) {
+        afterCommit(boardId + ":" + ALL_USERS);
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        evictLocally(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Nullable
+    private BoardPermission load(Key key) {
+        List<Object[]> rows = boardMemberRepository.findOwnerIdAndMemberRole(key.boardId(),
+                key.userId(), InvitationStatus.ACCEPTED);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return BoardPermission.of(Long.valueOf(key.userId()).equals(row[0]),
+                (BoardMemberRole) row[1]);
+    }
+
+    private void afterCommit(String target) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(target);
+            return;
+        }
+        // 커밋 전에 제거하면 동시 요청이 이전 권한을 다시 캐시할 수 있으므로 커밋 이후 제거
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(target);
+            }
+        });
+    }
+
+    private void broadcast(String target) {
+        evictLocally(target);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_TOPIC, target);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast board permission invalidation {}", target, e);
+        }
+    }
+
+    private void evictLocally(String target) {
+        int separator = target.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        long boardId = Long.parseLong(target.substring(0, separator));
+        String user = target.substring(separator + 1);
+        if (ALL_USERS.equals(user)) {
+            cache.asMap().keySet().removeIf(key -> key.boardId() == boardId);
+        } else {
+            cache.invalidate(new Key(boardId, Long.parseLong(user)));
+        }
+    }
+
+    private record Key(long boardId, long userId) {
+    }
+}
@@ -34,6 +34,7 @@ public class MemberService {
         private final UserRepository userRepository;
         private final ActivityService activityService;
         private final NotificationService notificationService;
+        private final BoardPermissionCache boardPermissionCache;
 
         /**
          * 초대 토큰 생성
@@ -120,6 +121,7 @@ public class MemberService {
 
                 member.acceptInvitation();
                 BoardMember savedMember = boardMemberRepository.save(member);
+                boardPermissionCache.evict(member.getBoard().getId(), member.getUser().getId());
 
                 // 활동 기록
                 activityService.recordActivity(ActivityScopeType.BOARD, member.getBoard().getId(),
@@ -181,6 +183,7 @@ public class MemberService {
                 String oldRole = member.getRole().toString();
                 member.setRole(newRole);
                 BoardMember savedMember = boardMemberRepository.save(member);
+                boardPermissionCache.evict(boardId, memberId);
 
                 // 활동 기록
                 activityService.recordActivity(ActivityScopeType.BOARD, boardId,
@@ -215,6 +218,7 @@ public class MemberService {
                 InvitationStatus invitationStatus = member.getInvitationStatus();
 
                 boardMemberRepository.delete(member);
+                boardPermissionCache.evict(boardId, memberId);
 
                 // PENDING 상태인 경우 초대 취소 알림 전송 (WebSocket만)
                 if (invitationStatus == InvitationStatus.PENDING) {
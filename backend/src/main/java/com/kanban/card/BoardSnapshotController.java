@@ -0,0 +1,31 @@
+package com.kanban.card;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.kanban.card.dto.BoardSnapshotResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보드 스냅샷 REST API 컨트롤러
+ * 칼럼별 카드 페이지 조회를 반복하지 않고 보드 전체를 한 번에 내려준다
+ */
+@RestController
+@RequestMapping("/api/v1/workspaces/{workspaceId}/boards/{boardId}")
+@RequiredArgsConstructor
+public class BoardSnapshotController {
+
+    private final BoardSnapshotService boardSnapshotService;
+
+    /**
+     * 보드 스냅샷 조회 (활성 칼럼, 카드, 라벨, 자식 개수, 담당자)
+     * GET /api/v1/workspaces/{workspaceId}/boards/{boardId}/snapshot
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<BoardSnapshotResponse> getSnapshot(@PathVariable Long workspaceId,
+            @PathVariable Long boardId) {
+        return ResponseEntity.ok(boardSnapshotService.getSnapshot(boardId));
+    }
+}
@@ -0,0 +1,99 @@
+package com.kanban.card;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.kanban.auth.apitoken.ApiTokenScope;
+import com.kanban.board.member.BoardMemberRole;
+import com.kanban.board.member.BoardMemberRoleValidator;
+import com.kanban.card.dto.BoardSnapshotResponse;
+import com.kanban.card.dto.CardResponse;
+import com.kanban.column.BoardColumn;
+import com.kanban.column.ColumnRepository;
+import com.kanban.column.dto.ColumnResponse;
+import com.kanban.label.CardLabel;
+import com.kanban.label.CardLabelRepository;
+import com.kanban.label.dto.LabelResponse;
+import com.kanban.user.User;
+import com.kanban.user.dto.UserSummary;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보드 스냅샷 조회 서비스
+ * 칼럼 수와 관계없이 고정된 개수의 집합 쿼리로 보드 전체(칼럼, 카드, 라벨, 자식 개수, 담당자)를 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardSnapshotService {
+
+    private final ColumnRepository columnRepository;
+    private final CardRepository cardRepository;
+    private final CardLabelRepository cardLabelRepository;
+    private final BoardMemberRoleValidator roleValidator;
+
+    /**
+     * 보드 스냅샷 조회 - 칼럼 1회, 카드+담당자 1회, 라벨 1회, 자식 개수 1회 쿼리
+     */
+    public BoardSnapshotResponse getSnapshot(Long boardId) {
+        roleValidator.validateRole(boardId, BoardMemberRole.VIEWER, ApiTokenScope.CARD_READ);
+
+        List<BoardColumn> columns = columnRepository.findByBoardIdOrderByPosition(boardId);
+        List<Card> cards = cardRepository.findActiveByBoardIdWithAssignee(boardId);
+
+        Map<Long, List<LabelResponse>> labelsByCardId =
+                cardLabelRepository.findActiveByBoardId(boardId).stream()
+                        .collect(Collectors.groupingBy(cardLabel -> cardLabel.getCard().getId(),
+                                Collectors.mapping(this::toLabelResponse, Collectors.toList())));
+
+        Map<Long, Long> childCountByCardId =
+                cardRepository.countChildrenGroupedByParentInBoard(boardId).stream()
+                        .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+
+        Map<Long, List<CardResponse>> cardsByColumnId = cards.stream()
+                .collect(Collectors.groupingBy(card -> card.getColumn().getId(),
+                        Collectors.mapping(
+                                card -> toCardResponse(card, labelsByCardId, childCountByCardId),
+                                Collectors.toList())));
+
+        // 카드는 rankKey 순으로 조회되므로 칼럼 내 순번을 position으로 내려준다
+        cardsByColumnId.values().forEach(columnCards -> {
+            for (int i = 0; i < columnCards.size(); i++) {
+                columnCards.get(i).setPosition(i);
+            }
+        });
+
+        List<BoardSnapshotResponse.ColumnSnapshot> columnSnapshots = columns.stream()
+                .map(column -> BoardSnapshotResponse.ColumnSnapshot.builder()
+                        .column(ColumnResponse.from(column))
+                        .cards(cardsByColumnId.getOrDefault(column.getId(), List.of())).build())
+                .toList();
+
+        return BoardSnapshotResponse.builder().boardId(boardId).columns(columnSnapshots)
+                .totalCards(cards.size()).generatedAt(LocalDateTime.now()).build();
+    }
+
+    private LabelResponse toLabelResponse(CardLabel cardLabel) {
+        return LabelResponse.from(cardLabel.getLabel());
+    }
+
+    private CardResponse toCardResponse(Card card, Map<Long, List<LabelResponse>> labelsByCardId,
+            Map<Long, Long> childCountByCardId) {
+        CardResponse response =
+                CardResponse.from(card, labelsByCardId.getOrDefault(card.getId(), List.of()));
+        // 자식 카드가 있으면 빈 리스트 설정 (개수만 필요, getCardsByColumn과 동일한 규약)
+        if (childCountByCardId.getOrDefault(card.getId(), 0L) > 0) {
+            response.setChildCards(List.of());
+        }
+        User assignee = card.getAssignee();
+        if (assignee != null) {
+            response.setAssignee(assignee.getName());
+            response.setAssigneeAvatarUrl(
+                    UserSummary.toProxyAvatarUrl(assignee.getId(), assignee.getAvatarUrl()));
+        }
+        return response;
+    }
+}
@@ -19,7 +19,8 @@ import lombok.*;
  * 카드(Card) 엔티티 칼럼에 속하는 개별 카드 항목
  */
 @Entity
-@Table(name = "card")
+@Table(name = "card",
+        indexes = {@Index(name = "idx_card_column_rank", columnList = "column_id, rank_key")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -61,6 +62,12 @@ public class Card extends BaseEntity {
     @Column(nullable = false)
     private Integer position;
 
+    /**
+     * 칼럼 내 정렬 키 (간격을 둔 long 값, 작을수록 위) 이동 시 이동한 카드 한 행만 갱신하기 위해 사용하며, null이면 position 기준으로 정렬
+     */
+    @Column(name = "rank_key")
+    private Long rankKey;
+
     /**
      * 카드 색상 (HEX 코드)
      */
@@ -0,0 +1,151 @@
+package com.kanban.card;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.stereotype.Service;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 정렬 키(rankKey) 관리 서비스
+ * 칼럼 내 카드 순서를 간격(RANK_GAP)을 둔 long 값으로 관리하여, 카드 이동 시 이동한 카드 한 행만 갱신한다.
+ * 이웃 카드 사이 간격이 소진된 경우에만 해당 칼럼을 재정렬(rebalance)한다.
+ *
+ * 기존 position 데이터 이관: rankKey가 없는 카드가 있는 칼럼은 첫 쓰기 시점에 position 순서대로 rankKey를 부여한다.
+ * 클라이언트가 사용하는 정수 position은 rankKey 순서의 순번으로 계산해 내려준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class CardRankService {
+
+    /**
+     * 인접 카드 간 기본 rankKey 간격 (같은 위치에 약 20회 연속 삽입 후 재정렬)
+     */
+    static final long RANK_GAP = 1L << 20;
+
+    private final CardRepository cardRepository;
+
+    /**
+     * 칼럼 끝에 추가될 카드의 rankKey
+     */
+    public long rankForAppend(Long columnId) {
+        ensureRanked(columnId);
+        Long maxRank = cardRepository.findMaxRankKeyByColumnId(columnId);
+        return maxRank == null ? RANK_GAP : maxRank + RANK_GAP;
+    }
+
+    /**
+     * 카드를 칼럼의 targetIndex 위치(활성 카드 기준 0부터)로 옮길 때 부여할 rankKey
+     *
+     * @param movingCardId 이동 중인 카드 ID (이웃 계산에서 제외)
+     */
+    public long rankForIndex(Long columnId, Long movingCardId, int targetIndex) {
+        ensureRanked(columnId);
+        Long rank = rankBetweenNeighbors(columnId, movingCardId, targetIndex);
+        if (rank != null) {
+            return rank;
+        }
+        // 이웃 간 간격 소진 - 칼럼 재정렬 후 다시 계산
+        log.debug("Rank gap exhausted in column {}, rebalancing", columnId);
+        rebalance(columnId);
+        return rankBetweenNeighbors(columnId, movingCardId, targetIndex);
+    }
+
+    /**
+     * 칼럼의 활성 카드 ID를 표시 순서대로 조회
+     */
+    public List<Long> getOrderedCardIds(Long columnId) {
+        return cardRepository.findActiveRankKeysByColumnId(columnId).stream()
+                .map(row -> (Long) row[0]).toList();
+    }
+
+    /**
+     * 칼럼의 활성 카드 ID별 표시 순번 (0부터, rankKey 순서)
+     */
+    public Map<Long, Integer> getOrdinalsByColumnId(Long columnId) {
+        List<Object[]> rows = cardRepository.findActiveRankKeysByColumnId(columnId);
+        Map<Long, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ordinals.put((Long) rows.get(i)[0], i);
+        }
+        return ordinals;
+    }
+
+    /**
+     * 카드별 표시 순번 (칼럼 구분 없이 카드 수와 무관하게 한 번의 쿼리)
+     * 저장된 position은 이동 시 갱신되지 않으므로, rankKey가 있는 카드는 같은 칼럼 활성 카드의 rankKey 순번으로 계산한다.
+     * rankKey가 아직 없는 칼럼(이관 전)의 카드는 그대로 유효한 position을 사용한다.
+     */
+    public Map<Long, Integer> getOrdinals(Collection<Card> cards) {
+        List<Long> rankedIds = cards.stream().filter(card -> card.getRankKey() != null)
+                .map(Card::getId).toList();
+        Map<Long, Integer> ranked = new HashMap<>();
+        if (!rankedIds.isEmpty()) {
+            cardRepository.findActiveRankOrdinals(rankedIds).forEach(row -> ranked
+                    .put(((Number) row[0]).longValue(), ((Number) row[1]).intValue()));
+        }
+        Map<Long, Integer> ordinals = new HashMap<>();
+        for (Card card : cards) {
+            ordinals.put(card.getId(), card.getRankKey() == null ? card.getPosition()
+                    : ranked.getOrDefault(card.getId(), 0));
+        }
+        return ordinals;
+    }
+
+    /**
+     * 단건 카드의 표시 순번 (getOrdinals 참고)
+     */
+    public Integer getOrdinal(Card card) {
+        return getOrdinals(List.of(card)).get(card.getId());
+    }
+
+    /**
+     * 칼럼의 모든 카드(아카이브 포함)에 현재 순서대로 RANK_GAP 간격의 rankKey를 다시 부여
+     * position도 같은 순번으로 맞춰 레거시 소비자가 보는 값과 일치시킨다.
+     */
+    public void rebalance(Long columnId) {
+        List<Card> cards = cardRepository.findByColumnIdOrderByPosition(columnId);
+        for (int i = 0; i < cards.size(); i++) {
+            Card card = cards.get(i);
+            card.setRankKey((i + 1) * RANK_GAP);
+            card.setPosition(i);
+        }
+        cardRepository.saveAll(cards);
+        cardRepository.flush();
+    }
+
+    /**
+     * rankKey가 없는 카드가 있으면 칼럼 전체에 rankKey 부여 (칼럼당 최초 1회)
+     */
+    private void ensureRanked(Long columnId) {
+        if (cardRepository.countUnrankedByColumnId(columnId) > 0) {
+            rebalance(columnId);
+        }
+    }
+
+    /**
+     * targetIndex 앞뒤 이웃의 중간값 계산, 간격이 없으면 null
+     */
+    private Long rankBetweenNeighbors(Long columnId, Long movingCardId, int targetIndex) {
+        List<Long> ranks = cardRepository.findActiveRankKeysByColumnId(columnId).stream()
+                .filter(row -> !Objects.equals(row[0], movingCardId)).map(row -> (Long) row[1])
+                .toList();
+        int index = Math.max(0, Math.min(targetIndex, ranks.size()));
+
+        long lower = index > 0 ? ranks.get(index - 1) : 0L;
+        if (index >= ranks.size()) {
+            return lower + RANK_GAP;
+        }
+        long upper = ranks.get(index);
+        if (upper - lower < 2) {
+            return null;
+        }
+        return lower + (upper - lower) / 2;
+    }
+}
@@ -15,22 +15,22 @@ import org.springframework.stereotype.Repository;
 public interface CardRepository extends JpaRepository<Card, Long>, CardRepositoryCustom {
 
         /**
-         * 특정 칼럼의 모든 카드를 위치 순서대로 조회
+         * 특정 칼럼의 모든 카드를 위치 순서대로 조회 (rankKey 우선, 미할당 카드는 position 순으로 뒤에 배치)
          */
-        @Query("SELECT c FROM Card c WHERE c.column.id = :columnId ORDER BY c.position ASC")
+        @Query("SELECT c FROM Card c WHERE c.column.id = :columnId ORDER BY c.rankKey ASC NULLS LAST, c.position ASC, c.id ASC")
         List<Card> findByColumnIdOrderByPosition(@Param("columnId") Long columnId);
 
         /**
          * 특정 칼럼의 아카이브되지 않은 카드를 위치 순서대로 조회
          */
-        @Query("SELECT c FROM Card c WHERE c.column.id = :columnId AND c.isArchived = false ORDER BY c.position ASC")
+        @Query("SELECT c FROM Card c WHERE c.column.id = :columnId AND c.isArchived = false ORDER BY c.rankKey ASC NULLS LAST, c.position ASC, c.id ASC")
         List<Card> findByColumnIdAndIsArchivedFalseOrderByPosition(
                         @Param("columnId") Long columnId);
 
         /**
          * 특정 칼럼의 아카이브되지 않은(또는 null) 카드를 위치 순서대로 조회
          */
-        @Query("SELECT c FROM Card c WHERE c.column.id = :columnId AND (c.isArchived = false OR c.isArchived IS NULL) ORDER BY c.position ASC")
+        @Query("SELECT c FROM Card c WHERE c.column.id = :columnId AND (c.isArchived = false OR c.isArchived IS NULL) ORDER BY c.rankKey ASC NULLS LAST, c.position ASC, c.id ASC")
         List<Card> findActiveByColumnIdOrderByPosition(@Param("columnId") Long columnId);
 
         /**
@@ -53,13 +53,6 @@ public interface CardRepository extends JpaRepository<Card, Long>, CardRepositor
         List<Card> findByBoardIdAndIdIn(@Param("boardId") Long boardId,
                         @Param("cardIds") List<Long> cardIds);
 
-        /**
-         * 마감일이 특정 기간 내에 있는 카드 조회 (아카이브되지 않은 카드만)
-         */
-        @Query("SELECT c FROM Card c WHERE c.dueDate BETWEEN :start AND :end AND c.isArchived = false")
-        List<Card> findCardsDueBetween(@Param("start") java.time.LocalDateTime start,
-                        @Param("end") java.time.LocalDateTime end);
-
 
 
         /**
@@ -76,13 +69,37 @@ public interface CardRepository extends JpaRepository<Card, Long>, CardRepositor
                         @Param("columnId") Long columnId);
 
         /**
-         * 특정 위치 이상의 카드들의 position을 업데이트 (드래그 앤 드롭으로 카드 순서 변경 시 사용)
+         * 특정 칼럼의 활성 카드 ID와 rankKey를 정렬 순서대로 조회 (이동 위치 계산 및 표시 순번 산출용)
          */
-        @Modifying
-        @Query("UPDATE Card c SET c.position = c.position + :offset WHERE c.column.id = :columnId AND c.position >= :fromPosition")
-        void updatePositionsFrom(@Param("columnId") Long columnId,
-                        @Param("fromPosition") Integer fromPosition,
-                        @Param("offset") Integer offset);
+        @Query("SELECT c.id, c.rankKey FROM Card c WHERE c.column.id = :columnId "
+                        + "AND (c.isArchived = false OR c.isArchived IS NULL) "
+                        + "ORDER BY c.rankKey ASC NULLS LAST, c.position ASC, c.id ASC")
+        List<Object[]> findActiveRankKeysByColumnId(@Param("columnId") Long columnId);
+
+        /**
+         * 카드별 같은 칼럼 내 활성 카드 표시 순번 (0부터, rankKey 순서, 표시 순번 산출용)
+         * 대상 카드가 속한 칼럼들의 (column_id, rank_key) 인덱스를 한 번 읽어 ROW_NUMBER로 계산한다.
+         * rankKey가 없거나 아카이브된 카드는 포함되지 않는다.
+         */
+        @Query("SELECT r.id, r.ordinal FROM (SELECT c.id AS id, "
+                        + "ROW_NUMBER() OVER (PARTITION BY c.column.id ORDER BY c.rankKey, c.id) - 1 AS ordinal "
+                        + "FROM Card c WHERE c.rankKey IS NOT NULL "
+                        + "AND (c.isArchived = false OR c.isArchived IS NULL) "
+                        + "AND c.column.id IN (SELECT t.column.id FROM Card t WHERE t.id IN :cardIds)) r "
+                        + "WHERE r.id IN :cardIds")
+        List<Object[]> findActiveRankOrdinals(@Param("cardIds") java.util.Collection<Long> cardIds);
+
+        /**
+         * 특정 칼럼의 최대 rankKey 조회 (칼럼 끝에 카드 추가 시 사용)
+         */
+        @Query("SELECT MAX(c.rankKey) FROM Card c WHERE c.column.id = :columnId")
+        Long findMaxRankKeyByColumnId(@Param("columnId") Long columnId);
+
+        /**
+         * 특정 칼럼에서 rankKey가 할당되지 않은 카드 개수 (기존 position 데이터 이관 여부 확인)
+         */
+        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.id = :columnId AND c.rankKey IS NULL")
+        long countUnrankedByColumnId(@Param("columnId") Long columnId);
 
         /**
          * 특정 칼럼의 모든 카드 삭제
@@ -107,61 +124,52 @@ public interface CardRepository extends JpaRepository<Card, Long>, CardRepositor
         int countByParentCardId(@Param("parentCardId") Long parentCardId);
 
         /**
-         * ID로 카드 조회 (부모 카드 정보 포함) N+1 문제 방지를 위해 LEFT JOIN FETCH 사용
-         */
-        @Query("SELECT c FROM Card c LEFT JOIN FETCH c.parentCard WHERE c.id = :cardId")
-        Optional<Card> findByIdWithParent(@Param("cardId") Long cardId);
-
-        /**
-         * 워크스페이스 내의 총 카드 개수
-         */
-        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.workspace.id = :workspaceId")
-        long countByWorkspaceId(@Param("workspaceId") Long workspaceId);
-
-        /**
-         * 워크스페이스 내의 완료된 카드 개수
+         * 여러 부모 카드의 자식 카드 개수를 한 번에 조회 (N+1 문제 방지)
          */
-        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.workspace.id = :workspaceId AND c.isCompleted = true")
-        long countByWorkspaceIdAndIsCompletedTrue(@Param("workspaceId") Long workspaceId);
+        @Query("SELECT c.parentCard.id, COUNT(c) FROM Card c WHERE c.parentCard.id IN :parentCardIds GROUP BY c.parentCard.id")
+        List<Object[]> countByParentCardIds(@Param("parentCardIds") java.util.Collection<Long> parentCardIds);
 
         /**
-         * 워크스페이스 내의 미완료 카드 개수
+         * 부모 카드 ID별 자식 카드 개수를 Map으로 반환하는 기본 메서드 (자식이 없는 카드는 포함되지 않음)
          */
-        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.workspace.id = :workspaceId AND c.isCompleted = false")
-        long countByWorkspaceIdAndIsCompletedFalse(@Param("workspaceId") Long workspaceId);
-
-        /**
-         * 워크스페이스 내의 지연된 카드 개수 (마감일이 지났고 미완료인 카드)
-         */
-        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.workspace.id = :workspaceId AND c.isCompleted = false AND c.dueDate < :today")
-        long countOverdueByWorkspaceId(@Param("workspaceId") Long workspaceId,
-                        @Param("today") java.time.LocalDate today);
-
-        /**
-         * 워크스페이스 내의 마감 임박 카드 개수 (마감일이 2일 이내이고 미완료인 카드)
-         */
-        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.workspace.id = :workspaceId AND c.isCompleted = false AND c.dueDate BETWEEN CURRENT_DATE AND :dueSoonLimit")
-        long countDueSoonByWorkspaceId(@Param("workspaceId") Long workspaceId,
-                        @Param("dueSoonLimit") java.time.LocalDate dueSoonLimit);
+        default java.util.Map<Long, Long> countChildrenByParentCardIds(
+                        java.util.Collection<Long> parentCardIds) {
+                if (parentCardIds == null || parentCardIds.isEmpty()) {
+                        return java.util.Collections.emptyMap();
+                }
+                return countByParentCardIds(parentCardIds).stream()
+                                .collect(java.util.stream.Collectors.toMap(row -> (Long) row[0],
+                                                row -> (Long) row[1]));
+        }
 
         /**
-         * 워크스페이스 내의 담당자 없고 우선순위 높은 카드 개수
+         * ID 목록으로 카드 조회 (칼럼/보드 정보 포함) 목록 응답 조립 시 N+1 문제 방지
          */
-        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.workspace.id = :workspaceId AND c.assignee IS NULL AND c.priority = 'HIGH' AND c.isCompleted = false")
-        long countUnassignedHighPriorityByWorkspaceId(@Param("workspaceId") Long workspaceId);
+        @Query("SELECT c FROM Card c JOIN FETCH c.column col JOIN FETCH col.board WHERE c.id IN :cardIds")
+        List<Card> findByIdInWithColumnAndBoard(@Param("cardIds") java.util.Collection<Long> cardIds);
 
         /**
-         * 워크스페이스 내의 최근 생성된 카드 개수
+         * ID로 카드 조회 (부모 카드 정보 포함) N+1 문제 방지를 위해 LEFT JOIN FETCH 사용
          */
-        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.workspace.id = :workspaceId AND c.createdAt >= :since")
-        long countByWorkspaceIdAndCreatedAtAfter(@Param("workspaceId") Long workspaceId,
-                        @Param("since") java.time.LocalDateTime since);
+        @Query("SELECT c FROM Card c LEFT JOIN FETCH c.parentCard WHERE c.id = :cardId")
+        Optional<Card> findByIdWithParent(@Param("cardId") Long cardId);
 
         /**
-         * 워크스페이스 내의 최근 수정된 카드 개수
+         * 워크스페이스 대시보드 요약 집계 (한 번의 스캔으로 모든 카운터 계산)
+         * [총, 완료, 미완료, 지연, 마감 임박, 담당자 없는 HIGH 우선순위, 최근 생성, 최근 수정] 순서
          */
-        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.workspace.id = :workspaceId AND c.updatedAt >= :since")
-        long countByWorkspaceIdAndUpdatedAtAfter(@Param("workspaceId") Long workspaceId,
+        @Query("SELECT COUNT(c), "
+                        + "COALESCE(SUM(CASE WHEN c.isCompleted = true THEN 1 ELSE 0 END), 0), "
+                        + "COALESCE(SUM(CASE WHEN c.isCompleted = false THEN 1 ELSE 0 END), 0), "
+                        + "COALESCE(SUM(CASE WHEN c.isCompleted = false AND c.dueDate < :today THEN 1 ELSE 0 END), 0), "
+                        + "COALESCE(SUM(CASE WHEN c.isCompleted = false AND c.dueDate BETWEEN :today AND :dueSoonLimit THEN 1 ELSE 0 END), 0), "
+                        + "COALESCE(SUM(CASE WHEN c.isCompleted = false AND c.assignee IS NULL AND c.priority = 'HIGH' THEN 1 ELSE 0 END), 0), "
+                        + "COALESCE(SUM(CASE WHEN c.createdAt >= :since THEN 1 ELSE 0 END), 0), "
+                        + "COALESCE(SUM(CASE WHEN c.updatedAt >= :since THEN 1 ELSE 0 END), 0) "
+                        + "FROM Card c WHERE c.column.board.workspace.id = :workspaceId")
+        List<Object[]> summarizeWorkspace(@Param("workspaceId") Long workspaceId,
+                        @Param("today") java.time.LocalDate today,
+                        @Param("dueSoonLimit") java.time.LocalDate dueSoonLimit,
                         @Param("since") java.time.LocalDateTime since);
 
         /**
@@ -245,8 +253,71 @@ public interface CardRepository extends JpaRepository<Card, Long>, CardRepositor
         @Query("SELECT c FROM Card c WHERE c.column.board.id = :boardId")
         List<Card> findByBoardId(@Param("boardId") Long boardId);
 
-        @Query("SELECT c FROM Card c WHERE c.column.board.id = :boardId AND c.isCompleted = true")
-        List<Card> findByBoardIdAndIsCompletedTrue(@Param("boardId") Long boardId);
+        /**
+         * 워크스페이스 내 제목에 패턴이 포함된 활성 카드 조회 (제목 인덱스를 사용할 수 없는 대형 워크스페이스용)
+         */
+        @Query("SELECT c FROM Card c JOIN FETCH c.column col JOIN FETCH col.board b "
+                        + "WHERE b.workspace.id = :workspaceId AND LOWER(c.title) LIKE :pattern "
+                        + "AND (c.isArchived = false OR c.isArchived IS NULL) "
+                        + "ORDER BY c.updatedAt DESC")
+        List<Card> findActiveTitleMatchesInWorkspace(@Param("workspaceId") Long workspaceId,
+                        @Param("pattern") String pattern,
+                        org.springframework.data.domain.Pageable pageable);
+
+        /**
+         * 보드의 아카이브되지 않은 카드를 담당자와 함께 한 번에 조회 (보드 스냅샷용)
+         */
+        @Query("SELECT c FROM Card c LEFT JOIN FETCH c.assignee "
+                        + "WHERE c.column.board.id = :boardId "
+                        + "AND (c.isArchived = false OR c.isArchived IS NULL) "
+                        + "ORDER BY c.rankKey ASC NULLS LAST, c.position ASC, c.id ASC")
+        List<Card> findActiveByBoardIdWithAssignee(@Param("boardId") Long boardId);
+
+        /**
+         * 보드 내 부모 카드별 자식 카드 개수 조회 (보드 스냅샷용)
+         */
+        @Query("SELECT c.parentCard.id, COUNT(c) FROM Card c "
+                        + "WHERE c.column.board.id = :boardId AND c.parentCard IS NOT NULL "
+                        + "GROUP BY c.parentCard.id")
+        List<Object[]> countChildrenGroupedByParentInBoard(@Param("boardId") Long boardId);
+
+        /**
+         * 보드 번다운 집계: 생성일별 카드 수 (종료 시각 없이 아카이브된 카드 제외)
+         */
+        @Query("SELECT CAST(c.createdAt AS LocalDate), COUNT(c) FROM Card c "
+                        + "WHERE c.column.board.id = :boardId AND c.createdAt IS NOT NULL "
+                        + "AND (c.isArchived IS NULL OR c.isArchived = false OR c.archivedAt IS NOT NULL) "
+                        + "GROUP BY CAST(c.createdAt AS LocalDate)")
+        List<Object[]> countCreatedByDay(@Param("boardId") Long boardId);
+
+        /**
+         * 보드 번다운 집계: 종료일별 카드 수 (완료 시각과 아카이브 시각 중 빠른 시점)
+         */
+        @Query("SELECT CAST(CASE WHEN c.completedAt IS NOT NULL AND (c.isArchived IS NULL OR c.isArchived = false "
+                        + "OR c.archivedAt > c.completedAt) THEN c.completedAt ELSE c.archivedAt END AS LocalDate), "
+                        + "COUNT(c) FROM Card c "
+                        + "WHERE c.column.board.id = :boardId AND c.createdAt IS NOT NULL "
+                        + "AND (c.isArchived IS NULL OR c.isArchived = false OR c.archivedAt IS NOT NULL) "
+                        + "AND (c.completedAt IS NOT NULL OR c.isArchived = true) "
+                        + "GROUP BY CAST(CASE WHEN c.completedAt IS NOT NULL AND (c.isArchived IS NULL OR c.isArchived = false "
+                        + "OR c.archivedAt > c.completedAt) THEN c.completedAt ELSE c.archivedAt END AS LocalDate)")
+        List<Object[]> countClosedByDay(@Param("boardId") Long boardId);
+
+        /**
+         * 보드 사이클 타임 조회용 프로젝션 [id, 제목, 시작 시각, 완료 시각] (완료 시각 순)
+         */
+        @Query("SELECT c.id, c.title, c.startedAt, c.completedAt FROM Card c "
+                        + "WHERE c.column.board.id = :boardId AND c.isCompleted = true "
+                        + "AND c.startedAt IS NOT NULL AND c.completedAt IS NOT NULL "
+                        + "ORDER BY c.completedAt")
+        List<Object[]> findCycleTimesByBoardId(@Param("boardId") Long boardId);
+
+        /**
+         * 보드의 완료된 카드 수 (아카이브 제외)
+         */
+        @Query("SELECT COUNT(c) FROM Card c WHERE c.column.board.id = :boardId AND c.isCompleted = true "
+                        + "AND (c.isArchived IS NULL OR c.isArchived = false)")
+        long countCompletedActiveByBoardId(@Param("boardId") Long boardId);
 
         /**
          * 스프린트에 속한 카드 조회
@@ -296,6 +367,17 @@ public interface CardRepository extends JpaRepository<Card, Long>, CardRepositor
                         + "FROM Card c WHERE c.sprint.id IN :sprintIds GROUP BY c.sprint.id")
         List<Object[]> sumPointsBySprintIds(@Param("sprintIds") List<Long> sprintIds);
 
+        /**
+         * 스프린트 스냅샷 집계 [스프린트 ID, 총 포인트, 완료 포인트, 완료 카드 수, 미완료 카드 수]
+         */
+        @Query("SELECT c.sprint.id, "
+                        + "SUM(COALESCE(c.storyPoints, 0)), "
+                        + "SUM(CASE WHEN c.isCompleted = true THEN COALESCE(c.storyPoints, 0) ELSE 0 END), "
+                        + "SUM(CASE WHEN c.isCompleted = true THEN 1 ELSE 0 END), "
+                        + "SUM(CASE WHEN c.isCompleted = true THEN 0 ELSE 1 END) "
+                        + "FROM Card c WHERE c.sprint.id IN :sprintIds GROUP BY c.sprint.id")
+        List<Object[]> summarizeSprints(@Param("sprintIds") List<Long> sprintIds);
+
         /**
          * 스프린트별 포인트 요약 Map 반환
          */
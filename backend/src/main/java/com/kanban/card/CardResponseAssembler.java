@@ -0,0 +1,145 @@
+package com.kanban.card;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import com.kanban.card.dto.CardResponse;
+import com.kanban.label.CardLabel;
+import com.kanban.label.CardLabelRepository;
+import com.kanban.label.dto.LabelResponse;
+import com.kanban.user.UserRepository;
+import com.kanban.user.dto.UserSummary;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카드 목록 응답 조립기
+ * 라벨, 자식 개수, 담당자 정보, 표시 순번을 카드 수와 무관하게 각각 한 번의 쿼리로 일괄 조회하여 CardResponse에 채운다.
+ * CardService, CardWatchService, SearchService의 목록 조회 경로가 공유한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CardResponseAssembler {
+
+    private final CardRepository cardRepository;
+    private final CardLabelRepository cardLabelRepository;
+    private final UserRepository userRepository;
+    private final CardRankService cardRankService;
+
+    /**
+     * 카드 목록을 응답으로 변환 (라벨 + 담당자)
+     */
+    public List<CardResponse> toResponses(List<Card> cards) {
+        return toResponses(cards, false);
+    }
+
+    /**
+     * 카드 목록을 응답으로 변환 (라벨 + 담당자 + 자식 카드 존재 표시) FR-06g: 자식 개수 표시
+     */
+    public List<CardResponse> toResponsesWithChildMarkers(List<Card> cards) {
+        return toResponses(cards, true);
+    }
+
+    private List<CardResponse> toResponses(List<Card> cards, boolean markChildren) {
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+        List<Long> cardIds = cards.stream().map(Card::getId).toList();
+        Map<Long, List<LabelResponse>> labelsByCardId = getLabelsByCardIds(cardIds);
+        Map<Long, Long> childCountByCardId =
+                markChildren ? getChildCountByCardIds(cardIds) : Map.of();
+        Map<Long, Integer> ordinals = getOrdinals(cards);
+
+        List<CardResponse> responses = cards.stream().map(card -> {
+            CardResponse response =
+                    CardResponse.from(card, labelsByCardId.getOrDefault(card.getId(), List.of()));
+            response.setPosition(ordinals.get(card.getId()));
+            // 자식 카드가 있으면 빈 리스트 설정 (프론트엔드에서 childCards != null로 자식 존재 여부 판단)
+            if (childCountByCardId.getOrDefault(card.getId(), 0L) > 0) {
+                response.setChildCards(List.of());
+            }
+            return response;
+        }).toList();
+
+        return enrichWithAssigneeInfo(responses);
+    }
+
+    /**
+     * 여러 카드의 라벨을 한 번에 조회
+     */
+    public Map<Long, List<LabelResponse>> getLabelsByCardIds(Collection<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<CardLabel> cardLabels = cardLabelRepository.findByCardIdIn(List.copyOf(cardIds));
+
+        return cardLabels.stream()
+                .collect(Collectors.groupingBy(cardLabel -> cardLabel.getCard().getId(),
+                        Collectors.mapping(cardLabel -> LabelResponse.from(cardLabel.getLabel()),
+                                Collectors.toList())));
+    }
+
+    /**
+     * 여러 카드의 자식 개수를 GROUP BY 한 번으로 조회 (자식이 없는 카드는 포함되지 않음)
+     */
+    public Map<Long, Long> getChildCountByCardIds(Collection<Long> cardIds) {
+        return cardRepository.countChildrenByParentCardIds(cardIds);
+    }
+
+    /**
+     * 여러 카드의 표시 순번(rankKey 순서)을 한 번에 조회 (저장된 position은 이동 시 갱신되지 않음)
+     */
+    public Map<Long, Integer> getOrdinals(Collection<Card> cards) {
+        return cardRankService.getOrdinals(cards);
+    }
+
+    /**
+     * 여러 사용자의 요약 정보를 한 번에 조회
+     */
+    public Map<Long, UserSummary> getUserSummariesByIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findSummariesByIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserSummary::getId, Function.identity()));
+    }
+
+    /**
+     * CardResponse 목록에 담당자 정보(이름, 아바타) 일괄 추가
+     */
+    public List<CardResponse> enrichWithAssigneeInfo(List<CardResponse> responses) {
+        Set<Long> assigneeIds = responses.stream().map(CardResponse::getAssigneeId)
+                .filter(Objects::nonNull).collect(Collectors.toCollection(HashSet::new));
+        Map<Long, UserSummary> assignees = getUserSummariesByIds(assigneeIds);
+        responses.forEach(response -> applyAssignee(response, assignees));
+        return responses;
+    }
+
+    /**
+     * 단건 CardResponse에 담당자 정보(이름, 아바타) 추가
+     */
+    public CardResponse enrichWithAssigneeInfo(CardResponse response) {
+        if (response.getAssigneeId() == null) {
+            return response;
+        }
+        applyAssignee(response, getUserSummariesByIds(Set.of(response.getAssigneeId())));
+        return response;
+    }
+
+    private void applyAssignee(CardResponse response, Map<Long, UserSummary> assignees) {
+        if (response.getAssigneeId() == null) {
+            return;
+        }
+        UserSummary user = assignees.get(response.getAssigneeId());
+        if (user != null) {
+            response.setAssignee(user.getName());
+            response.setAssigneeAvatarUrl(user.getProxyAvatarUrl());
+        }
+    }
+}
@@ -30,7 +30,6 @@ import com.kanban.exception.CardHasChildrenException;
 import com.kanban.exception.ResourceNotFoundException;
 import com.kanban.history.CardChangedEvent;
 import com.kanban.history.CardChangedEvent.CardChange;
-import com.kanban.label.CardLabel;
 import com.kanban.label.CardLabelRepository;
 import com.kanban.label.dto.LabelResponse;
 import com.kanban.notification.domain.NotificationType;
@@ -60,6 +59,10 @@ public class CardService {
     private final com.kanban.watch.CardWatchService cardWatchService;
     private final com.kanban.notification.NotificationLogRepository notificationLogRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final CardResponseAssembler cardResponseAssembler;
+    private final CardRankService cardRankService;
+    private final com.kanban.column.ColumnOrderVersionService columnOrderVersionService;
+    private final com.kanban.dashboard.DashboardSummaryCache dashboardSummaryCache;
 
     private static final String CHANGE_FIELD_LIFECYCLE = "LIFECYCLE";
     private static final String STATUS_CREATED = "CREATED";
@@ -105,24 +108,9 @@ public class CardService {
                     .size(pageable.getPageSize()).totalElements(0).totalPages(0).last(true).build();
         }
 
-        List<Card> cards = cardPage.getContent();
-        Map<Long, List<LabelResponse>> labelsByCardId =
-                getLabelsByCardIds(cards.stream().map(Card::getId).toList());
-
-        // 자식 카드 개수 조회 (FR-06g)
-        Map<Long, Integer> childCountByCardId =
-                getChildCountByCardIds(cards.stream().map(Card::getId).toList());
-
-        List<CardResponse> responses = cards.stream().map(card -> {
-            CardResponse response =
-                    CardResponse.from(card, labelsByCardId.getOrDefault(card.getId(), List.of()));
-            // 자식 카드가 있으면 빈 리스트 설정 (개수만 필요)
-            int childCount = childCountByCardId.getOrDefault(card.getId(), 0);
-            if (childCount > 0) {
-                response.setChildCards(List.of()); // 프론트엔드에서 childCards != null로 자식 존재 여부 판단
-            }
-            return enrichWithAssigneeInfo(response);
-        }).toList();
+        // 라벨, 자식 카드 개수(FR-06g), 담당자 정보, 표시 순번(position)을 페이지 크기와 무관하게 일괄 조회
+        List<CardResponse> responses =
+                cardResponseAssembler.toResponsesWithChildMarkers(cardPage.getContent());
 
         Page<CardResponse> responsePage =
                 new PageImpl<>(responses, pageable, cardPage.getTotalElements());
@@ -143,7 +131,8 @@ public class CardService {
         List<LabelResponse> labels = cardLabelRepository.findByCardId(cardId).stream()
                 .map(cardLabel -> LabelResponse.from(cardLabel.getLabel())).toList();
 
-        return enrichWithAssigneeInfo(CardResponse.from(card, labels));
+        return enrichWithAssigneeInfo(
+                withOrdinal(card, CardResponse.from(card, labels)));
     }
 
     /**
@@ -177,7 +166,8 @@ public class CardService {
         List<ChildCardSummaryDTO> childCards = childCardEntities.stream().limit(20) // 초기 20개만 로드
                 .map(ChildCardSummaryDTO::from).toList();
 
-        return enrichWithAssigneeInfo(CardResponse.from(card, labels, parentCard, childCards));
+        return enrichWithAssigneeInfo(
+                withOrdinal(card, CardResponse.from(card, labels, parentCard, childCards)));
     }
 
     /**
@@ -196,7 +186,6 @@ public class CardService {
     /**
      * 카드 생성 (권한 검증 없음 - 내부 사용) Spec § 5. 기능 요구사항 - FR-06j: 계층 제한 검증
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     public CardResponse createCard(Long columnId, CreateCardRequest request, Long userId) {
         BoardColumn column = columnRepository.findById(columnId)
                 .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
@@ -220,15 +209,16 @@ public class CardService {
             }
         }
 
-        // 현재 칼럼의 카드 개수를 조회하여 position 설정
+        // 현재 칼럼의 카드 개수를 조회하여 position 설정, rankKey는 칼럼의 마지막 카드 뒤로 지정
         int nextPosition = cardRepository.countByColumnId(columnId);
+        long rankKey = cardRankService.rankForAppend(columnId);
 
         // Priority 기반 StoryPoints 자동 계산
         Integer storyPoints = calculateStoryPoints(request.getPriority());
 
         Card card = Card.builder().column(column).title(request.getTitle())
                 .description(sanitizeHtml(request.getDescription())).position(nextPosition)
-                .bgColor(request.getBgColor()).priority(request.getPriority())
+                .rankKey(rankKey).bgColor(request.getBgColor()).priority(request.getPriority())
                 .dueDate(request.getDueDate()).parentCard(parentCard).storyPoints(storyPoints)
                 .build();
 
@@ -239,19 +229,22 @@ public class CardService {
         }
 
         Card savedCard = cardRepository.save(card);
+        advanceColumnVersion(column, null);
 
         // 활동 기록
         String activityMessage = "\"" + savedCard.getTitle() + "\" 카드가 생성되었습니다";
         if (parentCard != null) {
             activityMessage += " (부모: \"" + parentCard.getTitle() + "\")";
         }
-        activityService.recordActivity(ActivityScopeType.CARD, savedCard.getId(),
+        activityService.recordCardActivity(column.getBoard().getId(), savedCard.getId(),
                 ActivityEventType.CARD_CREATED, userId, activityMessage);
 
         // Redis 이벤트 발행 (라벨 포함)
         List<LabelResponse> labels = cardLabelRepository.findByCardId(savedCard.getId()).stream()
                 .map(cardLabel -> LabelResponse.from(cardLabel.getLabel())).toList();
-        CardResponse response = enrichWithAssigneeInfo(CardResponse.from(savedCard, labels));
+        CardResponse response = enrichWithAssigneeInfo(
+                withOrdinal(savedCard, CardResponse.from(savedCard, labels)));
+        response.setColumnVersion(column.getOrderVersion());
         redisPublisher.publish(new com.kanban.notification.event.BoardEvent(
                 com.kanban.notification.event.BoardEvent.EventType.CARD_CREATED.name(),
                 column.getBoard().getId(), response, userId, System.currentTimeMillis()));
@@ -278,6 +271,7 @@ public class CardService {
         changes.add(new CardChange(CHANGE_FIELD_LIFECYCLE, null, STATUS_CREATED));
         changes.add(new CardChange("COLUMN", null, String.valueOf(column.getId())));
         publishHistory(savedCard.getId(), column.getBoard().getId(), userId, changes);
+        dashboardSummaryCache.refreshBoard(column.getBoard().getId());
 
         return response;
     }
@@ -300,7 +294,6 @@ public class CardService {
     /**
      * 카드 수정 (활동 기록 포함, 권한 검증 없음 - 내부 사용) Spec § 5. 기능 요구사항 - FR-06i: 컬럼 이동 시 부모 관계 해제
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     public CardResponse updateCard(Long columnId, Long cardId, UpdateCardRequest request,
             Long userId) {
         Card card = cardRepository.findByIdAndColumnId(cardId, columnId)
@@ -317,7 +310,11 @@ public class CardService {
 
         List<LabelResponse> labels = cardLabelRepository.findByCardId(updatedCard.getId()).stream()
                 .map(cardLabel -> LabelResponse.from(cardLabel.getLabel())).toList();
-        CardResponse response = enrichWithAssigneeInfo(CardResponse.from(updatedCard, labels));
+        CardResponse response = enrichWithAssigneeInfo(
+                withOrdinal(updatedCard, CardResponse.from(updatedCard, labels)));
+        if (isMoved || request.getPosition() != null) {
+            response.setColumnVersion(updatedCard.getColumn().getOrderVersion());
+        }
         publishBoardEvent(card, userId, isMoved, response);
 
         notifyAssigneeIfNeeded(userId, context, updatedCard);
@@ -328,6 +325,7 @@ public class CardService {
         List<CardChange> historyChanges = buildHistoryChanges(request, context, isMoved);
         publishHistory(updatedCard.getId(), card.getColumn().getBoard().getId(), userId,
                 historyChanges);
+        dashboardSummaryCache.refreshBoard(card.getColumn().getBoard().getId());
 
         return response;
     }
@@ -416,35 +414,51 @@ public class CardService {
                 context.parentRelationRemoved = true;
             }
 
-            cardRepository.updatePositionsFrom(columnId, card.getPosition() + 1, -1);
+            // 원래 칼럼과 대상 칼럼의 순서 버전 증가 (교착 상태 방지를 위해 ID 순서로 잠금, 대상 칼럼만 클라이언트 버전 검사)
+            BoardColumn sourceColumn = card.getColumn();
+            if (sourceColumn.getId() < newColumn.getId()) {
+                advanceColumnVersion(sourceColumn, null);
+                advanceColumnVersion(newColumn, request.getColumnVersion());
+            } else {
+                advanceColumnVersion(newColumn, request.getColumnVersion());
+                advanceColumnVersion(sourceColumn, null);
+            }
 
             card.setColumn(newColumn);
 
+            // rankKey만 갱신하므로 원래 칼럼과 대상 칼럼의 다른 카드는 수정하지 않음
             if (request.getPosition() != null) {
-                cardRepository.updatePositionsFrom(request.getColumnId(), request.getPosition(), 1);
+                card.setRankKey(cardRankService.rankForIndex(request.getColumnId(), card.getId(),
+                        request.getPosition()));
                 card.setPosition(request.getPosition());
             } else {
                 int nextPosition = cardRepository.countByColumnId(request.getColumnId());
+                card.setRankKey(cardRankService.rankForAppend(request.getColumnId()));
                 card.setPosition(nextPosition);
             }
             return true;
         }
 
-        if (request.getPosition() != null && !request.getPosition().equals(card.getPosition())) {
-            handleCardPositionChange(columnId, card, request.getPosition());
+        // 저장된 position은 이동 시 갱신되지 않으므로 표시 순번과 비교하고, 위치를 보낸 요청은 항상 버전 검사
+        if (request.getPosition() != null) {
+            advanceColumnVersion(card.getColumn(), request.getColumnVersion());
+            if (!request.getPosition().equals(cardRankService.getOrdinal(card))) {
+                handleCardPositionChange(columnId, card, request.getPosition());
+            }
         }
         return false;
     }
 
     private void recordActivity(Long cardId, Long userId, UpdateContext context, boolean isMoved,
             Card updatedCard) {
+        Long boardId = updatedCard.getColumn().getBoard().getId();
         if (context.completionStatusChanged) {
             if (context.markedCompleted) {
-                activityService.recordActivity(ActivityScopeType.CARD, cardId,
+                activityService.recordCardActivity(boardId, cardId,
                         ActivityEventType.CARD_COMPLETED, userId,
                         "\"" + updatedCard.getTitle() + "\" 카드가 완료되었습니다");
             } else {
-                activityService.recordActivity(ActivityScopeType.CARD, cardId,
+                activityService.recordCardActivity(boardId, cardId,
                         ActivityEventType.CARD_REOPENED, userId,
                         "\"" + updatedCard.getTitle() + "\" 카드가 다시 진행 중으로 전환되었습니다");
             }
@@ -456,12 +470,12 @@ public class CardService {
             if (context.parentRelationRemoved) {
                 moveMessage += " (부모 관계 해제됨)";
             }
-            activityService.recordActivity(ActivityScopeType.CARD, cardId,
+            activityService.recordCardActivity(boardId, cardId,
                     ActivityEventType.CARD_MOVED, userId, moveMessage);
             return;
         }
 
-        activityService.recordActivity(ActivityScopeType.CARD, cardId,
+        activityService.recordCardActivity(boardId, cardId,
                 ActivityEventType.CARD_UPDATED, userId,
                 "\"" + updatedCard.getTitle() + "\" 카드가 업데이트되었습니다");
     }
@@ -579,7 +593,6 @@ public class CardService {
      * 카드 삭제 (권한 검증 없음 - 내부 사용) Spec § 7. 보안 처리 - 데이터 무결성 FR-06h 변경: 부모 카드 삭제 차단 결정 사항 2: 자식이 있으면 부모
      * 삭제 차단
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     public void deleteCard(Long columnId, Long cardId, Long userId) {
         Card card = cardRepository.findByIdAndColumnId(cardId, columnId)
                 .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
@@ -591,7 +604,6 @@ public class CardService {
         }
 
         String cardTitle = card.getTitle();
-        int deletedPosition = card.getPosition();
 
         // 카드 삭제 전에 관련된 모든 카드-라벨 연결을 먼저 삭제
         cardLabelRepository.deleteByCardId(cardId);
@@ -599,11 +611,11 @@ public class CardService {
         // 카드 삭제
         cardRepository.delete(card);
 
-        // 삭제된 카드 이후의 카드들의 position을 업데이트
-        cardRepository.updatePositionsFrom(columnId, deletedPosition + 1, -1);
+        // rankKey 기반 정렬이므로 나머지 카드의 위치 갱신은 필요 없음, 칼럼 순서 버전만 증가
+        advanceColumnVersion(card.getColumn(), null);
 
         // 활동 기록
-        activityService.recordActivity(ActivityScopeType.CARD, cardId,
+        activityService.recordCardActivity(card.getColumn().getBoard().getId(), cardId,
                 ActivityEventType.CARD_DELETED, userId, "\"" + cardTitle + "\" 카드가 삭제되었습니다");
 
         // Redis 이벤트 발행
@@ -616,6 +628,7 @@ public class CardService {
         List<CardChange> changes =
                 List.of(new CardChange(CHANGE_FIELD_LIFECYCLE, STATUS_CREATED, STATUS_DELETED));
         publishHistory(cardId, card.getColumn().getBoard().getId(), userId, changes);
+        dashboardSummaryCache.refreshBoard(card.getColumn().getBoard().getId());
     }
 
     /**
@@ -632,7 +645,6 @@ public class CardService {
     /**
      * 카드 시작 처리 (권한 검증 없음 - 내부 사용)
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     public CardResponse startCard(Long columnId, Long cardId, Long userId) {
         Card card = cardRepository.findByIdAndColumnId(cardId, columnId)
                 .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
@@ -654,7 +666,7 @@ public class CardService {
 
         // 활동 기록: 상태가 변했을 때만 기록
         if (!hadStart || wasCompleted) {
-            activityService.recordActivity(ActivityScopeType.CARD, cardId,
+            activityService.recordCardActivity(updated.getColumn().getBoard().getId(), cardId,
                     ActivityEventType.CARD_STARTED, userId,
                     "\"" + updated.getTitle() + "\" 카드가 시작되었습니다");
         }
@@ -662,75 +674,45 @@ public class CardService {
         // Redis 이벤트 발행 (카드 갱신 알림)
         List<LabelResponse> labels = cardLabelRepository.findByCardId(updated.getId()).stream()
                 .map(cardLabel -> LabelResponse.from(cardLabel.getLabel())).toList();
-        CardResponse response = enrichWithAssigneeInfo(CardResponse.from(updated, labels));
+        CardResponse response = enrichWithAssigneeInfo(
+                withOrdinal(updated, CardResponse.from(updated, labels)));
         redisPublisher.publish(new com.kanban.notification.event.BoardEvent(
                 com.kanban.notification.event.BoardEvent.EventType.CARD_UPDATED.name(),
                 card.getColumn().getBoard().getId(), response, userId, System.currentTimeMillis()));
+        dashboardSummaryCache.refreshBoard(card.getColumn().getBoard().getId());
 
         return response;
     }
 
     /**
-     * 카드 위치 변경 처리
+     * 칼럼 순서 버전 검사 및 증가 - 버전 불일치 시 현재 카드 순서와 함께 409 응답
      */
-    private void handleCardPositionChange(Long columnId, Card card, Integer newPosition) {
-        int oldPosition = card.getPosition();
-
-        if (newPosition < oldPosition) {
-            // 위로 이동: newPosition 이상 oldPosition 미만의 카드들을 아래로 한 칸 이동
-            cardRepository.updatePositionsFrom(columnId, newPosition, 1);
-            cardRepository.updatePositionsFrom(columnId, oldPosition + 1, -1);
-        } else if (newPosition > oldPosition) {
-            // 아래로 이동: oldPosition 초과 newPosition 이하의 카드들을 위로 한 칸 이동
-            cardRepository.updatePositionsFrom(columnId, oldPosition + 1, -1);
-            cardRepository.updatePositionsFrom(columnId, newPosition, 1);
-        }
-
-        card.setPosition(newPosition);
+    private void advanceColumnVersion(BoardColumn column, Long expectedVersion) {
+        columnOrderVersionService.advance(column, expectedVersion,
+                () -> cardRankService.getOrderedCardIds(column.getId()));
     }
 
-    private Map<Long, List<LabelResponse>> getLabelsByCardIds(List<Long> cardIds) {
-        if (cardIds.isEmpty()) {
-            return Map.of();
-        }
-
-        List<CardLabel> cardLabels = cardLabelRepository.findByCardIdIn(cardIds);
-
-        return cardLabels.stream()
-                .collect(Collectors.groupingBy(cardLabel -> cardLabel.getCard().getId(),
-                        Collectors.mapping(cardLabel -> LabelResponse.from(cardLabel.getLabel()),
-                                Collectors.toList())));
+    /**
+     * 카드 위치 변경 처리 - 이웃 카드 사이의 rankKey를 부여하여 이동한 카드 한 행만 갱신
+     */
+    private void handleCardPositionChange(Long columnId, Card card, Integer newPosition) {
+        card.setRankKey(cardRankService.rankForIndex(columnId, card.getId(), newPosition));
+        card.setPosition(newPosition);
     }
 
     /**
-     * 여러 카드의 자식 개수 조회 FR-06g: 자식 개수 표시를 위한 헬퍼 메서드
+     * 단건 응답의 position을 rankKey 순서의 표시 순번으로 설정 (저장된 position은 이동 시 갱신되지 않음)
      */
-    private Map<Long, Integer> getChildCountByCardIds(List<Long> cardIds) {
-        if (cardIds.isEmpty()) {
-            return Map.of();
-        }
-
-        return cardIds.stream().collect(Collectors.toMap(cardId -> cardId,
-                cardId -> cardRepository.countByParentCardId(cardId)));
+    private CardResponse withOrdinal(Card card, CardResponse cardResponse) {
+        cardResponse.setPosition(cardRankService.getOrdinal(card));
+        return cardResponse;
     }
 
     /**
      * CardResponse에 담당자 정보(이름, 아바타) 추가
      */
     private CardResponse enrichWithAssigneeInfo(CardResponse cardResponse) {
-        if (cardResponse.getAssigneeId() != null) {
-            userRepository.findById(cardResponse.getAssigneeId()).ifPresent(user -> {
-                cardResponse.setAssignee(user.getName());
-                // Convert avatarUrl to proxy URL for consistent access
-                String avatarUrl = user.getAvatarUrl();
-                if (avatarUrl != null && !avatarUrl.startsWith("/users/")) {
-                    // blob URL이면 프록시 URL로 변환
-                    avatarUrl = "/users/" + user.getId() + "/avatar";
-                }
-                cardResponse.setAssigneeAvatarUrl(avatarUrl);
-            });
-        }
-        return cardResponse;
+        return cardResponseAssembler.enrichWithAssigneeInfo(cardResponse);
     }
 
     /**
@@ -789,7 +771,6 @@ public class CardService {
     /**
      * 칼럼의 모든 미아카이브 카드 일괄 아카이브
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     public List<CardResponse> archiveAllCardsInColumn(Long boardId, Long columnId, Long userId) {
         roleValidator.validateRole(boardId, BoardMemberRole.EDITOR, ApiTokenScope.CARD_ARCHIVE);
 
@@ -817,7 +798,6 @@ public class CardService {
     /**
      * 카드 아카이브 (내부 사용)
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     private CardResponse archiveCardInternal(Long columnId, Long cardId, Long userId) {
         Card card = cardRepository.findByIdAndColumnId(cardId, columnId)
                 .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
@@ -829,16 +809,18 @@ public class CardService {
         card.setIsArchived(true);
         card.setArchivedAt(LocalDateTime.now());
         Card archived = cardRepository.save(card);
+        advanceColumnVersion(archived.getColumn(), null);
 
         // 활동 기록
-        activityService.recordActivity(ActivityScopeType.CARD, cardId,
+        activityService.recordCardActivity(archived.getColumn().getBoard().getId(), cardId,
                 ActivityEventType.CARD_UPDATED, userId,
                 "\"" + archived.getTitle() + "\" 카드가 아카이브되었습니다");
 
         // Redis 이벤트 발행
         List<LabelResponse> labels = cardLabelRepository.findByCardId(archived.getId()).stream()
                 .map(cardLabel -> LabelResponse.from(cardLabel.getLabel())).toList();
-        CardResponse response = enrichWithAssigneeInfo(CardResponse.from(archived, labels));
+        CardResponse response = enrichWithAssigneeInfo(
+                withOrdinal(archived, CardResponse.from(archived, labels)));
         redisPublisher.publish(new com.kanban.notification.event.BoardEvent(
                 com.kanban.notification.event.BoardEvent.EventType.CARD_UPDATED.name(),
                 card.getColumn().getBoard().getId(), response, userId, System.currentTimeMillis()));
@@ -847,6 +829,7 @@ public class CardService {
         List<CardChange> changes =
                 List.of(new CardChange("STATUS", STATUS_ACTIVE, STATUS_ARCHIVED));
         publishHistory(archived.getId(), card.getColumn().getBoard().getId(), userId, changes);
+        dashboardSummaryCache.refreshBoard(card.getColumn().getBoard().getId());
 
         return response;
     }
@@ -864,7 +847,6 @@ public class CardService {
     /**
      * 카드 아카이브 복구 (내부 사용)
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     private CardResponse unarchiveCardInternal(Long cardId, Long userId) {
         Card card = cardRepository.findById(cardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
@@ -876,16 +858,18 @@ public class CardService {
         card.setIsArchived(false);
         card.setArchivedAt(null);
         Card unarchived = cardRepository.save(card);
+        advanceColumnVersion(unarchived.getColumn(), null);
 
         // 활동 기록
-        activityService.recordActivity(ActivityScopeType.CARD, cardId,
+        activityService.recordCardActivity(unarchived.getColumn().getBoard().getId(), cardId,
                 ActivityEventType.CARD_UPDATED, userId,
                 "\"" + unarchived.getTitle() + "\" 카드가 복구되었습니다");
 
         // Redis 이벤트 발행
         List<LabelResponse> labels = cardLabelRepository.findByCardId(unarchived.getId()).stream()
                 .map(cardLabel -> LabelResponse.from(cardLabel.getLabel())).toList();
-        CardResponse response = enrichWithAssigneeInfo(CardResponse.from(unarchived, labels));
+        CardResponse response = enrichWithAssigneeInfo(
+                withOrdinal(unarchived, CardResponse.from(unarchived, labels)));
         redisPublisher.publish(new com.kanban.notification.event.BoardEvent(
                 com.kanban.notification.event.BoardEvent.EventType.CARD_UPDATED.name(),
                 card.getColumn().getBoard().getId(), response, userId, System.currentTimeMillis()));
@@ -894,6 +878,7 @@ public class CardService {
         List<CardChange> changes =
                 List.of(new CardChange("STATUS", STATUS_ARCHIVED, STATUS_ACTIVE));
         publishHistory(unarchived.getId(), card.getColumn().getBoard().getId(), userId, changes);
+        dashboardSummaryCache.refreshBoard(card.getColumn().getBoard().getId());
 
         return response;
     }
@@ -911,20 +896,12 @@ public class CardService {
             return List.of();
         }
 
-        Map<Long, List<LabelResponse>> labelsByCardId =
-                getLabelsByCardIds(archivedCards.stream().map(Card::getId).toList());
-
-        return archivedCards.stream().map(card -> {
-            CardResponse response =
-                    CardResponse.from(card, labelsByCardId.getOrDefault(card.getId(), List.of()));
-            return enrichWithAssigneeInfo(response);
-        }).toList();
+        return cardResponseAssembler.toResponses(archivedCards);
     }
 
     /**
      * 아카이브된 카드 일괄 복구 (보드 단위 요약 이벤트만 기록)
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     public List<CardResponse> unarchiveCardsInBulk(Long boardId, List<Long> cardIds, Long userId) {
         roleValidator.validateRole(boardId, BoardMemberRole.EDITOR, ApiTokenScope.CARD_ARCHIVE);
 
@@ -948,19 +925,17 @@ public class CardService {
         }
 
         List<Card> saved = cardRepository.saveAll(cards);
+        // 복구된 카드가 있는 칼럼의 순서 버전 증가 (교착 상태 방지를 위해 ID 순서로 잠금)
+        saved.stream().map(Card::getColumn)
+                .collect(Collectors.toMap(BoardColumn::getId, Function.identity(),
+                        (first, second) -> first, java.util.TreeMap::new))
+                .values().forEach(column -> advanceColumnVersion(column, null));
         Map<Long, Card> savedById = saved.stream()
                 .collect(Collectors.toMap(Card::getId, Function.identity()));
 
-        Map<Long, List<LabelResponse>> labelsByCardId =
-                getLabelsByCardIds(saved.stream().map(Card::getId).toList());
-
-        List<CardResponse> responses = new ArrayList<>();
-        for (Long cardId : cardIds) {
-            Card card = savedById.get(cardId);
-            CardResponse response = CardResponse.from(card,
-                    labelsByCardId.getOrDefault(cardId, List.of()));
-            responses.add(enrichWithAssigneeInfo(response));
-        }
+        // 요청 순서대로 응답 (라벨/담당자는 일괄 조회)
+        List<CardResponse> responses = cardResponseAssembler
+                .toResponses(cardIds.stream().map(savedById::get).toList());
 
         activityService.recordActivity(ActivityScopeType.BOARD, boardId,
                 ActivityEventType.CARD_UPDATED, userId,
@@ -970,6 +945,7 @@ public class CardService {
                 com.kanban.notification.event.BoardEvent.EventType.CARD_UPDATED.name(), boardId,
                 Map.of("action", "BULK_UNARCHIVE", "cards", responses), userId,
                 System.currentTimeMillis()));
+        dashboardSummaryCache.refreshBoard(boardId);
 
         return responses;
     }
@@ -977,7 +953,6 @@ public class CardService {
     /**
      * 아카이브된 카드 일괄 영구 삭제 (보드 단위 요약 이벤트만 기록)
      */
-    @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary", allEntries = true)
     public void permanentlyDeleteCardsInBulk(Long boardId, List<Long> cardIds, Long userId) {
         roleValidator.validateRole(boardId, BoardMemberRole.MANAGER, ApiTokenScope.CARD_MANAGE);
 
@@ -996,10 +971,13 @@ public class CardService {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                         "Only archived cards can be permanently deleted in bulk");
             }
+        }
 
-            int childCount = cardRepository.countByParentCardId(card.getId());
+        Map<Long, Long> childCountByCardId =
+                cardResponseAssembler.getChildCountByCardIds(cardIds);
+        for (Long childCount : childCountByCardId.values()) {
             if (childCount > 0) {
-                throw new CardHasChildrenException(childCount);
+                throw new CardHasChildrenException(childCount.intValue());
             }
         }
 
@@ -1020,6 +998,7 @@ public class CardService {
                 com.kanban.notification.event.BoardEvent.EventType.CARD_DELETED.name(), boardId,
                 Map.of("action", "BULK_DELETE", "cards", deletedSummaries), userId,
                 System.currentTimeMillis()));
+        dashboardSummaryCache.refreshBoard(boardId);
     }
 
     /**
@@ -1052,7 +1031,7 @@ public class CardService {
         cardRepository.delete(card);
 
         // 활동 기록
-        activityService.recordActivity(ActivityScopeType.CARD, cardId,
+        activityService.recordCardActivity(boardId, cardId,
                 ActivityEventType.CARD_DELETED, userId, "\"" + cardTitle + "\" 카드가 영구 삭제되었습니다");
 
         // Redis 이벤트 발행
@@ -1066,6 +1045,7 @@ public class CardService {
         List<CardChange> changes = List.of(new CardChange(CHANGE_FIELD_LIFECYCLE, STATUS_ARCHIVED,
                 STATUS_DELETED_PERMANENTLY));
         publishHistory(cardId, card.getColumn().getBoard().getId(), userId, changes);
+        dashboardSummaryCache.refreshBoard(boardId);
     }
 
     private void processMentions(String content, Card card, Long authorId) {
@@ -1099,29 +1079,20 @@ public class CardService {
 
         com.kanban.user.User author = userRepository.findById(authorId).orElseThrow();
 
-        for (Long userId : mentionedUserIds) {
-            if (!userId.equals(authorId)) {
-                log.info("[MENTION] Looking up user with ID: {}", userId);
-                userRepository.findById(userId).ifPresentOrElse(user -> {
-                    String message = String.format("%s님이 카드 설명에서 회원님을 언급했습니다.", author.getName());
-                    String url = String.format("/boards/%d/%d?cardId=%d&columnId=%d",
-                            card.getColumn().getBoard().getWorkspace().getId(),
-                            card.getColumn().getBoard().getId(), card.getId(),
-                            card.getColumn().getId());
-                    log.info("[MENTION] Sending notification to user: {} (ID: {})", user.getName(),
-                            user.getId());
-                    try {
-                        notificationService.createNotification(user.getId(),
-                                NotificationType.CARD_MENTION, message, url);
-                        log.info("[MENTION] Notification sent successfully");
-                    } catch (Exception e) {
-                        log.error("[MENTION] Failed to send notification", e);
-                    }
-                }, () -> log.warn("[MENTION] User not found with ID: {}", userId));
-            } else {
-                log.info("[MENTION] Skipping self-mention for user ID: {}", userId);
-            }
+        mentionedUserIds.remove(authorId);
+        List<Long> recipientIds = userRepository.findAllById(mentionedUserIds).stream()
+                .map(com.kanban.user.User::getId).toList();
+        if (recipientIds.size() < mentionedUserIds.size()) {
+            log.warn("[MENTION] Skipping unknown mentioned users among: {}", mentionedUserIds);
         }
+
+        String message = String.format("%s님이 카드 설명에서 회원님을 언급했습니다.", author.getName());
+        String url = String.format("/boards/%d/%d?cardId=%d&columnId=%d",
+                card.getColumn().getBoard().getWorkspace().getId(),
+                card.getColumn().getBoard().getId(), card.getId(), card.getColumn().getId());
+        notificationService.createNotifications(recipientIds, NotificationType.CARD_MENTION,
+                message, url);
+        log.info("[MENTION] Queued {} mention notification(s)", recipientIds.size());
     }
 
     private void publishHistory(Long cardId, Long boardId, Long userId, List<CardChange> changes) {
@@ -0,0 +1,40 @@
+package com.kanban.card.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import com.kanban.column.dto.ColumnResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보드 스냅샷 응답 DTO
+ * 보드 화면 최초 렌더링에 필요한 칼럼/카드/라벨/담당자 정보를 한 번에 전달
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSnapshotResponse {
+
+    private Long boardId;
+
+    private List<ColumnSnapshot> columns;
+
+    private long totalCards;
+
+    private LocalDateTime generatedAt;
+
+    /**
+     * 칼럼 단위 스냅샷 (칼럼 정보 + 위치 순 카드 목록)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ColumnSnapshot {
+        private ColumnResponse column;
+        private List<CardResponse> cards;
+    }
+}
@@ -67,6 +67,11 @@ public class CardResponse {
      */
     private Integer storyPoints;
 
+    /**
+     * 생성/이동 후 칼럼 순서 버전 (카드 생성, 이동 응답에서만 설정)
+     */
+    private Long columnVersion;
+
     /**
      * Card 엔티티를 CardResponse로 변환
      */
@@ -33,5 +33,10 @@ public class UpdateCardRequest {
 
     private Long columnId;
 
+    /**
+     * 이동 대상 칼럼의 순서 버전 (클라이언트가 마지막으로 본 값, null이면 검사 생략)
+     */
+    private Long columnVersion;
+
     private Boolean isCompleted;
 }
@@ -59,6 +59,16 @@ public class BoardColumn extends BaseEntity {
     @Column(length = 50)
     private String bgColor;
 
+    /**
+     * 칼럼 내 카드 순서 버전 (카드 생성, 삭제, 이동, 아카이브/복구 시 1씩 증가)
+     * 클라이언트가 마지막으로 본 버전과 다르면 카드 이동 요청을 409로 거절
+     * (보드 내 칼럼 순서는 Board.columnOrderVersion으로 관리)
+     * 조건부 UPDATE로만 증가시키며, 엔티티 저장 시 읽어 둔 값으로 덮어쓰지 않도록 updatable = false
+     */
+    @Column(name = "order_version", updatable = false)
+    @Builder.Default
+    private Long orderVersion = 0L;
+
     /**
      * 칼럼 생성 시간
      */
@@ -88,7 +88,8 @@ public class ColumnController {
 
         // position이 포함된 경우 위치 업데이트
         if (request.getPosition() != null) {
-            column = columnService.updateColumnPositionWithValidation(boardId, columnId, request.getPosition(), userId);
+            column = columnService.updateColumnPositionWithValidation(boardId, columnId, request.getPosition(),
+                request.getColumnOrderVersion(), userId);
         } else {
             column = columnService.updateColumnWithValidation(
                 boardId,
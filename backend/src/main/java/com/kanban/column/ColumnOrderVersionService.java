@@ -0,0 +1,72 @@
+package com.kanban.column;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.kanban.board.BoardRepository;
+import com.kanban.exception.ColumnOrderConflictException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 순서 버전 관리 서비스
+ * 칼럼 내 카드 순서는 칼럼의 order_version, 보드의 칼럼 순서는 보드의 column_order_version으로 관리한다.
+ * 카드 생성/삭제/이동/아카이브 시 칼럼 버전을, 칼럼 생성/삭제/위치 변경 시 보드 버전을 검사하고 증가시킨다.
+ * 조건부 UPDATE 한 번으로 검사와 증가를 원자적으로 처리하며, 같은 칼럼(보드)의 동시 변경만 행 잠금으로 직렬화된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ColumnOrderVersionService {
+
+        private final ColumnRepository columnRepository;
+        private final BoardRepository boardRepository;
+
+        /**
+         * 칼럼 내 카드 순서 버전 검사 후 증가
+         *
+         * @param expectedVersion 클라이언트가 본 버전 (null이면 검사 없이 증가)
+         * @param currentOrdering 충돌 시 응답에 담을 현재 순서 (ID 목록)
+         * @return 증가된 버전
+         * @throws ColumnOrderConflictException 버전 불일치 시
+         */
+        public long advance(BoardColumn column, Long expectedVersion,
+                        Supplier<List<Long>> currentOrdering) {
+                int updated = columnRepository.incrementOrderVersion(column.getId(), expectedVersion);
+                Long currentVersion = columnRepository.findOrderVersionById(column.getId());
+                if (updated == 0) {
+                        throw new ColumnOrderConflictException(column.getId(), expectedVersion,
+                                        currentVersion, currentOrdering.get());
+                }
+                // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 엔티티 값도 맞춰 둔다
+                column.setOrderVersion(currentVersion);
+                return currentVersion;
+        }
+
+        /**
+         * 보드의 칼럼 순서 버전 검사 후 증가
+         *
+         * @param expectedVersion 클라이언트가 본 버전 (null이면 검사 없이 증가)
+         * @param currentOrdering 충돌 시 응답에 담을 현재 칼럼 순서 (ID 목록)
+         * @return 증가된 버전
+         * @throws ColumnOrderConflictException 버전 불일치 시
+         */
+        public long advanceBoard(Long boardId, Long expectedVersion,
+                        Supplier<List<Long>> currentOrdering) {
+                int updated = boardRepository.incrementColumnOrderVersion(boardId, expectedVersion);
+                Long currentVersion = boardRepository.findColumnOrderVersionById(boardId);
+                if (updated == 0) {
+                        throw ColumnOrderConflictException.forBoard(boardId, expectedVersion,
+                                        currentVersion, currentOrdering.get());
+                }
+                return currentVersion;
+        }
+
+        /**
+         * 보드의 현재 칼럼 순서 버전
+         */
+        public long getBoardVersion(Long boardId) {
+                Long version = boardRepository.findColumnOrderVersionById(boardId);
+                return version == null ? 0L : version;
+        }
+}
@@ -52,6 +52,25 @@ public interface ColumnRepository extends JpaRepository<BoardColumn, Long> {
                         @Param("toPosition") Integer toPosition,
                         @Param("offset") Integer offset);
 
+        /**
+         * 칼럼 순서 버전 증가 (expectedVersion이 null이 아니면 현재 버전과 일치할 때만 증가)
+         * 영속성 컨텍스트를 비우지 않도록 clearAutomatically를 사용하지 않음
+         *
+         * @return 갱신된 행 수 (0이면 버전 불일치)
+         */
+        @Modifying
+        @Query("UPDATE BoardColumn c SET c.orderVersion = COALESCE(c.orderVersion, 0) + 1 "
+                        + "WHERE c.id = :columnId "
+                        + "AND (:expectedVersion IS NULL OR COALESCE(c.orderVersion, 0) = :expectedVersion)")
+        int incrementOrderVersion(@Param("columnId") Long columnId,
+                        @Param("expectedVersion") Long expectedVersion);
+
+        /**
+         * 칼럼 순서 버전 조회
+         */
+        @Query("SELECT COALESCE(c.orderVersion, 0) FROM BoardColumn c WHERE c.id = :columnId")
+        Long findOrderVersionById(@Param("columnId") Long columnId);
+
         /**
          * 워크스페이스 내에서 이름으로 칼럼 검색
          */
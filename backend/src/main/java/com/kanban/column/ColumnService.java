@@ -13,6 +13,7 @@ import com.kanban.board.BoardRepository;
 import com.kanban.board.member.BoardMemberRole;
 import com.kanban.board.member.BoardMemberRoleValidator;
 import com.kanban.column.dto.ColumnResponse;
+import com.kanban.dashboard.DashboardSummaryCache;
 import com.kanban.util.MessageSourceService;
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +33,8 @@ public class ColumnService {
         private final BoardMemberRoleValidator roleValidator;
         private final com.kanban.notification.service.RedisPublisher redisPublisher;
         private final MessageSourceService messageSourceService;
+        private final ColumnOrderVersionService columnOrderVersionService;
+        private final DashboardSummaryCache dashboardSummaryCache;
 
         /**
          * 특정 보드의 모든 칼럼 조회
@@ -39,8 +42,9 @@ public class ColumnService {
         @Transactional(readOnly = true)
         public List<ColumnResponse> getColumnsByBoard(Long boardId) {
                 roleValidator.validateRole(boardId, BoardMemberRole.VIEWER, ApiTokenScope.BOARD_READ);
+                long columnOrderVersion = columnOrderVersionService.getBoardVersion(boardId);
                 return columnRepository.findByBoardIdOrderByPosition(boardId).stream()
-                                .map(ColumnResponse::from).toList();
+                                .map(column -> toResponse(column, columnOrderVersion)).toList();
         }
 
         /**
@@ -73,8 +77,6 @@ public class ColumnService {
         /**
          * 칼럼 생성 (권한 검증 없음 - 내부 사용)
          */
-        @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary",
-                        allEntries = true)
         public ColumnResponse createColumn(Long boardId, String name, String description,
                         String bgColor, Long userId) {
                 Board board = boardRepository.findById(boardId).orElseThrow(
@@ -89,6 +91,8 @@ public class ColumnService {
                                 .build();
 
                 BoardColumn savedColumn = columnRepository.save(column);
+                long columnOrderVersion = columnOrderVersionService.advanceBoard(boardId, null,
+                                List::of);
 
                 // 활동 기록
                 String activityMessage = messageSourceService.getMessage("activity.column.created",
@@ -97,8 +101,7 @@ public class ColumnService {
                                 ActivityEventType.COLUMN_CREATED, userId, activityMessage);
 
                 // Redis 이벤트 발행
-                // Redis 이벤트 발행
-                ColumnResponse response = ColumnResponse.from(savedColumn);
+                ColumnResponse response = toResponse(savedColumn, columnOrderVersion);
                 redisPublisher.publish(new com.kanban.notification.event.BoardEvent(
                                 com.kanban.notification.event.BoardEvent.EventType.COLUMN_CREATED
                                                 .name(),
@@ -123,8 +126,6 @@ public class ColumnService {
         /**
          * 칼럼 업데이트 (권한 검증 없음 - 내부 사용)
          */
-        @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary",
-                        allEntries = true)
         public ColumnResponse updateColumn(Long columnId, String name, String description,
                         String bgColor) {
                 BoardColumn column = columnRepository.findById(columnId)
@@ -165,20 +166,19 @@ public class ColumnService {
                         targetType = com.kanban.audit.AuditTargetType.COLUMN,
                         targetId = "#columnId")
         public ColumnResponse updateColumnPositionWithValidation(Long boardId, Long columnId,
-                        Integer newPosition, Long userId) {
+                        Integer newPosition, Long expectedVersion, Long userId) {
                 // EDITOR 이상 권한 필요
                 roleValidator.validateRole(boardId, BoardMemberRole.EDITOR, ApiTokenScope.BOARD_WRITE);
 
-                return updateColumnPosition(boardId, columnId, newPosition, userId);
+                return updateColumnPosition(boardId, columnId, newPosition, expectedVersion, userId);
         }
 
         /**
          * 칼럼 위치 업데이트 (드래그 앤 드롭, 권한 검증 없음 - 내부 사용)
+         * expectedVersion이 주어지면 보드의 칼럼 순서 버전을 검사하여, 다른 사용자가 먼저 순서를 바꾼 경우 409로 거절
          */
-        @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary",
-                        allEntries = true)
         public ColumnResponse updateColumnPosition(Long boardId, Long columnId, Integer newPosition,
-                        Long userId) {
+                        Long expectedVersion, Long userId) {
                 // 1. 모든 칼럼 조회
                 List<BoardColumn> allColumns = columnRepository.findByBoardIdOrderByPosition(boardId);
 
@@ -193,16 +193,23 @@ public class ColumnService {
 
                 // 위치가 변경되지 않은 경우 바로 반환
                 if (currentPosition == newPosition) {
-                        return ColumnResponse.from(targetColumn);
+                        return toResponse(targetColumn,
+                                        columnOrderVersionService.getBoardVersion(boardId));
                 }
 
+                List<Long> currentOrdering = allColumns.stream().map(BoardColumn::getId).toList();
+
                 // 3. 리스트에서 해당 칼럼 제거
                 allColumns.remove(targetColumn);
 
                 // 4. 새 위치에 삽입
                 allColumns.add(newPosition, targetColumn);
 
-                // 5. 모든 칼럼의 position을 순차적으로 재계산
+                // 5. 보드의 칼럼 순서 버전 검사 및 증가 (칼럼 내 카드 순서 버전은 건드리지 않음)
+                long columnOrderVersion = columnOrderVersionService.advanceBoard(boardId,
+                                expectedVersion, () -> currentOrdering);
+
+                // 모든 칼럼의 position을 순차적으로 재계산
                 for (int i = 0; i < allColumns.size(); i++) {
                         allColumns.get(i).setPosition(i);
                 }
@@ -217,14 +224,13 @@ public class ColumnService {
 
                 // 8. Redis 이벤트 발행 - 전체 칼럼 목록을 전송
                 List<ColumnResponse> columnResponses = allColumns.stream()
-                                .map(ColumnResponse::from)
-                                .toList();
+                                .map(column -> toResponse(column, columnOrderVersion)).toList();
                 redisPublisher.publish(new com.kanban.notification.event.BoardEvent(
                                 com.kanban.notification.event.BoardEvent.EventType.COLUMN_REORDERED
                                                 .name(),
                                 boardId, columnResponses, userId, System.currentTimeMillis()));
 
-                return ColumnResponse.from(targetColumn);
+                return columnResponses.get(newPosition);
         }
 
         /**
@@ -243,8 +249,6 @@ public class ColumnService {
         /**
          * 칼럼 삭제 (권한 검증 없음 - 내부 사용)
          */
-        @org.springframework.cache.annotation.CacheEvict(value = "dashboardSummary",
-                        allEntries = true)
         public void deleteColumn(Long boardId, Long columnId, Long userId) {
                 BoardColumn column = columnRepository.findByIdAndBoardId(columnId, boardId)
                                 .orElseThrow(() -> new NoSuchElementException(
@@ -258,6 +262,7 @@ public class ColumnService {
 
                 // 삭제된 칼럼 뒤의 모든 칼럼의 position을 한 칸씩 앞으로 이동
                 columnRepository.updatePositionsFrom(boardId, deletedPosition, -1);
+                columnOrderVersionService.advanceBoard(boardId, null, List::of);
 
                 // 활동 기록
                 activityService.recordActivity(ActivityScopeType.BOARD, boardId,
@@ -271,5 +276,17 @@ public class ColumnService {
                                 boardId,
                                 java.util.Map.of("columnId", columnId, "action", "deleted"), userId,
                                 System.currentTimeMillis()));
+
+                // 칼럼과 함께 삭제된 카드를 대시보드 요약에 반영
+                dashboardSummaryCache.refreshBoard(boardId);
+        }
+
+        /**
+         * 보드의 칼럼 순서 버전을 포함한 칼럼 응답
+         */
+        private static ColumnResponse toResponse(BoardColumn column, long columnOrderVersion) {
+                ColumnResponse response = ColumnResponse.from(column);
+                response.setColumnOrderVersion(columnOrderVersion);
+                return response;
         }
 }
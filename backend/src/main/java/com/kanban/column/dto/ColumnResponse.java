@@ -29,6 +29,16 @@ public class ColumnResponse {
 
     private String bgColor;
 
+    /**
+     * 칼럼 내 카드 순서 버전 (카드 이동 요청 시 그대로 전달)
+     */
+    private Long orderVersion;
+
+    /**
+     * 보드의 칼럼 순서 버전 (칼럼 위치 변경 요청 시 그대로 전달, 칼럼 목록/생성/위치 변경 응답에서만 설정)
+     */
+    private Long columnOrderVersion;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -41,6 +51,7 @@ public class ColumnResponse {
             .description(column.getDescription())
             .position(column.getPosition())
             .bgColor(column.getBgColor())
+            .orderVersion(column.getOrderVersion())
             .createdAt(column.getCreatedAt())
             .updatedAt(column.getUpdatedAt())
             .build();
@@ -21,4 +21,9 @@ public class UpdateColumnRequest {
     private String bgColor;
 
     private Integer position;
+
+    /**
+     * 위치 변경 시 클라이언트가 마지막으로 본 보드의 칼럼 순서 버전 (null이면 검사 생략)
+     */
+    private Long columnOrderVersion;
 }
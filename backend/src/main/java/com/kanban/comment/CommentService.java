@@ -1,6 +1,7 @@
 package com.kanban.comment;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -123,7 +124,7 @@ public class CommentService {
 
                 // Activity 로그 기록
                 // Spec § FR-06h: COMMENT_ADDED 이벤트 기록
-                activityService.recordActivity(ActivityScopeType.CARD, cardId,
+                activityService.recordCardActivity(card.getColumn().getBoard().getId(), cardId,
                                 ActivityEventType.COMMENT_ADDED, currentUserId,
                                 String.format("%s님이 댓글을 작성했습니다", author.getName()), null);
 
@@ -291,33 +292,21 @@ public class CommentService {
                 log.info("[MENTION] Found {} mention(s): {}", mentionedUserIds.size(),
                                 mentionedUserIds);
 
-                for (Long userId : mentionedUserIds) {
-                        if (!userId.equals(author.getId())) {
-                                log.info("[MENTION] Looking up user with ID: {}", userId);
-                                userRepository.findById(userId).ifPresentOrElse(user -> {
-                                        String message = String.format("%s님이 댓글에서 회원님을 언급했습니다.",
-                                                        author.getName());
-                                        String url = String.format(
-                                                        "/boards/%d/%d?cardId=%d&columnId=%d",
-                                                        card.getColumn().getBoard().getWorkspace()
-                                                                        .getId(),
-                                                        card.getColumn().getBoard().getId(),
-                                                        card.getId(), card.getColumn().getId());
-                                        log.info("[MENTION] Sending notification to user: {} (ID: {})",
-                                                        user.getName(), user.getId());
-                                        try {
-                                                notificationService.createNotification(user.getId(),
-                                                                NotificationType.COMMENT_MENTION,
-                                                                message, url);
-                                                log.info("[MENTION] Notification sent successfully");
-                                        } catch (Exception e) {
-                                                log.error("[MENTION] Failed to send notification",
-                                                                e);
-                                        }
-                                }, () -> log.warn("[MENTION] User not found with ID: {}", userId));
-                        } else {
-                                log.info("[MENTION] Skipping self-mention for user ID: {}", userId);
-                        }
+                mentionedUserIds.remove(author.getId());
+                List<Long> recipientIds = userRepository.findAllById(mentionedUserIds).stream()
+                                .map(User::getId).toList();
+                if (recipientIds.size() < mentionedUserIds.size()) {
+                        log.warn("[MENTION] Skipping unknown mentioned users among: {}",
+                                        mentionedUserIds);
                 }
+
+                String message = String.format("%s님이 댓글에서 회원님을 언급했습니다.", author.getName());
+                String url = String.format("/boards/%d/%d?cardId=%d&columnId=%d",
+                                card.getColumn().getBoard().getWorkspace().getId(),
+                                card.getColumn().getBoard().getId(), card.getId(),
+                                card.getColumn().getId());
+                notificationService.createNotifications(recipientIds,
+                                NotificationType.COMMENT_MENTION, message, url);
+                log.info("[MENTION] Queued {} mention notification(s)", recipientIds.size());
         }
 }
@@ -0,0 +1,265 @@
+package com.kanban.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋 이후 비동기 배치 기록기 공통 구현
+ * 커밋된 트랜잭션의 항목만 큐에 적재하고, 전용 스레드가 flush-interval마다 batch-size 단위로 write를 호출한다.
+ * write는 배치마다 새 트랜잭션 안에서 실행된다 (커넥션 풀이 auto-commit=false이므로 JdbcTemplate 단독 사용 불가).
+ * 롤백된 트랜잭션의 항목은 기록되지 않는다.
+ *
+ * write가 예외를 던진 배치는 순서를 유지한 채 큐 앞쪽으로 되돌려 다음 주기에 재시도한다.
+ * 무결성 위반(DataIntegrityViolationException)으로 실패한 배치는 건별로 다시 반영하고, 위반 항목만 버린다.
+ * 큐가 가득 차면 호출 스레드가 직접 기록하여(back-pressure) 항목을 버리지 않는다.
+ * 큐는 메모리에만 있으므로 정상 종료 시에는 남은 항목을 모두 반영하지만, 비정상 종료 시에는 큐에 남은 항목이 유실된다
+ * (커밋 이후 at-least-once를 보장하지 않음).
+ *
+ * 메트릭 ({name} 접두사): {name}.queue.size, {name}.lag (가장 오래 대기 중인 항목의 대기 시간, 초),
+ * {name}.latency (적재부터 반영까지), {name}.flush (배치 반영 시간), {name}.written, {name}.failed,
+ * {name}.dropped, {name}.backpressure
+ */
+@Slf4j
+public abstract class AsyncBatchWriter<T> {
+
+    private final String name;
+    private final int batchSize;
+    private final int queueCapacity;
+    // 실패한 배치를 되돌릴 공간을 위해 용량 제한은 enqueue에서만 적용
+    private final BlockingDeque<Pending<T>> queue = new LinkedBlockingDeque<>();
+    private final Timer flushTimer;
+    private final Timer latencyTimer;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private final Counter backpressureCounter;
+    private final ScheduledExecutorService scheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    protected AsyncBatchWriter(String name, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry, long flushIntervalMs, int batchSize, int queueCapacity) {
+        this.name = name;
+        // 커밋 콜백(afterCommit) 안에서 직접 기록하는 경우에도 원래 트랜잭션에 참여하지 않도록 항상 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.flushTimer = Timer.builder(name + ".flush")
+                .description("Time spent writing one batch").register(meterRegistry);
+        this.latencyTimer = Timer.builder(name + ".latency")
+                .description("Time from enqueue to write").register(meterRegistry);
+        this.writtenCounter = Counter.builder(name + ".written")
+                .description("Items written").register(meterRegistry);
+        this.failedCounter = Counter.builder(name + ".failed")
+                .description("Batches that failed and were queued for retry").register(meterRegistry);
+        this.droppedCounter = Counter.builder(name + ".dropped")
+                .description("Items rejected by integrity constraints").register(meterRegistry);
+        this.backpressureCounter = Counter.builder(name + ".backpressure")
+                .description("Items written on the caller thread because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder(name + ".queue.size", queue, BlockingDeque::size)
+                .description("Items waiting to be written").register(meterRegistry);
+        Gauge.builder(name + ".lag", this, writer -> writer.lagNanos() / 1e9)
+                .description("Seconds the oldest queued item has been waiting").baseUnit("seconds")
+                .register(meterRegistry);
+
+        String threadName = name.replace('.', '-');
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 배치 반영 (예외를 던지면 배치 전체를 재시도)
+     */
+    protected abstract void write(List<T> batch);
+
+    /**
+     * 무결성 위반으로 버려지는 항목 설명 (로그용)
+     */
+    protected String describe(T item) {
+        return String.valueOf(item);
+    }
+
+    /**
+     * 기록 요청 (트랜잭션 안이면 커밋 이후 큐에 적재)
+     */
+    public void submit(T item) {
+        submitAll(Collections.singletonList(item));
+    }
+
+    /**
+     * 여러 항목 기록 요청 (트랜잭션 안이면 커밋 이후 한 번에 큐에 적재)
+     */
+    public void submitAll(Collection<? extends T> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(items);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(items);
+            }
+        });
+    }
+
+    /**
+     * 큐에 쌓인 항목을 모두 반영
+     *
+     * @return 반영한 항목 수
+     */
+    public int flush() {
+        int written = 0;
+        List<Pending<T>> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                written += timedWrite(batch);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                // 순서를 유지한 채 큐 앞쪽으로 되돌려 다음 주기에 재시도
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    queue.offerFirst(batch.get(i));
+                }
+                throw e;
+            }
+            batch.clear();
+        }
+        return written;
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    /**
+     * 가장 오래 대기 중인 항목의 대기 시간 (큐가 비어 있으면 0)
+     */
+    public long lagNanos() {
+        Pending<T> oldest = queue.peekFirst();
+        return oldest == null ? 0 : System.nanoTime() - oldest.enqueuedAt();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flushSafely();
+    }
+
+    private void enqueue(Collection<? extends T> items) {
+        long now = System.nanoTime();
+        List<Pending<T>> overflow = null;
+        for (T item : items) {
+            Pending<T> pending = new Pending<>(item, now);
+            if (queue.size() < queueCapacity) {
+                queue.offerLast(pending);
+            } else {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(pending);
+            }
+        }
+        if (overflow == null) {
+            return;
+        }
+        backpressureCounter.increment(overflow.size());
+        try {
+            timedWrite(overflow);
+        } catch (RuntimeException e) {
+            // 직접 기록도 실패하면 용량을 넘더라도 큐에 남겨 재시도
+            log.warn("Failed to write {} items on caller thread, queued for retry", name, e);
+            overflow.forEach(queue::offerLast);
+        }
+    }
+
+    private int timedWrite(List<Pending<T>> batch) {
+        long start = System.nanoTime();
+        List<T> items = new ArrayList<>(batch.size());
+        for (Pending<T> pending : batch) {
+            items.add(pending.item());
+        }
+        try {
+            int written = writeOrSkipRejected(items);
+            writtenCounter.increment(written);
+            long end = System.nanoTime();
+            for (Pending<T> pending : batch) {
+                latencyTimer.record(end - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+            }
+            return written;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int writeOrSkipRejected(List<T> batch) {
+        try {
+            writeInTransaction(batch);
+            return batch.size();
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                drop(batch.get(0));
+                return 0;
+            }
+        }
+        int written = 0;
+        for (T item : batch) {
+            try {
+                writeInTransaction(Collections.singletonList(item));
+                written++;
+            } catch (DataIntegrityViolationException e) {
+                drop(item);
+            }
+        }
+        return written;
+    }
+
+    private void writeInTransaction(List<T> batch) {
+        transactionTemplate.executeWithoutResult(status -> write(batch));
+    }
+
+    private void drop(T item) {
+        droppedCounter.increment();
+        log.warn("Dropping {} item rejected by database: {}", name, describe(item));
+    }
+
+    private void flushSafely() {
+        try {
+            int written = flush();
+            if (written > 0) {
+                log.debug("Flushed {} {} items", written, name);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to flush {}, will retry", name, e);
+        }
+    }
+
+    private record Pending<T>(T item, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.kanban.common;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 단위 작업 임대(lease)
+ * 여러 인스턴스에서 같은 스케줄 작업이 동시에 실행되지 않도록 Redis 키(SET NX PX)로 실행 권한을 얻는다.
+ *
+ * 임대는 작업이 끝나면 해제되며, 인스턴스가 비정상 종료된 경우 ttl이 지나면 자동으로 풀린다.
+ * 해제는 자신이 얻은 임대일 때만 수행한다 (ttl 초과 후 다른 인스턴스가 얻은 임대는 지우지 않음).
+ * Redis에 연결할 수 없으면 중복 실행을 피하기 위해 작업을 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterLease {
+
+    private static final String KEY_PREFIX = "cluster-lease:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) "
+                    + "else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 임대를 얻은 경우에만 작업 실행
+     *
+     * @return 작업 실행 여부
+     */
+    public boolean runExclusively(String name, Duration ttl, Runnable task) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(
+                    stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+                log.debug("Lease {} is held by another instance, skipping", name);
+                return false;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to acquire lease {}, skipping", name, e);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(key, token);
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            log.warn("Failed to release lease {}, it will expire after its ttl", key, e);
+        }
+    }
+}
@@ -1,9 +1,22 @@
 package com.kanban.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+/**
+ * JPA 설정
+ * 트랜잭션 advisor 순서를 AuditLogAspect(LOWEST_PRECEDENCE)보다 앞에 두어, 감사 aspect가 항상 서비스 트랜잭션
+ * 안에서 실행되도록 한다. (순서가 같으면 advisor 적용 순서가 정해지지 않아 스냅샷이 트랜잭션 밖에서 떠질 수 있음)
+ */
 @Configuration
 @EnableJpaAuditing
+@EnableTransactionManagement(proxyTargetClass = true, order = JpaConfig.TRANSACTION_ADVISOR_ORDER)
 public class JpaConfig {
+
+    /**
+     * 트랜잭션 advisor 순서 (값이 작을수록 바깥쪽에서 실행)
+     */
+    public static final int TRANSACTION_ADVISOR_ORDER = Ordered.LOWEST_PRECEDENCE - 100;
 }
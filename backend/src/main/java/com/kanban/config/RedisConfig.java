@@ -1,5 +1,6 @@
 package com.kanban.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -12,6 +13,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.kanban.notification.event.BoardEvent;
 import com.kanban.notification.event.NotificationEvent;
+import com.kanban.notification.event.RealtimeEventCodec;
 
 /**
  * Redis 설정 클래스
@@ -27,6 +29,16 @@ public class RedisConfig {
         return mapper;
     }
 
+    /**
+     * 실시간 이벤트 Redis 프레임 코덱 (realtime-events.codec: smile | json)
+     */
+    @Bean
+    public RealtimeEventCodec realtimeEventCodec(ObjectMapper redisObjectMapper,
+            @Value("${realtime-events.codec:smile}") String codec) {
+        return new RealtimeEventCodec(redisObjectMapper,
+                RealtimeEventCodec.Format.valueOf(codec.trim().toUpperCase()));
+    }
+
     @Bean
     public RedisTemplate<String, BoardEvent> redisTemplate(RedisConnectionFactory connectionFactory,
             ObjectMapper redisObjectMapper) {
@@ -65,7 +77,9 @@ public class RedisConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            com.kanban.notification.service.RedisSubscriber redisSubscriber) {
+            com.kanban.notification.service.RedisSubscriber redisSubscriber,
+            com.kanban.board.member.BoardPermissionCache boardPermissionCache,
+            com.kanban.auth.apitoken.ApiTokenCache apiTokenCache) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
@@ -73,6 +87,12 @@ public class RedisConfig {
                 new org.springframework.data.redis.listener.ChannelTopic("board-events"));
         container.addMessageListener(redisSubscriber,
                 new org.springframework.data.redis.listener.ChannelTopic("notification-events"));
+        container.addMessageListener(boardPermissionCache,
+                new org.springframework.data.redis.listener.ChannelTopic(
+                        com.kanban.board.member.BoardPermissionCache.INVALIDATION_TOPIC));
+        container.addMessageListener(apiTokenCache,
+                new org.springframework.data.redis.listener.ChannelTopic(
+                        com.kanban.auth.apitoken.ApiTokenCache.INVALIDATION_TOPIC));
         return container;
     }
 }
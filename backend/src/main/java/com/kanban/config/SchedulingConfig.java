@@ -0,0 +1,13 @@
+package com.kanban.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enable @Scheduled jobs (due date notifications, daily sprint snapshots)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,12 +1,8 @@
 package com.kanban.dashboard;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.kanban.board.BoardRepository;
 import com.kanban.card.CardRepository;
 import com.kanban.dashboard.dto.BoardInsightsResponse;
 import com.kanban.dashboard.dto.DashboardSummaryResponse;
@@ -18,55 +14,13 @@ import lombok.RequiredArgsConstructor;
 public class DashboardService {
 
         private final CardRepository cardRepository;
-        private final BoardRepository boardRepository;
+        private final DashboardSummaryCache dashboardSummaryCache;
 
-        @Cacheable(value = "dashboardSummary", key = "#workspaceId")
+        /**
+         * 워크스페이스 대시보드 요약 (워크스페이스 단위 캐시, 변경 시 해당 워크스페이스만 갱신)
+         */
         public DashboardSummaryResponse getGlobalSummary(Long workspaceId) {
-                java.time.LocalDate today = java.time.LocalDate.now();
-                long totalBoards = boardRepository.countActiveByWorkspaceId(workspaceId);
-                long totalCards = cardRepository.countByWorkspaceId(workspaceId);
-                long completedCards =
-                                cardRepository.countByWorkspaceIdAndIsCompletedTrue(workspaceId);
-                long incompleteCards =
-                                cardRepository.countByWorkspaceIdAndIsCompletedFalse(workspaceId);
-                long overdueCards = cardRepository.countOverdueByWorkspaceId(workspaceId, today);
-
-                // Due soon: next 2 days
-                LocalDateTime now = LocalDateTime.now();
-                // 2일 이내 마감
-                long dueSoonCards = cardRepository.countDueSoonByWorkspaceId(workspaceId,
-                                today.plusDays(2));
-
-                long unassignedHighPriorityCards = cardRepository
-                                .countUnassignedHighPriorityByWorkspaceId(workspaceId);
-
-                // Boards by overdue (Top 5)
-        List<Object[]> boardsByOverdueRaw = cardRepository
-                        .findBoardsByOverdueCount(workspaceId, today, PageRequest.of(0, 5));
-        List<DashboardSummaryResponse.BoardOverdueSummary> boardsByOverdue =
-                        boardsByOverdueRaw.stream().map(
-                                        obj -> DashboardSummaryResponse.BoardOverdueSummary
-                                                        .builder().boardId((Long) obj[0])
-                                                        .boardName((String) obj[1])
-                                                        .overdue((Long) obj[2]).build())
-                                        .toList();
-
-                // Recent activity (last 7 days)
-                LocalDateTime sevenDaysAgo = now.minusDays(7);
-                long created7d = cardRepository.countByWorkspaceIdAndCreatedAtAfter(workspaceId,
-                                sevenDaysAgo);
-                long updated7d = cardRepository.countByWorkspaceIdAndUpdatedAtAfter(workspaceId,
-                                sevenDaysAgo);
-
-                return DashboardSummaryResponse.builder().totalBoards(totalBoards)
-                                .totalCards(totalCards).completedCards(completedCards)
-                                .incompleteCards(incompleteCards).overdueCards(overdueCards)
-                                .dueSoonCards(dueSoonCards)
-                                .unassignedHighPriorityCards(unassignedHighPriorityCards)
-                                .boardsByOverdue(boardsByOverdue)
-                                .recentActivity(DashboardSummaryResponse.RecentActivity.builder()
-                                                .created7d(created7d).updated7d(updated7d).build())
-                                .build();
+                return dashboardSummaryCache.get(workspaceId);
         }
 
         public BoardInsightsResponse getBoardInsights(Long boardId) {
@@ -0,0 +1,172 @@
+package com.kanban.dashboard;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.kanban.board.BoardRepository;
+import com.kanban.card.CardRepository;
+import com.kanban.dashboard.dto.DashboardSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 워크스페이스 대시보드 요약 캐시 (workspaceId → DashboardSummaryResponse)
+ * 요약은 카드 집계 한 번과 보드 개수/지연 보드 Top 5 조회로 계산한다.
+ *
+ * 카드/칼럼/보드 변경 시 서비스가 refreshBoard/refreshWorkspace를 호출하면 커밋 이후 해당 워크스페이스만
+ * 백그라운드에서 다시 계산하여 교체한다. 같은 워크스페이스의 갱신 요청은 대기 중인 한 건으로 합쳐지며,
+ * 갱신 중 새로 들어온 변경은 다음 갱신에 반영된다. 캐시에 없는 워크스페이스는 갱신하지 않는다.
+ *
+ * 지연/마감 임박/최근 7일 카운터처럼 시간이 지나면 바뀌는 값과 다른 인스턴스의 변경은
+ * reconcile-interval이 지난 엔트리를 조회할 때 다시 계산하여 맞춘다.
+ * 적중/미스 통계는 cache.gets{cache=dashboardSummary} 메트릭으로 Actuator에 노출된다.
+ */
+@Component
+@Slf4j
+public class DashboardSummaryCache {
+
+    static final int DUE_SOON_DAYS = 2;
+    static final int RECENT_DAYS = 7;
+    static final int TOP_OVERDUE_BOARDS = 5;
+
+    private final CardRepository cardRepository;
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LoadingCache<Long, DashboardSummaryResponse> summaries;
+    private final Cache<Long, Long> boardWorkspaces;
+    private final Set<Long> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    // 같은 워크스페이스의 이전 계산 결과가 최신 결과를 덮어쓰지 않도록 단일 스레드로 갱신
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-summary-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DashboardSummaryCache(CardRepository cardRepository, BoardRepository boardRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${dashboard.summary-cache.maximum-size:10000}") long maximumSize,
+            @Value("${dashboard.summary-cache.reconcile-interval:PT1M}") Duration reconcileInterval,
+            @Value("${dashboard.summary-cache.expire-after-access:PT30M}") Duration expireAfterAccess) {
+        this.cardRepository = cardRepository;
+        this.boardRepository = boardRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.summaries = Caffeine.newBuilder().maximumSize(maximumSize)
+                .refreshAfterWrite(reconcileInterval).expireAfterAccess(expireAfterAccess)
+                .executor(refreshExecutor).recordStats().build(this::load);
+        this.boardWorkspaces = Caffeine.newBuilder().maximumSize(maximumSize * 10)
+                .expireAfterAccess(expireAfterAccess).build();
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "dashboardSummary");
+    }
+
+    /**
+     * 워크스페이스 요약 조회 (캐시 미스 시 호출 스레드에서 계산)
+     */
+    public DashboardSummaryResponse get(Long workspaceId) {
+        return summaries.get(workspaceId);
+    }
+
+    /**
+     * 보드가 속한 워크스페이스의 요약 갱신 요청 (보드 삭제 전에 호출해야 워크스페이스를 찾을 수 있음)
+     */
+    public void refreshBoard(Long boardId) {
+        if (boardId == null) {
+            return;
+        }
+        Long workspaceId = boardWorkspaces.get(boardId,
+                id -> boardRepository.findWorkspaceIdById(id).orElse(null));
+        refreshWorkspace(workspaceId);
+    }
+
+    /**
+     * 워크스페이스 요약 갱신 요청 (트랜잭션 안이면 커밋 이후 갱신)
+     */
+    public void refreshWorkspace(Long workspaceId) {
+        if (workspaceId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleRefresh(workspaceId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleRefresh(workspaceId);
+            }
+        });
+    }
+
+    private void scheduleRefresh(Long workspaceId) {
+        if (!summaries.asMap().containsKey(workspaceId) || !pendingRefreshes.add(workspaceId)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            // 계산 시작 전에 표시를 지워, 계산 중 커밋된 변경이 다음 갱신을 예약할 수 있게 함
+            pendingRefreshes.remove(workspaceId);
+            try {
+                summaries.asMap().replace(workspaceId, load(workspaceId));
+            } catch (Exception e) {
+                log.warn("Failed to refresh dashboard summary for workspace {}", workspaceId, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    DashboardSummaryResponse load(Long workspaceId) {
+        return readOnlyTransaction.execute(status -> summarize(workspaceId));
+    }
+
+    private DashboardSummaryResponse summarize(Long workspaceId) {
+        LocalDate today = LocalDate.now();
+        long totalBoards = boardRepository.countActiveByWorkspaceId(workspaceId);
+
+        // [총, 완료, 미완료, 지연, 마감 임박, 담당자 없는 HIGH, 최근 생성, 최근 수정]
+        Object[] counts = cardRepository.summarizeWorkspace(workspaceId, today,
+                today.plusDays(DUE_SOON_DAYS), LocalDateTime.now().minusDays(RECENT_DAYS)).get(0);
+
+        List<DashboardSummaryResponse.BoardOverdueSummary> boardsByOverdue = cardRepository
+                .findBoardsByOverdueCount(workspaceId, today,
+                        PageRequest.of(0, TOP_OVERDUE_BOARDS))
+                .stream()
+                .map(row -> DashboardSummaryResponse.BoardOverdueSummary.builder()
+                        .boardId((Long) row[0]).boardName((String) row[1])
+                        .overdue((Long) row[2]).build())
+                .toList();
+
+        return DashboardSummaryResponse.builder().totalBoards(totalBoards)
+                .totalCards(count(counts[0])).completedCards(count(counts[1]))
+                .incompleteCards(count(counts[2])).overdueCards(count(counts[3]))
+                .dueSoonCards(count(counts[4]))
+                .unassignedHighPriorityCards(count(counts[5]))
+                .boardsByOverdue(boardsByOverdue)
+                .recentActivity(DashboardSummaryResponse.RecentActivity.builder()
+                        .created7d(count(counts[6])).updated7d(count(counts[7])).build())
+                .build();
+    }
+
+    private static long count(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+}
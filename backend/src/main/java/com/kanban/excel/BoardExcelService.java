@@ -46,11 +46,13 @@ import com.kanban.board.member.BoardMemberRole;
 import com.kanban.board.member.BoardMemberRoleValidator;
 import com.kanban.auth.apitoken.ApiTokenScope;
 import com.kanban.card.Card;
+import com.kanban.card.CardRankService;
 import com.kanban.card.CardRepository;
 import com.kanban.checklist.ChecklistItem;
 import com.kanban.checklist.ChecklistItemRepository;
 import com.kanban.column.BoardColumn;
 import com.kanban.column.ColumnRepository;
+import com.kanban.column.ColumnOrderVersionService;
 import com.kanban.excel.dto.ImportJobStartResponse;
 import com.kanban.excel.dto.ImportJobStatusResponse;
 import com.kanban.excel.model.ExcelRowData;
@@ -82,7 +84,9 @@ public class BoardExcelService {
 
     private final BoardRepository boardRepository;
     private final ColumnRepository columnRepository;
+    private final ColumnOrderVersionService columnOrderVersionService;
     private final CardRepository cardRepository;
+    private final CardRankService cardRankService;
     private final CardLabelRepository cardLabelRepository;
     private final ChecklistItemRepository checklistItemRepository;
     private final LabelRepository labelRepository;
@@ -162,9 +166,10 @@ public class BoardExcelService {
                     continue;
                 }
 
-                for (Card card : cards) {
-                    writeCardRow(sheet.createRow(rowIndex.getAndIncrement()), column, card,
-                            labelsByCard, checklistByCard);
+                // 저장된 position은 이동 시 갱신되지 않으므로 rankKey 순서의 순번을 기록
+                for (int i = 0; i < cards.size(); i++) {
+                    writeCardRow(sheet.createRow(rowIndex.getAndIncrement()), column, cards.get(i),
+                            i, labelsByCard, checklistByCard);
                 }
             }
 
@@ -268,16 +273,23 @@ public class BoardExcelService {
     private int persistChunk(ImportContext context, List<ExcelRowData> rows) {
         return transactionTemplate.execute(status -> {
             AtomicInteger chunkSuccess = new AtomicInteger();
+            Map<Long, BoardColumn> touchedColumns = new TreeMap<>();
             for (ExcelRowData row : rows) {
-                if (processRow(context, row)) {
+                if (processRow(context, row, touchedColumns)) {
                     chunkSuccess.incrementAndGet();
                 }
             }
+            // 청크 단위로 순서 버전 증가 (칼럼 생성/위치 변경 가능성이 있으므로 보드 버전도 증가,
+            // 카드가 추가/아카이브된 칼럼은 교착 상태 방지를 위해 ID 순서로 잠금)
+            columnOrderVersionService.advanceBoard(context.board().getId(), null, List::of);
+            touchedColumns.values().forEach(
+                    column -> columnOrderVersionService.advance(column, null, List::of));
             return chunkSuccess.get();
         });
     }
 
-    private boolean processRow(ImportContext context, ExcelRowData row) {
+    private boolean processRow(ImportContext context, ExcelRowData row,
+            Map<Long, BoardColumn> touchedColumns) {
         int rowNumber = row.getRowIndex();
         if (!StringUtils.hasText(row.getColumnName())) {
             importJobManager.appendError(context.jobId(),
@@ -298,6 +310,7 @@ public class BoardExcelService {
 
         BoardColumn column = resolveColumn(context.board().getId(), row, context.columnCache());
         archiveIfNeeded(context.mode(), context.archivedColumns(), context.userId(), column);
+        touchedColumns.put(column.getId(), column);
 
         Card card = findExistingOrCreate(column, row);
         populateCardAttributes(row, card, column);
@@ -349,6 +362,8 @@ public class BoardExcelService {
         } else if (card.getPosition() == null) {
             card.setPosition(cardRepository.countByColumnId(column.getId()));
         }
+        // 표시 순서는 rankKey 기준 - 가져온 카드는 스프레드시트 순서대로 칼럼 끝에 추가
+        card.setRankKey(cardRankService.rankForAppend(column.getId()));
         card.setDueDate(row.getDueDate());
         if (StringUtils.hasText(row.getPriority())) {
             card.setPriority(row.getPriority());
@@ -629,12 +644,12 @@ public class BoardExcelService {
         row.createCell(1).setCellValue(column.getPosition());
     }
 
-    private void writeCardRow(Row row, BoardColumn column, Card card,
+    private void writeCardRow(Row row, BoardColumn column, Card card, int cardPosition,
             Map<Long, List<String>> labelsByCard, Map<Long, List<ChecklistItem>> checklistByCard) {
         row.createCell(0).setCellValue(column.getName());
         row.createCell(1).setCellValue(column.getPosition());
         row.createCell(2).setCellValue(card.getTitle());
-        row.createCell(3).setCellValue(card.getPosition());
+        row.createCell(3).setCellValue(cardPosition);
         row.createCell(4).setCellValue(card.getDescription() == null ? "" : card.getDescription());
         row.createCell(5)
                 .setCellValue(String.join(";", labelsByCard.getOrDefault(card.getId(), List.of())));
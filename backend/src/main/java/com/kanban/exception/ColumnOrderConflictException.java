@@ -0,0 +1,43 @@
+package com.kanban.exception;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 칼럼 순서 버전 충돌 예외
+ * 클라이언트가 본 칼럼 순서 버전이 최신이 아닐 때 이동 요청을 거절하고 현재 순서를 함께 전달
+ * 칼럼 내 카드 순서 충돌은 columnId, 보드의 칼럼 순서 충돌은 boardId가 설정된다.
+ */
+@Getter
+public class ColumnOrderConflictException extends RuntimeException {
+
+    private final Long boardId;
+    private final Long columnId;
+    private final Long expectedVersion;
+    private final Long currentVersion;
+    private final List<Long> orderedIds;
+
+    public ColumnOrderConflictException(Long columnId, Long expectedVersion, Long currentVersion,
+            List<Long> orderedIds) {
+        this(null, columnId, expectedVersion, currentVersion, orderedIds);
+    }
+
+    private ColumnOrderConflictException(Long boardId, Long columnId, Long expectedVersion,
+            Long currentVersion, List<Long> orderedIds) {
+        super("다른 사용자가 먼저 순서를 변경했습니다. 최신 순서를 확인 후 다시 시도해주세요.");
+        this.boardId = boardId;
+        this.columnId = columnId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+        this.orderedIds = orderedIds;
+    }
+
+    /**
+     * 보드의 칼럼 순서 충돌 (orderedIds는 현재 칼럼 ID 순서)
+     */
+    public static ColumnOrderConflictException forBoard(Long boardId, Long expectedVersion,
+            Long currentVersion, List<Long> orderedColumnIds) {
+        return new ColumnOrderConflictException(boardId, null, expectedVersion, currentVersion,
+                orderedColumnIds);
+    }
+}
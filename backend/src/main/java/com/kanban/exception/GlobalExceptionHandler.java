@@ -191,6 +191,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 
+    /**
+     * 칼럼 순서 버전 충돌 예외 처리 (409 Conflict)
+     * 클라이언트가 현재 순서로 화면을 갱신한 뒤 재시도할 수 있도록 최신 버전과 ID 순서를 포함
+     */
+    @ExceptionHandler(ColumnOrderConflictException.class)
+    public ResponseEntity<OrderConflictResponse> handleColumnOrderConflict(
+            ColumnOrderConflictException ex,
+            HttpServletRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(OrderConflictResponse.of(ex, request.getRequestURI()));
+    }
+
     /**
      * 유효하지 않은 토큰 예외 처리 (400 Bad Request)
      */
@@ -0,0 +1,37 @@
+package com.kanban.exception;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 순서 충돌(409) 응답 - 표준 에러 필드에 현재 순서 버전과 ID 순서를 추가
+ */
+public record OrderConflictResponse(
+        LocalDateTime timestamp,
+        int status,
+        String error,
+        String message,
+        String path,
+        Long boardId,
+        Long columnId,
+        Long expectedVersion,
+        Long currentVersion,
+        List<Long> orderedIds
+)
+{
+    public static OrderConflictResponse of(ColumnOrderConflictException ex, String path) {
+        return new OrderConflictResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                path,
+                ex.getBoardId(),
+                ex.getColumnId(),
+                ex.getExpectedVersion(),
+                ex.getCurrentVersion(),
+                ex.getOrderedIds() == null ? List.of() : List.copyOf(ex.getOrderedIds())
+        );
+    }
+}
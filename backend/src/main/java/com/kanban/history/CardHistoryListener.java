@@ -1,35 +1,36 @@
 package com.kanban.history;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 카드 변경 이벤트를 이력 레코드로 변환해 CardHistoryWriter에 넘긴다.
+ * 발행한 트랜잭션이 커밋된 뒤에만 기록되며, DB 반영은 CardHistoryWriter가 여러 카드의 이력을 모아 처리한다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class CardHistoryListener {
 
-    private final CardHistoryRepository cardHistoryRepository;
+    private final CardHistoryWriter cardHistoryWriter;
 
-    @Async
     @EventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleCardChangedEvent(CardChangedEvent event) {
-        log.info("Processing CardChangedEvent for cardId: {}, changes: {}", event.getCardId(),
+        log.debug("Queueing CardChangedEvent for cardId: {}, changes: {}", event.getCardId(),
                 event.getChanges().size());
 
+        LocalDateTime changedAt = LocalDateTime.now();
         List<CardHistory> histories = event.getChanges().stream()
                 .map(change -> CardHistory.builder().cardId(event.getCardId())
                         .boardId(event.getBoardId()).field(change.getField())
                         .fromValue(change.getFrom()).toValue(change.getTo())
-                        .changedByUserId(event.getUserId()).build())
+                        .changedByUserId(event.getUserId()).changedAt(changedAt).build())
                 .toList();
 
-        cardHistoryRepository.saveAll(histories);
+        cardHistoryWriter.submitAll(histories);
     }
 }
@@ -0,0 +1,56 @@
+package com.kanban.history;
+
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import com.kanban.common.AsyncBatchWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 카드 변경 이력 배치 기록기
+ * 여러 카드의 커밋된 변경 이력을 모아 JDBC 배치(batchUpdate)로 반영한다
+ * (큐/재시도/back-pressure 동작은 AsyncBatchWriter 참고).
+ * 대량 아카이브/가져오기로 큐가 가득 차면 호출 스레드가 직접 기록하므로 이력을 버리지 않는다.
+ *
+ * 메트릭: card.history.writer.* (lag: 가장 오래 대기 중인 이력의 대기 시간)
+ */
+@Component
+public class CardHistoryWriter extends AsyncBatchWriter<CardHistory> {
+
+    private static final String INSERT_SQL = "INSERT INTO card_history "
+            + "(card_id, board_id, field, from_value, to_value, changed_by_user_id, changed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CardHistoryWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${card-history.writer.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${card-history.writer.batch-size:500}") int batchSize,
+            @Value("${card-history.writer.queue-capacity:50000}") int queueCapacity) {
+        super("card.history.writer", transactionManager, meterRegistry, flushIntervalMs, batchSize,
+                queueCapacity);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    protected void write(List<CardHistory> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, history) -> {
+            ps.setLong(1, history.getCardId());
+            ps.setLong(2, history.getBoardId());
+            ps.setString(3, history.getField());
+            ps.setString(4, history.getFromValue());
+            ps.setString(5, history.getToValue());
+            ps.setLong(6, history.getChangedByUserId());
+            ps.setTimestamp(7, Timestamp.valueOf(history.getChangedAt()));
+        });
+    }
+
+    @Override
+    protected String describe(CardHistory history) {
+        return "card " + history.getCardId() + " " + history.getField();
+    }
+}
@@ -33,6 +33,13 @@ public interface CardLabelRepository extends JpaRepository<CardLabel, Long> {
     @Query("SELECT cl FROM CardLabel cl JOIN FETCH cl.card JOIN FETCH cl.label WHERE cl.card.id IN :cardIds")
     List<CardLabel> findByCardIdIn(@Param("cardIds") List<Long> cardIds);
 
+    /**
+     * 보드의 아카이브되지 않은 카드에 연결된 라벨 일괄 조회 (보드 스냅샷용)
+     */
+    @Query("SELECT cl FROM CardLabel cl JOIN FETCH cl.label WHERE cl.card.column.board.id = :boardId "
+            + "AND (cl.card.isArchived = false OR cl.card.isArchived IS NULL)")
+    List<CardLabel> findActiveByBoardId(@Param("boardId") Long boardId);
+
     /**
      * 카드 ID와 라벨 ID로 카드-라벨 조회
      */
@@ -0,0 +1,74 @@
+package com.kanban.notification;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드별 마감 임박 알림 발송 시각 우선순위 큐
+ * 카드당 하나의 알람만 유효하며, 다시 예약하거나 취소한 알람은 큐에 남아 있다가 꺼낼 때 버려진다.
+ * takeDue는 가장 이른 알람 시각까지 대기한 뒤 그 시점에 도래한 알람을 모두 꺼낸다.
+ */
+class DueDateAlarmQueue {
+
+    private final DelayQueue<Alarm> queue = new DelayQueue<>();
+    private final Map<Long, Alarm> alarms = new ConcurrentHashMap<>();
+
+    /**
+     * 카드 알람 예약 (기존 알람은 대체)
+     */
+    void schedule(Long cardId, LocalDateTime fireAt) {
+        Alarm alarm = new Alarm(cardId,
+                fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        if (alarm.equals(alarms.put(cardId, alarm))) {
+            return;
+        }
+        queue.add(alarm);
+    }
+
+    void cancel(Long cardId) {
+        alarms.remove(cardId);
+    }
+
+    /**
+     * 주어진 카드 외의 알람 취소
+     */
+    void retainOnly(Collection<Long> cardIds) {
+        alarms.keySet().retainAll(cardIds);
+    }
+
+    /**
+     * 발송 시각이 된 알람의 카드 ID 목록 (하나 이상 도래할 때까지 대기)
+     */
+    List<Long> takeDue() throws InterruptedException {
+        List<Alarm> due = new ArrayList<>();
+        due.add(queue.take());
+        queue.drainTo(due);
+        return due.stream().filter(alarm -> alarms.remove(alarm.cardId(), alarm))
+                .map(Alarm::cardId).toList();
+    }
+
+    int size() {
+        return alarms.size();
+    }
+
+    private record Alarm(Long cardId, long fireAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((Alarm) other).fireAtMillis);
+        }
+    }
+}
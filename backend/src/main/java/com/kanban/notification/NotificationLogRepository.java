@@ -1,6 +1,11 @@
 package com.kanban.notification;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.kanban.card.Card;
 import com.kanban.notification.domain.NotificationType;
@@ -12,4 +17,40 @@ public interface NotificationLogRepository extends JpaRepository<NotificationLog
             NotificationType notificationType);
 
     void deleteByCardAndNotificationType(Card card, NotificationType notificationType);
+
+    /**
+     * 마감 임박 알림 대상 조회 (담당자가 있고, 알림을 끄지 않았으며, 아직 발송 기록이 없는 카드만)
+     * [카드 ID, 카드 제목, 칼럼 ID, 보드 ID, 워크스페이스 ID, 담당자 ID, 마감일, 알림 리드 타임(분)]
+     * 알림 설정이 없는 사용자는 기본값(알림 사용, 60분 전)을 적용한다.
+     */
+    String PENDING_DUE_DATE_NOTIFICATIONS = "SELECT c.id, c.title, col.id, b.id, b.workspace.id, "
+            + "a.id, c.dueDate, COALESCE(p.dueDateBeforeMinutes, 60) "
+            + "FROM Card c JOIN c.column col JOIN col.board b JOIN c.assignee a "
+            + "LEFT JOIN NotificationPreference p ON p.user = a "
+            + "WHERE c.dueDate IS NOT NULL AND c.isArchived = false "
+            + "AND (p.id IS NULL OR p.notifyDueDate = true) "
+            + "AND NOT EXISTS (SELECT 1 FROM NotificationLog l WHERE l.card = c AND l.user = a "
+            + "AND l.notificationType = com.kanban.notification.domain.NotificationType.DUE_DATE_IMMINENT) ";
+
+    /**
+     * 마감일이 기간 내인 알림 대상 조회
+     */
+    @Query(PENDING_DUE_DATE_NOTIFICATIONS + "AND c.dueDate BETWEEN :from AND :to")
+    List<Object[]> findPendingDueDateNotifications(@Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * 특정 카드들의 알림 대상 조회
+     */
+    @Query(PENDING_DUE_DATE_NOTIFICATIONS + "AND c.id IN :cardIds")
+    List<Object[]> findPendingDueDateNotificationsByCardIds(
+            @Param("cardIds") Collection<Long> cardIds);
+
+    /**
+     * 특정 담당자의 마감일이 기간 내인 알림 대상 조회
+     */
+    @Query(PENDING_DUE_DATE_NOTIFICATIONS
+            + "AND a.id = :assigneeId AND c.dueDate BETWEEN :from AND :to")
+    List<Object[]> findPendingDueDateNotificationsByAssignee(@Param("assigneeId") Long assigneeId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -1,101 +1,304 @@
 package com.kanban.notification;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import com.kanban.card.Card;
-import com.kanban.card.CardRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.kanban.common.ClusterLease;
+import com.kanban.history.CardChangedEvent;
+import com.kanban.notification.domain.Notification;
 import com.kanban.notification.domain.NotificationType;
 import com.kanban.notification.service.NotificationService;
-import com.kanban.user.User;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 마감일 임박 알림 스케줄러
+ * 발송 시각(마감일 23:59:59 - 사용자별 리드 타임)을 카드별 알람으로 DueDateAlarmQueue에 예약하고,
+ * 전용 스레드가 알람 시각에 맞춰 발송한다 (주기적으로 카드를 다시 훑지 않음).
+ *
+ * 알람은 시작 시와 reload-cron마다 lookahead 기간 내 발송 대상 조회로 다시 채우며,
+ * 카드의 담당자/마감일/상태 변경(CardChangedEvent)과 알림 설정 변경 시 해당 카드/사용자만 다시 예약한다.
+ * 발송 시에는 임대(ClusterLease)를 얻은 뒤 발송 기록과의 anti-join으로 대상을 다시 확인하므로,
+ * 다른 인스턴스에서 이미 보냈거나 바뀐 카드는 보내지 않는다. 임대를 얻지 못하거나 발송에 실패하면 retry-delay 후 다시 시도한다.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationScheduler {
 
-    private final CardRepository cardRepository;
-    private final NotificationPreferenceRepository preferenceRepository;
+    static final String LEASE_NAME = "due-date-notifications";
+    private static final Set<String> ALARM_FIELDS =
+            Set.of("ASSIGNEE", "DUE_DATE", "LIFECYCLE", "STATUS");
+    private static final int CARD_ID_CHUNK_SIZE = 1000;
+    private static final String INSERT_LOG_SQL = "INSERT INTO notification_log "
+            + "(card_id, user_id, notification_type, sent_at, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
     private final NotificationLogRepository logRepository;
     private final NotificationService notificationService;
+    private final ClusterLease clusterLease;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final DueDateAlarmQueue alarmQueue = new DueDateAlarmQueue();
+    private final Duration leaseTtl;
+    private final Duration lookahead;
+    private final Duration retryDelay;
+    private final int batchSize;
+    private final Thread alarmThread;
+
+    public NotificationScheduler(NotificationLogRepository logRepository,
+            NotificationService notificationService, ClusterLease clusterLease,
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${notification.due-date.lease-ttl:PT1M}") Duration leaseTtl,
+            @Value("${notification.due-date.lookahead:P2D}") Duration lookahead,
+            @Value("${notification.due-date.retry-delay:PT5S}") Duration retryDelay,
+            @Value("${notification.due-date.batch-size:500}") int batchSize) {
+        this.logRepository = logRepository;
+        this.notificationService = notificationService;
+        this.clusterLease = clusterLease;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.leaseTtl = leaseTtl;
+        this.lookahead = lookahead;
+        this.retryDelay = retryDelay;
+        this.batchSize = batchSize;
+        this.alarmThread = new Thread(this::runAlarms, "due-date-alarms");
+        this.alarmThread.setDaemon(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reloadAlarms();
+        alarmThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        alarmThread.interrupt();
+    }
 
     /**
-     * 마감일 임박 알림 스케줄러 10분마다 실행
+     * lookahead 기간 내 발송 대상으로 알람 재구성 (매시 정각)
      */
-    @Scheduled(cron = "0 0/10 * * * *")
-    @Transactional
-    public void checkDueDateImminent() {
-        log.info("Checking for imminent due dates...");
-
+    @Scheduled(cron = "${notification.due-date.reload-cron:0 0 * * * *}")
+    public void reloadAlarms() {
         LocalDateTime now = LocalDateTime.now();
-        // 최대 24시간 + 10분 후까지 마감인 카드 조회 (넉넉하게 조회 후 필터링)
-        LocalDateTime end = now.plusMinutes(24L * 60 + 10);
-
-        List<Card> cards = cardRepository.findCardsDueBetween(now, end);
+        List<DueDateNotification> pending = readOnlyTransactionTemplate
+                .execute(status -> logRepository.findPendingDueDateNotifications(
+                        now.toLocalDate(), horizon(now)))
+                .stream().map(DueDateNotification::from).toList();
+        alarmQueue.retainOnly(pending.stream().map(DueDateNotification::cardId).toList());
+        pending.forEach(notification -> schedule(notification, now));
+        log.info("Scheduled {} due date alarms", alarmQueue.size());
+    }
 
-        for (Card card : cards) {
-            checkAndNotify(card, now);
+    /**
+     * 카드 담당자/마감일/상태 변경 시 해당 카드 알람 재예약
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCardChanged(CardChangedEvent event) {
+        if (event.getChanges().stream().noneMatch(change -> ALARM_FIELDS.contains(change.getField()))) {
+            return;
         }
+        alarmQueue.cancel(event.getCardId());
+        LocalDateTime now = LocalDateTime.now();
+        findPendingByCardIds(List.of(event.getCardId())).stream()
+                .filter(notification -> !notification.dueDate().isAfter(horizon(now)))
+                .forEach(notification -> schedule(notification, now));
     }
 
-    private void checkAndNotify(Card card, LocalDateTime now) {
-        User assignee = card.getAssignee();
-        if (assignee == null) {
+    /**
+     * 사용자 알림 설정 변경 시 해당 사용자 카드 알람 재예약 (트랜잭션 안이면 커밋 이후)
+     * 알림을 끈 경우 남은 알람은 발송 시 재확인 단계에서 버려진다.
+     */
+    public void rescheduleUser(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reloadUser(userId);
             return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reloadUser(userId);
+            }
+        });
+    }
 
-        NotificationPreference preference = preferenceRepository.findByUser(assignee)
-                .orElseGet(() -> NotificationPreference.builder().user(assignee).notifyDueDate(true)
-                        .dueDateBeforeMinutes(60) // 기본값 1시간
-                        .build());
+    /**
+     * 알람이 도래한 카드의 알림 발송 (임대를 얻지 못했거나 발송에 실패하면 retry-delay 후 재시도)
+     * 알람은 큐에서 꺼낸 뒤 발송하므로, 실패한 카드를 다시 넣지 않으면 다음 reload-cron까지 알림이 누락된다.
+     * 실패 전에 커밋된 배치는 발송 기록이 남아 재시도 시 재확인 단계에서 제외된다.
+     */
+    void fire(List<Long> cardIds) {
+        boolean ran;
+        try {
+            ran = clusterLease.runExclusively(LEASE_NAME, leaseTtl,
+                    () -> sendDueDateNotifications(cardIds, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to send due date notifications for {} cards, retrying in {}",
+                    cardIds.size(), retryDelay, e);
+            ran = false;
+        }
+        if (!ran) {
+            LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay);
+            cardIds.forEach(cardId -> alarmQueue.schedule(cardId, retryAt));
+        }
+    }
 
-        if (!preference.isNotifyDueDate()) {
-            return;
+    /**
+     * 카드들의 발송 대상을 다시 확인하여 발송 시각이 된 알림 발송
+     * 다른 인스턴스에서 마감일/설정이 바뀌어 발송 시각이 미뤄진 카드는 다시 예약한다.
+     *
+     * @return 발송한 알림 수
+     */
+    int sendDueDateNotifications(Collection<Long> cardIds, LocalDateTime now) {
+        List<DueDateNotification> due = new ArrayList<>();
+        for (DueDateNotification notification : findPendingByCardIds(cardIds)) {
+            if (notification.isDueAt(now)) {
+                due.add(notification);
+            } else {
+                schedule(notification, now);
+            }
         }
 
-        // 알림 발송 시점 계산 (마감일 - 설정 시간)
-        // Card.dueDate는 LocalDate이므로 LocalDateTime으로 변환 필요 (시간은 자정 기준 또는 별도 시간 필드 필요)
-        // 현재 Card 엔티티에는 dueDate(LocalDate)만 있고 시간 정보가 없음.
-        // 임시로 마감일 자정(00:00)을 기준으로 하거나, 23:59:59를 기준으로 해야 함.
-        // 보통 마감일은 해당 날짜의 끝(23:59:59)으로 간주하는 것이 일반적임.
-        LocalDateTime dueDateTime = card.getDueDate().atTime(23, 59, 59);
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<DueDateNotification> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            transactionTemplate.executeWithoutResult(status -> send(batch, now));
+        }
 
-        LocalDateTime notifyTime = dueDateTime.minusMinutes(preference.getDueDateBeforeMinutes());
+        if (!due.isEmpty()) {
+            log.info("Sent {} due date notifications", due.size());
+        }
+        return due.size();
+    }
 
-        // 현재 시간이 알림 발송 시점을 지났고, 아직 마감일은 지나지 않았을 때
-        if (now.isAfter(notifyTime) && now.isBefore(dueDateTime)) {
-            // 이미 알림을 보냈는지 확인
-            boolean alreadySent = logRepository.existsByCardAndUserAndNotificationType(card,
-                    assignee, NotificationType.DUE_DATE_IMMINENT);
+    /**
+     * 예약된 알람 수
+     */
+    int pendingAlarms() {
+        return alarmQueue.size();
+    }
 
-            if (!alreadySent) {
-                sendNotification(card, assignee);
+    private void runAlarms() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Long> cardIds = alarmQueue.takeDue();
+                if (!cardIds.isEmpty()) {
+                    fire(cardIds);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Failed to send due date notifications", e);
             }
         }
     }
 
-    private void sendNotification(Card card, User user) {
-        log.info("Sending due date notification for card {} to user {}", card.getId(),
-                user.getEmail());
+    private void reloadUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        readOnlyTransactionTemplate
+                .execute(status -> logRepository.findPendingDueDateNotificationsByAssignee(userId,
+                        now.toLocalDate(), horizon(now)))
+                .stream().map(DueDateNotification::from)
+                .forEach(notification -> schedule(notification, now));
+    }
+
+    private List<DueDateNotification> findPendingByCardIds(Collection<Long> cardIds) {
+        List<Long> ids = List.copyOf(cardIds);
+        List<DueDateNotification> pending = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CARD_ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CARD_ID_CHUNK_SIZE, ids.size()));
+            readOnlyTransactionTemplate
+                    .execute(status -> logRepository.findPendingDueDateNotificationsByCardIds(chunk))
+                    .forEach(row -> pending.add(DueDateNotification.from(row)));
+        }
+        return pending;
+    }
+
+    /**
+     * 마감일이 지나지 않은 알림만 예약 (발송 시각이 이미 지났으면 즉시 발송)
+     */
+    private void schedule(DueDateNotification notification, LocalDateTime now) {
+        if (notification.dueDateTime().isAfter(now)) {
+            alarmQueue.schedule(notification.cardId(), notification.notifyTime());
+        }
+    }
+
+    private LocalDate horizon(LocalDateTime now) {
+        return now.plus(lookahead).toLocalDate();
+    }
+
+    private void send(List<DueDateNotification> batch, LocalDateTime now) {
+        notificationService.createNotifications(batch.stream()
+                .map(DueDateNotification::toNotification).toList());
+
+        Timestamp sentAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, batch, batch.size(), (ps, notification) -> {
+            ps.setLong(1, notification.cardId());
+            ps.setLong(2, notification.assigneeId());
+            ps.setString(3, NotificationType.DUE_DATE_IMMINENT.name());
+            ps.setTimestamp(4, sentAt);
+            ps.setTimestamp(5, sentAt);
+            ps.setTimestamp(6, sentAt);
+        });
+    }
+
+    /**
+     * 마감 임박 알림 대상 한 건 (findPendingDueDateNotifications 조회 결과)
+     */
+    record DueDateNotification(Long cardId, String title, Long columnId, Long boardId,
+            Long workspaceId, Long assigneeId, LocalDate dueDate, int beforeMinutes) {
+
+        static DueDateNotification from(Object[] row) {
+            return new DueDateNotification((Long) row[0], (String) row[1], (Long) row[2],
+                    (Long) row[3], (Long) row[4], (Long) row[5], (LocalDate) row[6],
+                    ((Number) row[7]).intValue());
+        }
 
-        // 1. 알림 발송
-        String message = String.format("카드 '%s'의 마감일이 임박했습니다.", card.getTitle());
-        String relatedUrl = String.format("/workspaces/%d/boards/%d?cardId=%d&columnId=%d",
-                card.getColumn().getBoard().getWorkspace().getId(),
-                card.getColumn().getBoard().getId(), card.getId(), card.getColumn().getId());
+        /**
+         * 마감 시각 (Card.dueDate는 날짜만 있으므로 해당 날짜의 끝으로 간주)
+         */
+        LocalDateTime dueDateTime() {
+            return dueDate.atTime(23, 59, 59);
+        }
 
-        notificationService.createNotification(user.getId(), NotificationType.DUE_DATE_IMMINENT,
-                message, relatedUrl);
+        LocalDateTime notifyTime() {
+            return dueDateTime().minusMinutes(beforeMinutes);
+        }
 
-        // 2. 발송 기록 저장
-        NotificationLog notificationLog = NotificationLog.builder().card(card).user(user)
-                .notificationType(NotificationType.DUE_DATE_IMMINENT).sentAt(LocalDateTime.now())
-                .build();
+        /**
+         * 현재 시간이 알림 발송 시점이 되었고, 아직 마감일은 지나지 않았는지
+         */
+        boolean isDueAt(LocalDateTime now) {
+            return !now.isBefore(notifyTime()) && now.isBefore(dueDateTime());
+        }
 
-        logRepository.save(notificationLog);
+        Notification toNotification() {
+            return Notification.builder().recipientId(assigneeId)
+                    .type(NotificationType.DUE_DATE_IMMINENT)
+                    .message(String.format("카드 '%s'의 마감일이 임박했습니다.", title))
+                    .relatedUrl(String.format("/workspaces/%d/boards/%d?cardId=%d&columnId=%d",
+                            workspaceId, boardId, cardId, columnId))
+                    .isRead(false).build();
+        }
     }
 }
@@ -12,8 +12,10 @@ import com.kanban.board.member.dto.BoardMemberResponse;
 import com.kanban.common.SecurityUtil;
 import com.kanban.notification.domain.Notification;
 import com.kanban.notification.dto.InboxItemDTO;
+import com.kanban.notification.dto.NotificationPageResponse;
 import com.kanban.notification.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +25,8 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Notifications", description = "알림 및 인박스 관리 API")
 public class NotificationController {
 
+        private static final int MAX_PAGE_SIZE = 100;
+
         private final NotificationService notificationService;
         private final MemberService memberService;
 
@@ -88,10 +92,38 @@ public class NotificationController {
                 return ResponseEntity.ok(inboxItems);
         }
 
+        @GetMapping
+        @Operation(summary = "알림함 조회", description = "내 알림을 최신순으로 조회합니다 (커서 페이지네이션)")
+        public ResponseEntity<NotificationPageResponse> getNotifications(
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+                        @RequestParam(required = false) String cursor,
+                        @Parameter(description = "페이지 크기")
+                        @RequestParam(defaultValue = "30") int size,
+                        @Parameter(description = "읽지 않은 알림만 조회")
+                        @RequestParam(defaultValue = "false") boolean unreadOnly) {
+                int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+                return ResponseEntity.ok(notificationService.getNotifications(
+                                SecurityUtil.getCurrentUserId(), cursor, pageSize, unreadOnly));
+        }
+
+        @GetMapping("/unread-count")
+        @Operation(summary = "읽지 않은 알림 수 조회", description = "배지 표시용 읽지 않은 알림 수를 조회합니다")
+        public ResponseEntity<Map<String, Long>> getUnreadCount() {
+                return ResponseEntity.ok(Map.of("count",
+                                notificationService.getUnreadCount(SecurityUtil.getCurrentUserId())));
+        }
+
         @PostMapping("/{id}/read")
         @Operation(summary = "알림 읽음 처리", description = "알림을 읽음 상태로 변경합니다")
         public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
-                notificationService.markAsRead(id);
+                notificationService.markAsRead(id, SecurityUtil.getCurrentUserId());
                 return ResponseEntity.ok().build();
         }
+
+        @PostMapping("/read-all")
+        @Operation(summary = "알림 전체 읽음 처리", description = "읽지 않은 알림을 모두 읽음 상태로 변경합니다")
+        public ResponseEntity<Map<String, Integer>> markAllAsRead() {
+                return ResponseEntity.ok(Map.of("updated",
+                                notificationService.markAllAsRead(SecurityUtil.getCurrentUserId())));
+        }
 }
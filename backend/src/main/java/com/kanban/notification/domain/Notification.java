@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_recipient_read_created",
+                columnList = "recipient_id,is_read,created_at"),
+        @Index(name = "idx_notification_recipient_created", columnList = "recipient_id,created_at,id")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,33 @@
+package com.kanban.notification.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림함 페이지 응답 DTO (keyset 페이지네이션)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPageResponse {
+
+    private List<NotificationResponse> content;
+
+    /**
+     * 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private int size;
+
+    /**
+     * 읽지 않은 알림 수 (배지 표시용)
+     */
+    private long unreadCount;
+}
@@ -0,0 +1,27 @@
+package com.kanban.notification.dto;
+
+import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kanban.notification.domain.Notification;
+import com.kanban.notification.domain.NotificationType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NotificationResponse {
+    private Long id;
+    private NotificationType type;
+    private String message;
+    private String actionUrl;
+    private LocalDateTime createdAt;
+    @JsonProperty("isRead")
+    private boolean isRead;
+
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder().id(notification.getId())
+                .type(notification.getType()).message(notification.getMessage())
+                .actionUrl(notification.getRelatedUrl()).createdAt(notification.getCreatedAt())
+                .isRead(Boolean.TRUE.equals(notification.getIsRead())).build();
+    }
+}
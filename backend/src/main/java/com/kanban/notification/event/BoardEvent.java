@@ -18,6 +18,8 @@ public class BoardEvent implements Serializable {
     private long timestamp;
 
     public enum EventType {
-        BOARD_CREATED, BOARD_UPDATED, BOARD_DELETED, COLUMN_CREATED, COLUMN_UPDATED, COLUMN_DELETED, COLUMN_REORDERED, CARD_CREATED, CARD_UPDATED, CARD_DELETED, CARD_MOVED
+        BOARD_CREATED, BOARD_UPDATED, BOARD_DELETED, COLUMN_CREATED, COLUMN_UPDATED, COLUMN_DELETED, COLUMN_REORDERED, CARD_CREATED, CARD_UPDATED, CARD_DELETED, CARD_MOVED,
+        /** 여러 이벤트 묶음 (payload.events) */
+        BATCH
     }
 }
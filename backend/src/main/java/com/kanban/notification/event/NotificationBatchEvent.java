@@ -0,0 +1,14 @@
+package com.kanban.notification.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 번에 생성된 알림들의 실시간 이벤트 (커밋 이후 한 번의 Redis 파이프라인으로 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationBatchEvent {
+    private List<NotificationEvent> events;
+}
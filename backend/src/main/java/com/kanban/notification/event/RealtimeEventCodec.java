@@ -0,0 +1,124 @@
+package com.kanban.notification.event;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Redis 실시간 이벤트 프레임 인코더/디코더
+ * 프레임 구조: [형식 태그 1byte][라우팅 ID 8byte (보드 ID 또는 수신자 ID)][본문]
+ *
+ * 구독 측은 헤더만 읽어 STOMP 목적지를 정하고, 본문은 객체로 역직렬화하지 않는다.
+ * JSON 본문은 그대로 전달하고, SMILE 본문은 스트리밍 방식으로 JSON 텍스트로만 변환한다.
+ * 형식 태그가 없는 기존 JSON 메시지(배포 전환 중)는 isFramed로 구분한다.
+ */
+public class RealtimeEventCodec {
+
+    /**
+     * 본문 직렬화 형식 (태그 값은 프레임 첫 바이트)
+     */
+    public enum Format {
+        JSON((byte) 1), SMILE((byte) 2);
+
+        private final byte tag;
+
+        Format(byte tag) {
+            this.tag = tag;
+        }
+
+        static Format fromTag(byte tag) {
+            for (Format format : values()) {
+                if (format.tag == tag) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unknown realtime event format tag: " + tag);
+        }
+    }
+
+    static final int HEADER_BYTES = 1 + Long.BYTES;
+    private static final long NO_ROUTING_ID = -1L;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final Format format;
+
+    public RealtimeEventCodec(ObjectMapper jsonMapper, Format format) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = jsonMapper.copyWith(new SmileFactory());
+        this.format = format;
+    }
+
+    public byte[] encode(BoardEvent event) {
+        return encode(event.getBoardId(), event);
+    }
+
+    public byte[] encode(NotificationEvent event) {
+        return encode(event.getRecipientId(), event);
+    }
+
+    /**
+     * 형식 태그가 붙은 프레임인지 여부 (기존 JSON 메시지는 '{' 또는 공백으로 시작)
+     */
+    public static boolean isFramed(byte[] frame) {
+        return frame.length >= HEADER_BYTES
+                && (frame[0] == Format.JSON.tag || frame[0] == Format.SMILE.tag);
+    }
+
+    /**
+     * 프레임 헤더의 라우팅 ID (없으면 null)
+     */
+    public static Long routingId(byte[] frame) {
+        long id = ByteBuffer.wrap(frame, 1, Long.BYTES).getLong();
+        return id == NO_ROUTING_ID ? null : id;
+    }
+
+    /**
+     * 프레임 본문을 STOMP로 보낼 JSON 바이트로 변환 (JSON은 복사만, SMILE은 토큰 단위 변환)
+     */
+    public byte[] toJson(byte[] frame) {
+        if (Format.fromTag(frame[0]) == Format.JSON) {
+            return Arrays.copyOfRange(frame, HEADER_BYTES, frame.length);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(frame.length * 2);
+        try (JsonParser parser = smileMapper.getFactory().createParser(frame, HEADER_BYTES,
+                frame.length - HEADER_BYTES);
+                JsonGenerator generator = jsonMapper.getFactory().createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to transcode realtime event frame", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 프레임 본문 전체 역직렬화
+     */
+    public <T> T decode(byte[] frame, Class<T> type) {
+        ObjectMapper mapper = Format.fromTag(frame[0]) == Format.SMILE ? smileMapper : jsonMapper;
+        try {
+            return mapper.readValue(frame, HEADER_BYTES, frame.length - HEADER_BYTES, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode realtime event frame", e);
+        }
+    }
+
+    private byte[] encode(Long routingId, Object event) {
+        ObjectMapper mapper = format == Format.SMILE ? smileMapper : jsonMapper;
+        byte[] body;
+        try {
+            body = mapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode realtime event", e);
+        }
+        return ByteBuffer.allocate(HEADER_BYTES + body.length).put(format.tag)
+                .putLong(routingId == null ? NO_ROUTING_ID : routingId).put(body).array();
+    }
+}
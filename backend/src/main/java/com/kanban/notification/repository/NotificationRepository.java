@@ -1,7 +1,12 @@
 package com.kanban.notification.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.kanban.notification.domain.Notification;
 
@@ -9,10 +14,57 @@ import com.kanban.notification.domain.Notification;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(Long recipientId);
 
-    List<Notification> findByRecipientIdOrderByCreatedAtDesc(Long recipientId);
+    /**
+     * 읽지 않았거나 since 이후 생성된 알림 조회 (pageable은 조회 건수 제한에만 사용)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId AND (n.isRead = false OR n.createdAt >= :since) ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findRecentNotifications(@Param("recipientId") Long recipientId,
+            @Param("since") LocalDateTime since, Pageable pageable);
 
-    @org.springframework.data.jpa.repository.Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId AND (n.isRead = false OR n.createdAt >= :since) ORDER BY n.createdAt DESC")
-    List<Notification> findRecentNotifications(
-            @org.springframework.data.repository.query.Param("recipientId") Long recipientId,
-            @org.springframework.data.repository.query.Param("since") java.time.LocalDateTime since);
+    /**
+     * 알림함 첫 페이지 조회
+     * (recipient_id, created_at, id) 인덱스를 역순으로 읽으며 pageable은 조회 건수 제한에만 사용
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxPage(@Param("recipientId") Long recipientId, Pageable pageable);
+
+    /**
+     * 알림함 중 커서(createdAt, id) 이후 페이지 조회
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxPageAfter(@Param("recipientId") Long recipientId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 읽지 않은 알림 첫 페이지 조회 ((recipient_id, is_read, created_at) 인덱스 사용)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId AND n.isRead = false ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadPage(@Param("recipientId") Long recipientId, Pageable pageable);
+
+    /**
+     * 읽지 않은 알림 중 커서(createdAt, id) 이후 페이지 조회
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId AND n.isRead = false AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadPageAfter(@Param("recipientId") Long recipientId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    long countByRecipientIdAndIsReadFalse(Long recipientId);
+
+    /**
+     * 수신자 본인의 읽지 않은 알림 읽음 처리
+     *
+     * @return 갱신된 행 수 (0이면 다른 사용자의 알림이거나 이미 읽음)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.recipientId = :recipientId AND n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("recipientId") Long recipientId);
+
+    /**
+     * 수신자의 읽지 않은 알림 전체 읽음 처리
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipientId = :recipientId AND n.isRead = false")
+    int markAllAsRead(@Param("recipientId") Long recipientId);
 }
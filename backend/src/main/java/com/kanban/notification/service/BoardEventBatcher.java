@@ -0,0 +1,232 @@
+package com.kanban.notification.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.kanban.card.dto.CardResponse;
+import com.kanban.notification.event.BoardEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보드 이벤트 배치 발행기
+ * 커밋된 BoardEvent를 보드별로 batch-window-ms 동안 모은 뒤 RealtimeEventDispatcher를 통해 한 번만 발행한다.
+ *
+ * 같은 카드에 대한 연속 이벤트는 마지막 상태 하나로 합친다. (CREATED 이후 변경은 CREATED, MOVED가 섞이면 MOVED,
+ * DELETED는 항상 DELETED) 카드를 식별할 수 없는 이벤트(칼럼/보드/일괄 처리)는 합치지 않고 순서대로 유지한다.
+ * 모인 이벤트가 하나면 원래 형태 그대로, 둘 이상이면 type=BATCH 이벤트의 payload.events로 발행한다.
+ *
+ * 보드 버퍼는 첫 이벤트가 들어올 때 만들고 발행 시 제거하므로, 이벤트가 없는 보드의 버퍼는 남지 않는다.
+ * 버퍼 추가/제거는 buffers.compute 안에서 수행하여 발행 직후 들어온 이벤트가 제거된 버퍼에 쌓이지 않게 한다.
+ *
+ * 발행은 공유 스케줄러 스레드에서 하므로 디스패처 레인 큐가 가득 차도 기다리지 않는다. 거절된 이벤트는 그 보드 버퍼의
+ * 앞에 되돌려(이후 이벤트와 합쳐짐) batch-window-ms 뒤에 다시 발행하므로, 밀린 보드만 늦어지고 다른 보드는 영향이 없다.
+ */
+@Component
+@Slf4j
+public class BoardEventBatcher {
+
+    private static final String TYPE_BATCH = BoardEvent.EventType.BATCH.name();
+    private static final String TYPE_CREATED = BoardEvent.EventType.CARD_CREATED.name();
+    private static final String TYPE_MOVED = BoardEvent.EventType.CARD_MOVED.name();
+    private static final String TYPE_DELETED = BoardEvent.EventType.CARD_DELETED.name();
+
+    private final RealtimeEventDispatcher dispatcher;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "board-event-batcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final Map<Long, BoardBuffer> buffers = new ConcurrentHashMap<>();
+
+    public BoardEventBatcher(RealtimeEventDispatcher dispatcher,
+            @Value("${board-events.batch-window-ms:100}") long windowMillis,
+            @Value("${board-events.max-batch-size:500}") int maxBatchSize) {
+        this.dispatcher = dispatcher;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 커밋된 이벤트를 보드 버퍼에 추가 (RealtimeEventRelay가 커밋 이후 호출)
+     */
+    public void enqueue(BoardEvent event) {
+        if (event.getBoardId() == null) {
+            send(event);
+            return;
+        }
+        buffer(event);
+    }
+
+    /**
+     * 모든 보드 버퍼 즉시 발행 (종료 시)
+     */
+    @PreDestroy
+    public void flushAll() {
+        scheduler.shutdownNow();
+        buffers.keySet().forEach(boardId -> flush(boardId, true));
+    }
+
+    private void buffer(BoardEvent event) {
+        Long boardId = event.getBoardId();
+        boolean[] firstAndFull = new boolean[2];
+        buffers.compute(boardId, (id, buffer) -> {
+            BoardBuffer target = buffer == null ? new BoardBuffer() : buffer;
+            firstAndFull[0] = target.isEmpty();
+            target.add(event);
+            firstAndFull[1] = target.size() >= maxBatchSize && !target.retryScheduled;
+            return target;
+        });
+        boolean first = firstAndFull[0];
+        boolean full = firstAndFull[1];
+        if (full) {
+            scheduler.execute(() -> flush(boardId, false));
+        } else if (first) {
+            scheduler.schedule(() -> flush(boardId, false), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 보드 버퍼 발행 (blocking이 아니면 디스패처 레인이 가득 찬 경우 버퍼에 되돌리고 다시 예약)
+     */
+    private void flush(Long boardId, boolean blocking) {
+        List<BoardEvent> events = new ArrayList<>();
+        // 비운 버퍼는 제거 (다음 이벤트가 새 버퍼를 만들고 발행을 예약)
+        buffers.computeIfPresent(boardId, (id, buffer) -> {
+            events.addAll(buffer.drain());
+            return null;
+        });
+        if (events.isEmpty()) {
+            return;
+        }
+        BoardEvent event = events.size() == 1 ? events.get(0) : batchOf(boardId, events);
+        if (blocking) {
+            send(event);
+        } else if (!dispatcher.tryDispatchBoardEvent(event)) {
+            requeue(boardId, events);
+        }
+    }
+
+    /**
+     * 발행하지 못한 이벤트를 보드 버퍼 앞에 되돌리고 batch-window-ms 뒤 재발행 예약
+     */
+    private void requeue(Long boardId, List<BoardEvent> events) {
+        buffers.compute(boardId, (id, buffer) -> {
+            BoardBuffer target = new BoardBuffer();
+            events.forEach(target::add);
+            if (buffer != null) {
+                buffer.drain().forEach(target::add);
+            }
+            target.retryScheduled = true;
+            return target;
+        });
+        log.debug("Dispatcher lane full, deferring {} events of board {}", events.size(), boardId);
+        try {
+            scheduler.schedule(() -> flush(boardId, false), windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - flushAll이 남은 버퍼를 발행
+        }
+    }
+
+    private static BoardEvent batchOf(Long boardId, List<BoardEvent> events) {
+        BoardEvent last = events.get(events.size() - 1);
+        return BoardEvent.builder().type(TYPE_BATCH).boardId(boardId)
+                .payload(Map.of("events", events))
+                .triggeredByUserId(last.getTriggeredByUserId()).timestamp(last.getTimestamp())
+                .build();
+    }
+
+    /**
+     * 발행 대기 중인 보드 버퍼 수
+     */
+    int pendingBoards() {
+        return buffers.size();
+    }
+
+    private void send(BoardEvent event) {
+        dispatcher.dispatchBoardEvent(event);
+    }
+
+    /**
+     * 이벤트가 가리키는 카드 ID (CardResponse 또는 cardId를 가진 Map payload)
+     */
+    static Long cardIdOf(BoardEvent event) {
+        if (event.getType() == null || !event.getType().startsWith("CARD_")) {
+            return null;
+        }
+        Object payload = event.getPayload();
+        if (payload instanceof CardResponse card) {
+            return card.getId();
+        }
+        if (payload instanceof Map<?, ?> map && !map.containsKey("action")
+                && map.get("cardId") instanceof Number cardId) {
+            return cardId.longValue();
+        }
+        return null;
+    }
+
+    /**
+     * 같은 카드의 이전 이벤트와 새 이벤트를 하나로 합친 결과
+     */
+    static BoardEvent merge(BoardEvent previous, BoardEvent next) {
+        String type = next.getType();
+        if (!TYPE_DELETED.equals(type)) {
+            if (TYPE_CREATED.equals(previous.getType())) {
+                type = TYPE_CREATED;
+            } else if (TYPE_MOVED.equals(previous.getType())) {
+                type = TYPE_MOVED;
+            }
+        }
+        return BoardEvent.builder().type(type).boardId(next.getBoardId())
+                .payload(next.getPayload()).triggeredByUserId(next.getTriggeredByUserId())
+                .timestamp(next.getTimestamp()).build();
+    }
+
+    /**
+     * 보드 하나의 대기 이벤트 (카드 이벤트는 카드 ID로 합치고, 합쳐진 이벤트는 가장 뒤로 이동)
+     */
+    static final class BoardBuffer {
+        private final LinkedHashMap<Object, BoardEvent> events = new LinkedHashMap<>();
+        private long sequence;
+        /**
+         * 발행이 거절되어 재발행이 예약된 버퍼 (가득 차도 즉시 발행을 다시 예약하지 않음)
+         */
+        private boolean retryScheduled;
+
+        void add(BoardEvent event) {
+            Long cardId = cardIdOf(event);
+            if (cardId == null) {
+                events.put(sequence++, event);
+                return;
+            }
+            String key = "card:" + cardId;
+            BoardEvent previous = events.remove(key);
+            events.put(key, previous == null ? event : merge(previous, event));
+        }
+
+        boolean isEmpty() {
+            return events.isEmpty();
+        }
+
+        int size() {
+            return events.size();
+        }
+
+        List<BoardEvent> drain() {
+            List<BoardEvent> drained = new ArrayList<>(events.values());
+            events.clear();
+            return drained;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 import com.kanban.common.SecurityUtil;
 import com.kanban.notification.NotificationPreference;
 import com.kanban.notification.NotificationPreferenceRepository;
+import com.kanban.notification.NotificationScheduler;
 import com.kanban.notification.dto.NotificationPreferenceRequest;
 import com.kanban.notification.dto.NotificationPreferenceResponse;
 import com.kanban.user.User;
@@ -18,6 +19,7 @@ public class NotificationPreferenceService {
 
     private final NotificationPreferenceRepository preferenceRepository;
     private final UserRepository userRepository;
+    private final NotificationScheduler notificationScheduler;
 
     public NotificationPreferenceResponse getMyPreference() {
         Long userId = SecurityUtil.getCurrentUserId();
@@ -48,6 +50,8 @@ public class NotificationPreferenceService {
         preference.setDueDateBeforeMinutes(request.getDueDateBeforeMinutes());
 
         NotificationPreference saved = preferenceRepository.save(preference);
+        // 리드 타임이 바뀌면 발송 시각도 바뀌므로 알람 재예약
+        notificationScheduler.rescheduleUser(userId);
         return NotificationPreferenceResponse.from(saved);
     }
 }
@@ -1,10 +1,18 @@
 package com.kanban.notification.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.kanban.common.KeysetCursor;
 import com.kanban.notification.domain.Notification;
 import com.kanban.notification.domain.NotificationType;
+import com.kanban.notification.dto.NotificationPageResponse;
+import com.kanban.notification.dto.NotificationResponse;
 import com.kanban.notification.event.NotificationEvent;
 import com.kanban.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,56 +23,117 @@ import lombok.RequiredArgsConstructor;
 @lombok.extern.slf4j.Slf4j
 public class NotificationService {
 
+    static final int INBOX_LIMIT = 100;
+
     private final NotificationRepository notificationRepository;
     private final RedisPublisher redisPublisher;
+    private final NotificationWriter notificationWriter;
+    private final UnreadNotificationCounter unreadCounter;
 
-    public Notification createNotification(Long recipientId, NotificationType type, String message,
+    /**
+     * 알림 생성 요청 (트랜잭션 안이면 커밋 이후 NotificationWriter 큐에 적재)
+     */
+    public void createNotification(Long recipientId, NotificationType type, String message,
             String relatedUrl) {
-        log.info("[MENTION] Creating notification - Recipient: {}, Type: {}, Message: {}",
-                recipientId, type, message);
-        Notification notification = Notification.builder().recipientId(recipientId).type(type)
-                .message(message).relatedUrl(relatedUrl).isRead(false).build();
-
-        Notification savedNotification;
-        try {
-            savedNotification = notificationRepository.save(notification);
-            log.info("[MENTION] Notification saved to DB. ID: {}, Recipient: {}",
-                    savedNotification.getId(), recipientId);
-        } catch (Exception e) {
-            log.error("[MENTION] Failed to save notification to DB", e);
-            throw e;
-        }
+        createNotifications(List.of(recipientId), type, message, relatedUrl);
+    }
 
-        // Publish real-time event
-        try {
-            redisPublisher.publishNotification(NotificationEvent.builder().recipientId(recipientId)
-                    .id(savedNotification.getId()).message(message).type(type).actionUrl(relatedUrl)
-                    .createdAt(savedNotification.getCreatedAt()).build());
-            log.info("[MENTION] Notification event published to Redis for user: {}", recipientId);
-        } catch (Exception e) {
-            // Log error but do not fail the transaction (ensure notification is saved)
-            log.error("[MENTION] Failed to publish notification event", e);
+    /**
+     * 같은 내용의 알림을 여러 수신자에게 생성 요청 (트랜잭션 안이면 커밋 이후 한 번에 큐에 적재)
+     * 저장과 실시간 이벤트 발행은 NotificationWriter가 배치 단위로 수행하므로 호출 스레드는 DB/Redis를 기다리지 않는다.
+     */
+    public void createNotifications(Collection<Long> recipientIds, NotificationType type,
+            String message, String relatedUrl) {
+        if (recipientIds.isEmpty()) {
+            return;
         }
+        log.debug("Queueing {} notifications - Type: {}", recipientIds.size(), type);
+        notificationWriter.submitAll(recipientIds.stream()
+                .map(recipientId -> Notification.builder().recipientId(recipientId).type(type)
+                        .message(message).relatedUrl(relatedUrl).isRead(false).build())
+                .toList());
+    }
 
-        return savedNotification;
+    /**
+     * 알림 일괄 생성 (현재 트랜잭션에서 JDBC 배치 INSERT 한 번, 커밋 이후 실시간 이벤트 일괄 발행)
+     * 생성된 ID는 전달한 알림 객체에 채워진다.
+     */
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        notificationWriter.insertAndPublish(notifications);
+        log.debug("Created {} notifications in batch", notifications.size());
+        return notifications;
     }
 
+    /**
+     * 인박스용 최근 알림 조회 (읽지 않았거나 24시간 이내, 최신 INBOX_LIMIT건)
+     */
     @Transactional(readOnly = true)
     public List<Notification> getRecentNotifications(Long recipientId) {
-        // Unread OR Read within last 24 hours
         return notificationRepository.findRecentNotifications(recipientId,
-                java.time.LocalDateTime.now().minusHours(24));
+                LocalDateTime.now().minusHours(24), PageRequest.of(0, INBOX_LIMIT));
+    }
+
+    /**
+     * 알림함 조회 (최신순 keyset 페이지네이션)
+     * 깊은 페이지도 (recipient_id, created_at, id) 또는 (recipient_id, is_read, created_at) 인덱스에서
+     * 커서 위치부터 size + 1건만 읽는다.
+     *
+     * @param recipientId 수신자 ID
+     * @param cursor      이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size        페이지 크기
+     * @param unreadOnly  읽지 않은 알림만 조회할지 여부
+     * @return 알림 페이지 (읽지 않은 알림 수 포함)
+     */
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getNotifications(Long recipientId, String cursor, int size,
+            boolean unreadOnly) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Notification> rows;
+        if (unreadOnly) {
+            rows = after == null ? notificationRepository.findUnreadPage(recipientId, limit)
+                    : notificationRepository.findUnreadPageAfter(recipientId, after.createdAt(),
+                            after.id(), limit);
+        } else {
+            rows = after == null ? notificationRepository.findInboxPage(recipientId, limit)
+                    : notificationRepository.findInboxPageAfter(recipientId, after.createdAt(),
+                            after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<Notification> page = hasNext ? rows.subList(0, size) : rows;
+        Notification last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor =
+                hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null;
+        return NotificationPageResponse.builder()
+                .content(page.stream().map(NotificationResponse::from).toList())
+                .nextCursor(nextCursor).hasNext(hasNext).size(size)
+                .unreadCount(unreadCounter.get(recipientId)).build();
     }
 
     @Transactional(readOnly = true)
-    public List<Notification> getAllNotifications(Long recipientId) {
-        return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipientId);
+    public long getUnreadCount(Long recipientId) {
+        return unreadCounter.get(recipientId);
+    }
+
+    /**
+     * 알림 읽음 처리 (수신자 본인의 읽지 않은 알림만, 커밋 이후 읽지 않은 알림 수 감소)
+     */
+    public void markAsRead(Long notificationId, Long recipientId) {
+        if (notificationRepository.markAsRead(notificationId, recipientId) > 0) {
+            unreadCounter.add(Map.of(recipientId, -1L));
+        }
     }
 
-    public void markAsRead(Long notificationId) {
-        notificationRepository.findById(notificationId).ifPresent(notification -> {
-            notification.setIsRead(true);
-        });
+    /**
+     * 읽지 않은 알림 전체 읽음 처리 (커밋 이후 읽지 않은 알림 수 초기화)
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    public int markAllAsRead(Long recipientId) {
+        int updated = notificationRepository.markAllAsRead(recipientId);
+        unreadCounter.reset(recipientId);
+        return updated;
     }
 
     /**
@@ -83,7 +152,7 @@ public class NotificationService {
                     .message(message)
                     .type(type)
                     .actionUrl(relatedUrl)
-                    .createdAt(java.time.LocalDateTime.now())
+                    .createdAt(LocalDateTime.now())
                     .build());
             log.info("[NOTIFICATION] WebSocket event published successfully for user: {}", recipientId);
         } catch (Exception e) {
@@ -0,0 +1,110 @@
+package com.kanban.notification.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import com.kanban.common.AsyncBatchWriter;
+import com.kanban.notification.domain.Notification;
+import com.kanban.notification.event.NotificationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 알림 비동기 배치 기록기
+ * 커밋된 트랜잭션의 알림을 모아 JDBC 배치 INSERT 한 번으로 저장하고,
+ * 배치가 커밋되면 수신자별 실시간 이벤트를 한 번의 Redis 파이프라인으로 발행한다
+ * (큐/재시도/back-pressure 동작은 AsyncBatchWriter 참고).
+ * 탈퇴한 사용자 등 무결성 위반 알림은 건별 재시도 후 버린다.
+ *
+ * 메트릭: notification.writer.*
+ */
+@Component
+public class NotificationWriter extends AsyncBatchWriter<Notification> {
+
+    private static final String INSERT_SQL = "INSERT INTO notification "
+            + "(recipient_id, type, message, related_url, is_read, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisPublisher redisPublisher;
+    private final UnreadNotificationCounter unreadCounter;
+
+    public NotificationWriter(JdbcTemplate jdbcTemplate, RedisPublisher redisPublisher,
+            UnreadNotificationCounter unreadCounter, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.writer.flush-interval-ms:100}") long flushIntervalMs,
+            @Value("${notification.writer.batch-size:500}") int batchSize,
+            @Value("${notification.writer.queue-capacity:50000}") int queueCapacity) {
+        super("notification.writer", transactionManager, meterRegistry, flushIntervalMs, batchSize,
+                queueCapacity);
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisPublisher = redisPublisher;
+        this.unreadCounter = unreadCounter;
+    }
+
+    @Override
+    protected void write(List<Notification> batch) {
+        insertAndPublish(batch);
+    }
+
+    /**
+     * 현재 트랜잭션에서 알림 일괄 저장 후 커밋 이후 읽지 않은 알림 수 증가와 실시간 이벤트 일괄 발행
+     * 생성된 ID는 전달한 알림 객체에 채워진다.
+     */
+    public void insertAndPublish(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification notification = notifications.get(i);
+                        ps.setLong(1, notification.getRecipientId());
+                        ps.setString(2, notification.getType().name());
+                        ps.setString(3, notification.getMessage());
+                        ps.setString(4, notification.getRelatedUrl());
+                        ps.setTimestamp(5, now);
+                        ps.setTimestamp(6, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<NotificationEvent> events = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            notification.setId(((Number) keys.get(i).get("id")).longValue());
+            events.add(NotificationEvent.builder().recipientId(notification.getRecipientId())
+                    .id(notification.getId()).message(notification.getMessage())
+                    .type(notification.getType()).actionUrl(notification.getRelatedUrl())
+                    .createdAt(now.toLocalDateTime()).build());
+        }
+        unreadCounter.add(notifications.stream().collect(
+                Collectors.groupingBy(Notification::getRecipientId, Collectors.counting())));
+        redisPublisher.publishNotifications(events);
+    }
+
+    @Override
+    protected String describe(Notification notification) {
+        return "Type: " + notification.getType() + ", Recipient: " + notification.getRecipientId();
+    }
+}
@@ -0,0 +1,225 @@
+package com.kanban.notification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import com.kanban.notification.event.BoardEvent;
+import com.kanban.notification.event.NotificationEvent;
+import com.kanban.notification.event.RealtimeEventCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실시간 이벤트 Redis 발행 디스패처
+ * 커밋된 이벤트를 크기가 제한된 큐에 넣고 전용 스레드가 RealtimeEventCodec 프레임으로 인코딩해 Redis로 발행한다.
+ *
+ * 발행 스레드마다 자기 큐를 가진 단일 스레드 레인으로 동작하며, 보드 이벤트는 boardId, 알림은 수신자 ID의
+ * 해시로 레인을 고르므로 같은 보드(수신자)의 이벤트는 항상 같은 순서로 발행된다.
+ * 레인 큐가 가득 차면 dispatch*는 호출 스레드가 자리가 날 때까지 기다려(back-pressure) 이벤트를 버리지 않고 순서도 지킨다.
+ * 공유 스케줄러 스레드에서 호출하는 BoardEventBatcher는 기다리지 않는 tryDispatchBoardEvent를 사용하고,
+ * 거절되면 그 보드의 버퍼에 되돌려 나중에 다시 발행한다. (한 보드 때문에 다른 보드의 발행이 멈추지 않음)
+ *
+ * 메트릭: realtime.events.delivered / failed / backpressure (channel 태그), realtime.events.delivery
+ * (큐 대기 + 발행 시간), realtime.events.queue.size
+ */
+@Component
+@Slf4j
+public class RealtimeEventDispatcher {
+
+    private static final byte[] TOPIC_BOARD_BYTES =
+            RedisPublisher.TOPIC_BOARD.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOPIC_NOTIFICATION_BYTES =
+            RedisPublisher.TOPIC_NOTIFICATION.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, BoardEvent> redisTemplate;
+    private final RealtimeEventCodec codec;
+    private final Counter backpressureCounter;
+    private final Map<String, ChannelMeters> metersByChannel;
+    private final ThreadPoolExecutor[] lanes;
+
+    public RealtimeEventDispatcher(RedisTemplate<String, BoardEvent> redisTemplate,
+            RealtimeEventCodec codec, MeterRegistry meterRegistry,
+            @Value("${realtime-events.dispatcher.threads:2}") int threads,
+            @Value("${realtime-events.dispatcher.queue-capacity:10000}") int queueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.backpressureCounter = Counter.builder("realtime.events.backpressure")
+                .description("Events that found their lane queue full")
+                .register(meterRegistry);
+        this.metersByChannel = Map.of(
+                RedisPublisher.TOPIC_BOARD,
+                ChannelMeters.register(meterRegistry, RedisPublisher.TOPIC_BOARD),
+                RedisPublisher.TOPIC_NOTIFICATION,
+                ChannelMeters.register(meterRegistry, RedisPublisher.TOPIC_NOTIFICATION));
+
+        int laneCapacity = Math.max(1, queueCapacity / Math.max(1, threads));
+        this.lanes = new ThreadPoolExecutor[Math.max(1, threads)];
+        for (int i = 0; i < lanes.length; i++) {
+            String threadName = "realtime-dispatch-" + (i + 1);
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(laneCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.AbortPolicy());
+        }
+
+        Gauge.builder("realtime.events.queue.size", lanes, RealtimeEventDispatcher::queuedEvents)
+                .description("Realtime events waiting to be published").register(meterRegistry);
+    }
+
+    public void dispatchBoardEvent(BoardEvent event) {
+        dispatch(RedisPublisher.TOPIC_BOARD, event.getBoardId(),
+                () -> publish(TOPIC_BOARD_BYTES, codec.encode(event)));
+    }
+
+    /**
+     * 보드 이벤트를 기다리지 않고 레인 큐에 추가 (레인 큐가 가득 차면 false, 이벤트는 추가되지 않음)
+     */
+    public boolean tryDispatchBoardEvent(BoardEvent event) {
+        try {
+            lanes[laneOf(event.getBoardId(), lanes.length)].execute(task(RedisPublisher.TOPIC_BOARD,
+                    () -> publish(TOPIC_BOARD_BYTES, codec.encode(event))));
+            return true;
+        } catch (RejectedExecutionException e) {
+            backpressureCounter.increment();
+            return false;
+        }
+    }
+
+    public void dispatchNotification(NotificationEvent event) {
+        dispatch(RedisPublisher.TOPIC_NOTIFICATION, event.getRecipientId(),
+                () -> publish(TOPIC_NOTIFICATION_BYTES, codec.encode(event)));
+    }
+
+    /**
+     * 여러 알림 이벤트를 한 번의 파이프라인으로 발행 (수신자별 프레임은 그대로 유지)
+     * 묶음 전체를 첫 수신자의 레인에서 발행하므로 묶음 안의 순서는 유지된다.
+     */
+    public void dispatchNotifications(List<NotificationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        dispatch(RedisPublisher.TOPIC_NOTIFICATION, events.get(0).getRecipientId(), () -> {
+            List<byte[]> frames = events.stream().map(codec::encode).toList();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                frames.forEach(frame -> connection.publish(TOPIC_NOTIFICATION_BYTES, frame));
+                return null;
+            });
+        });
+    }
+
+    /**
+     * 종료 시 큐에 남은 이벤트 발행 후 정지
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(Math.max(0, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS)) {
+                log.warn("Realtime dispatcher lane stopped with {} events pending",
+                        lane.shutdownNow().size());
+            }
+        }
+    }
+
+    /**
+     * 순서 보장 키(보드 ID, 수신자 ID)의 레인 번호 (키가 없으면 첫 레인)
+     */
+    static int laneOf(Long key, int laneCount) {
+        return key == null ? 0 : Math.floorMod(Long.hashCode(key), laneCount);
+    }
+
+    /**
+     * 인코딩된 프레임을 값 직렬화기 없이 그대로 발행
+     */
+    private void publish(byte[] channel, byte[] frame) {
+        redisTemplate
+                .execute((RedisCallback<Long>) connection -> connection.publish(channel, frame));
+    }
+
+    private void dispatch(String channel, Long orderingKey, Runnable send) {
+        ThreadPoolExecutor lane = lanes[laneOf(orderingKey, lanes.length)];
+        Runnable task = task(channel, send);
+        try {
+            lane.execute(task);
+        } catch (RejectedExecutionException e) {
+            waitForCapacity(task, lane);
+        }
+    }
+
+    private Runnable task(String channel, Runnable send) {
+        ChannelMeters meters = metersByChannel.get(channel);
+        long enqueuedAt = System.nanoTime();
+        return () -> {
+            try {
+                send.run();
+                meters.delivered().increment();
+            } catch (Exception e) {
+                meters.failed().increment();
+                log.error("Failed to publish realtime event to {}", channel, e);
+            } finally {
+                meters.delivery().record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * 레인 큐가 가득 찬 경우 호출 스레드가 자리가 날 때까지 대기 (직접 실행하면 앞선 이벤트보다 먼저 발행될 수 있음)
+     * 종료 중이면 큐에 넣을 수 없으므로 호출 스레드에서 바로 발행한다.
+     */
+    private void waitForCapacity(Runnable task, ThreadPoolExecutor lane) {
+        backpressureCounter.increment();
+        if (lane.isShutdown()) {
+            task.run();
+            return;
+        }
+        try {
+            lane.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.run();
+        }
+    }
+
+    private static double queuedEvents(ThreadPoolExecutor[] lanes) {
+        double queued = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            queued += lane.getQueue().size();
+        }
+        return queued;
+    }
+
+    /**
+     * 채널별 메트릭 (생성자에서 한 번만 등록)
+     */
+    private record ChannelMeters(Counter delivered, Counter failed, Timer delivery) {
+
+        static ChannelMeters register(MeterRegistry meterRegistry, String channel) {
+            return new ChannelMeters(
+                    Counter.builder("realtime.events.delivered").tag("channel", channel)
+                            .register(meterRegistry),
+                    Counter.builder("realtime.events.failed").tag("channel", channel)
+                            .register(meterRegistry),
+                    Timer.builder("realtime.events.delivery").tag("channel", channel)
+                            .description("Queue wait plus publish time of realtime events")
+                            .register(meterRegistry));
+        }
+    }
+}
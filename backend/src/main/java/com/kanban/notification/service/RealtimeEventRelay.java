@@ -0,0 +1,37 @@
+package com.kanban.notification.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.kanban.notification.event.BoardEvent;
+import com.kanban.notification.event.NotificationBatchEvent;
+import com.kanban.notification.event.NotificationEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간 이벤트 커밋 후 전달
+ * RedisPublisher가 발행한 애플리케이션 이벤트를 트랜잭션 커밋 이후에만 Redis 발행 단계로 넘긴다.
+ * 롤백된 트랜잭션의 이벤트는 전달되지 않으며, 트랜잭션 밖에서 발행된 이벤트는 즉시 전달된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RealtimeEventRelay {
+
+    private final BoardEventBatcher boardEventBatcher;
+    private final RealtimeEventDispatcher realtimeEventDispatcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardEvent(BoardEvent event) {
+        boardEventBatcher.enqueue(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationEvent(NotificationEvent event) {
+        realtimeEventDispatcher.dispatchNotification(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationBatchEvent(NotificationBatchEvent event) {
+        realtimeEventDispatcher.dispatchNotifications(event.getEvents());
+    }
+}
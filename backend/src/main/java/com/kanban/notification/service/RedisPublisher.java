@@ -1,29 +1,48 @@
 package com.kanban.notification.service;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import com.kanban.notification.event.BoardEvent;
+import com.kanban.notification.event.NotificationBatchEvent;
 import com.kanban.notification.event.NotificationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 실시간 이벤트 발행 진입점
+ * 이벤트는 호출 트랜잭션이 커밋된 뒤에만 RealtimeEventRelay를 거쳐 Redis로 발행된다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RedisPublisher {
 
-    private final RedisTemplate<String, BoardEvent> redisTemplate;
-    private final RedisTemplate<String, NotificationEvent> notificationRedisTemplate;
-    private static final String TOPIC_BOARD = "board-events";
-    private static final String TOPIC_NOTIFICATION = "notification-events";
+    private final ApplicationEventPublisher eventPublisher;
+    static final String TOPIC_BOARD = "board-events";
+    static final String TOPIC_NOTIFICATION = "notification-events";
 
+    /**
+     * 보드 이벤트 발행 (커밋 이후 보드별로 모아 BoardEventBatcher가 일괄 발행)
+     */
     public void publish(BoardEvent event) {
-        log.debug("Publishing board event to Redis topic {}: {}", TOPIC_BOARD, event);
-        redisTemplate.convertAndSend(TOPIC_BOARD, event);
+        log.debug("Queueing board event {} for board {}", event.getType(), event.getBoardId());
+        eventPublisher.publishEvent(event);
     }
 
     public void publishNotification(NotificationEvent event) {
-        log.debug("Publishing notification event to Redis topic {}: {}", TOPIC_NOTIFICATION, event);
-        notificationRedisTemplate.convertAndSend(TOPIC_NOTIFICATION, event);
+        log.debug("Queueing notification event for user {}", event.getRecipientId());
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * 여러 알림 이벤트 발행 (커밋 이후 한 번의 Redis 파이프라인으로 발행)
+     */
+    public void publishNotifications(List<NotificationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        log.debug("Queueing {} notification events", events.size());
+        eventPublisher.publishEvent(new NotificationBatchEvent(events));
     }
 }
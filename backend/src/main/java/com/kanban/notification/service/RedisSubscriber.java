@@ -1,11 +1,17 @@
 package com.kanban.notification.service;
 
+import java.nio.charset.StandardCharsets;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kanban.notification.event.BoardEvent;
 import com.kanban.notification.event.NotificationEvent;
+import com.kanban.notification.event.RealtimeEventCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,31 +20,78 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RedisSubscriber implements MessageListener {
 
+    private static final String NOTIFICATION_DESTINATION = "/queue/notifications";
+
     private final ObjectMapper objectMapper;
     private final SimpMessagingTemplate messagingTemplate;
+    private final RealtimeEventCodec realtimeEventCodec;
 
     @Override
     public void onMessage(org.springframework.data.redis.connection.Message message,
             byte[] pattern) {
         try {
-            String body = new String(message.getBody());
-            String channel = new String(message.getChannel());
+            byte[] body = message.getBody();
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+
+            if (RealtimeEventCodec.isFramed(body)) {
+                forwardFrame(channel, body);
+                return;
+            }
 
+            // 형식 태그가 없는 기존 JSON 메시지 (배포 전환 중 이전 버전 인스턴스가 발행)
             if (channel.endsWith("board-events")) {
                 BoardEvent event = objectMapper.readValue(body, BoardEvent.class);
                 log.debug("Received board event from Redis: {}", event);
+                if (event.getBoardId() == null) {
+                    log.warn("Dropping board event without board id: {}", event.getType());
+                    return;
+                }
                 String destination = "/topic/board/" + event.getBoardId();
                 messagingTemplate.convertAndSend(destination, event);
             } else if (channel.endsWith("notification-events")) {
                 NotificationEvent event = objectMapper.readValue(body, NotificationEvent.class);
                 log.debug("Received notification event from Redis: {}", event);
+                if (event.getRecipientId() == null) {
+                    log.warn("Dropping notification event without recipient id");
+                    return;
+                }
                 // Send to specific user
                 messagingTemplate.convertAndSendToUser(String.valueOf(event.getRecipientId()),
-                        "/queue/notifications", event);
+                        NOTIFICATION_DESTINATION, event);
             }
 
         } catch (Exception e) {
             log.error("Error processing Redis message", e);
         }
     }
+
+    /**
+     * 프레임 헤더의 라우팅 ID로 목적지를 정하고 본문은 JSON 바이트 그대로 STOMP에 전달 (객체 역직렬화 없음)
+     * 라우팅 ID(보드 ID, 수신자 ID)가 없는 프레임은 보낼 목적지가 없으므로 버린다.
+     */
+    private void forwardFrame(String channel, byte[] frame) {
+        Long routingId = RealtimeEventCodec.routingId(frame);
+        if (routingId == null) {
+            log.warn("Dropping {} byte realtime frame without routing id on {}", frame.length,
+                    channel);
+            return;
+        }
+        String destination;
+        if (channel.endsWith("board-events")) {
+            destination = "/topic/board/" + routingId;
+        } else if (channel.endsWith("notification-events")) {
+            destination = messagingTemplate.getUserDestinationPrefix() + routingId
+                    + NOTIFICATION_DESTINATION;
+        } else {
+            return;
+        }
+        log.debug("Forwarding {} byte realtime frame to {}", frame.length, destination);
+
+        SimpMessageHeaderAccessor accessor =
+                SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder
+                .createMessage(realtimeEventCodec.toJson(frame), accessor.getMessageHeaders()));
+    }
 }
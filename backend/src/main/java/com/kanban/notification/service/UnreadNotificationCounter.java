@@ -0,0 +1,117 @@
+package com.kanban.notification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.kanban.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 읽지 않은 알림 수 카운터 (Redis, 키: notification:unread:{userId})
+ * 카운터가 없으면 (recipient_id, is_read, created_at) 인덱스로 한 번 세어 ttl 동안 보관하고,
+ * 이후 알림 생성/읽음 처리 시 커밋 이후 증감한다. 키가 없을 때의 증감은 무시하여 다음 조회 시 다시 센다.
+ *
+ * 전체 읽음 처리 시에는 키를 지워 다시 세게 한다. 세는 도중 커밋된 알림처럼 드물게 생기는 오차는
+ * ttl이 지나 다시 셀 때 맞춰진다. Redis에 연결할 수 없으면 DB에서 센 값을 그대로 반환한다.
+ */
+@Component
+@Slf4j
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    // 키가 있을 때만 증감 (음수가 되지 않도록 0에서 멈춤), 키가 없으면 -1
+    private static final byte[] ADD_IF_PRESENT_SCRIPT = (
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end "
+            + "local count = redis.call('incrby', KEYS[1], ARGV[1]) "
+            + "if count < 0 then redis.call('set', KEYS[1], 0, 'KEEPTTL') return 0 end "
+            + "return count").getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Duration ttl;
+
+    public UnreadNotificationCounter(StringRedisTemplate stringRedisTemplate,
+            NotificationRepository notificationRepository,
+            @Value("${notification.unread-counter.ttl:PT24H}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (카운터가 없으면 DB에서 세어 저장)
+     */
+    public long get(Long userId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read unread notification counter for user {}", userId, e);
+            return notificationRepository.countByRecipientIdAndIsReadFalse(userId);
+        }
+        long count = notificationRepository.countByRecipientIdAndIsReadFalse(userId);
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+        } catch (Exception e) {
+            log.warn("Failed to store unread notification counter for user {}", userId, e);
+        }
+        return count;
+    }
+
+    /**
+     * 사용자별 증감 반영 (트랜잭션 안이면 커밋 이후 한 번의 파이프라인으로 반영)
+     */
+    public void add(Map<Long, Long> deltasByUserId) {
+        if (deltasByUserId.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltasByUserId.forEach((userId, delta) -> connection.scriptingCommands().eval(
+                        ADD_IF_PRESENT_SCRIPT, ReturnType.INTEGER, 1,
+                        (KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(delta).getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        });
+    }
+
+    /**
+     * 카운터 제거 (트랜잭션 안이면 커밋 이후, 다음 조회 시 DB에서 다시 셈)
+     */
+    public void reset(Long userId) {
+        afterCommit(() -> stringRedisTemplate.delete(KEY_PREFIX + userId));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runSafely(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runSafely(task);
+            }
+        });
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            // 반영하지 못한 증감은 ttl이 지나 다시 셀 때 맞춰짐
+            log.warn("Failed to update unread notification counters", e);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.kanban.retention;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.kanban.common.ClusterLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추가 전용 테이블 파티션 관리 및 보존 기간 적용
+ * 하루 한 번 테이블마다 다음 premake-months개월의 월별 파티션을 미리 만들고,
+ * 범위 상한이 보존 기준 시각(현재 - 보존 기간) 이전인 파티션을 보관 내보내기 후 분리(DETACH)하여 삭제한다.
+ * 행 단위 DELETE를 하지 않으므로 테이블/인덱스 팽창이 생기지 않는다.
+ *
+ * 범위 밖 행을 받은 DEFAULT 파티션의 행은 해당 달 파티션을 만들 때 그 파티션으로 옮긴다.
+ * 그대로 두면 보존 기간이 지나도 삭제되지 않고, 같은 달 파티션 생성(ATTACH 검증)도 실패하기 때문이다.
+ * 이미 지난 달의 행도 그 달 파티션으로 옮기므로 보존 기간이 지나면 일반 파티션과 같이 삭제된다.
+ * 파티션 생성/삭제 실패는 ERROR 로그와 retention.partition.failures 카운터로,
+ * DEFAULT 파티션에 남은 행 수는 retention.default_partition.rows 게이지로 노출한다.
+ *
+ * 파티션 전환(V14 마이그레이션) 전의 일반 테이블은 건너뛴다. 내보내기에 실패한 파티션은 삭제하지 않고
+ * 다음 실행에서 다시 시도한다. 여러 인스턴스 중 임대(ClusterLease)를 얻은 한 곳에서만 실행한다.
+ */
+@Component
+@Slf4j
+public class PartitionRetentionJob {
+
+    static final String LEASE_NAME = "partition-retention";
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final DateTimeFormatter BOUND_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionArchiver partitionArchiver;
+    private final ClusterLease clusterLease;
+    private final RetentionProperties properties;
+    private final Map<PartitionedTable, Counter> failureCounters =
+            new EnumMap<>(PartitionedTable.class);
+    private final Map<PartitionedTable, AtomicLong> defaultRows =
+            new EnumMap<>(PartitionedTable.class);
+
+    public PartitionRetentionJob(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, PartitionArchiver partitionArchiver,
+            ClusterLease clusterLease, RetentionProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionArchiver = partitionArchiver;
+        this.clusterLease = clusterLease;
+        this.properties = properties;
+        for (PartitionedTable table : PartitionedTable.values()) {
+            failureCounters.put(table, Counter.builder("retention.partition.failures")
+                    .tag("table", table.tableName()).register(meterRegistry));
+            AtomicLong rows = new AtomicLong();
+            defaultRows.put(table, rows);
+            Gauge.builder("retention.default_partition.rows", rows, AtomicLong::get)
+                    .tag("table", table.tableName()).register(meterRegistry);
+        }
+    }
+
+    @Scheduled(cron = "${retention.cron:0 30 3 * * *}")
+    public void run() {
+        if (!properties.enabled()) {
+            return;
+        }
+        clusterLease.runExclusively(LEASE_NAME, properties.leaseTtl(),
+                () -> maintain(LocalDateTime.now()));
+    }
+
+    /**
+     * 모든 대상 테이블의 파티션 생성 및 보존 기간 적용 (한 테이블의 실패는 다른 테이블에 영향 없음)
+     */
+    void maintain(LocalDateTime now) {
+        for (PartitionedTable table : PartitionedTable.values()) {
+            try {
+                maintain(table, now);
+            } catch (Exception e) {
+                failureCounters.get(table).increment();
+                log.error("Failed to maintain partitions of {}", table.tableName(), e);
+            }
+        }
+    }
+
+    private void maintain(PartitionedTable table, LocalDateTime now) {
+        if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table "
+                        + "WHERE partrelid = to_regclass(CAST(? AS text)))",
+                Boolean.class, table.tableName())))) {
+            log.debug("Table {} is not partitioned, skipping retention", table.tableName());
+            return;
+        }
+
+        List<Partition> partitions = listPartitions(table);
+        String defaultPartition = partitions.stream()
+                .filter(partition -> partition.upperBound() == null)
+                .map(Partition::name).findFirst().orElse(null);
+        Map<LocalDateTime, Long> defaultMonths = defaultPartition == null ? Map.of()
+                : countRowsByMonth(table, defaultPartition);
+        for (LocalDateTime month : monthsToCreate(partitions, defaultMonths.keySet(), now,
+                properties.premakeMonths())) {
+            createPartition(table, defaultPartition, month, defaultMonths.getOrDefault(month, 0L));
+        }
+        if (defaultPartition != null) {
+            reportDefaultRows(table, defaultPartition);
+        }
+
+        Map<PartitionedTable, Duration> retention =
+                properties.tables() == null ? Map.of() : properties.tables();
+        if (retention.containsKey(table)) {
+            // DEFAULT에서 옮긴 지난 달 파티션도 함께 삭제 대상이 되도록 다시 조회
+            for (Partition partition : expired(listPartitions(table),
+                    now.minus(retention.get(table)))) {
+                dropPartition(table, partition);
+            }
+        }
+    }
+
+    private List<Partition> listPartitions(PartitionedTable table) {
+        return transactionTemplate.execute(status -> jdbcTemplate.query(
+                "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass(CAST(? AS text))",
+                (rs, rowNum) -> new Partition(rs.getString(1), upperBound(rs.getString(2))),
+                table.tableName()));
+    }
+
+    /**
+     * DEFAULT 파티션의 월별 행 수 (범위 밖 행만 들어오므로 평소에는 비어 있음)
+     */
+    private Map<LocalDateTime, Long> countRowsByMonth(PartitionedTable table,
+            String defaultPartition) {
+        Map<LocalDateTime, Long> months = new TreeMap<>();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT date_trunc('month', " + table.partitionColumn() + "), COUNT(*) FROM "
+                        + PartitionArchiver.quote(defaultPartition) + " GROUP BY 1",
+                rs -> {
+                    months.put(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2));
+                }));
+        return months;
+    }
+
+    /**
+     * 월 파티션 생성 (DEFAULT 파티션의 그 달 행 이관 포함, 한 트랜잭션)
+     * PARTITION OF로 바로 만들면 DEFAULT에 그 달 행이 있을 때 실패하므로,
+     * 별도 테이블로 만들어 행을 옮긴 뒤 ATTACH한다. ATTACH 시 PK/인덱스는 상위 테이블 기준으로 생성된다.
+     */
+    private void createPartition(PartitionedTable table, String defaultPartition,
+            LocalDateTime month, long pendingRows) {
+        String name = table.tableName() + "_p" + month.format(PARTITION_SUFFIX);
+        String quoted = PartitionArchiver.quote(name);
+        String from = month.format(BOUND_FORMAT);
+        String to = month.plusMonths(1).format(BOUND_FORMAT);
+        try {
+            Integer moved = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("CREATE TABLE " + quoted + " (LIKE " + table.tableName()
+                        + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+                int rows = 0;
+                if (defaultPartition != null && pendingRows > 0) {
+                    rows = jdbcTemplate.update("WITH moved AS (DELETE FROM "
+                            + PartitionArchiver.quote(defaultPartition) + " WHERE "
+                            + table.partitionColumn() + " >= ? AND " + table.partitionColumn()
+                            + " < ? RETURNING *) INSERT INTO " + quoted + " SELECT * FROM moved",
+                            Timestamp.valueOf(month), Timestamp.valueOf(month.plusMonths(1)));
+                }
+                jdbcTemplate.execute("ALTER TABLE " + table.tableName() + " ATTACH PARTITION "
+                        + quoted + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+                return rows;
+            });
+            if (moved != null && moved > 0) {
+                log.info("Created partition {} and moved {} rows from {}", name, moved,
+                        defaultPartition);
+            } else {
+                log.debug("Created partition {}", name);
+            }
+        } catch (DataAccessException e) {
+            failureCounters.get(table).increment();
+            log.error("Failed to create partition {} ({} rows of that month remain in {})", name,
+                    pendingRows, defaultPartition, e);
+        }
+    }
+
+    private void reportDefaultRows(PartitionedTable table, String defaultPartition) {
+        Long rows = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + PartitionArchiver.quote(defaultPartition), Long.class));
+        defaultRows.get(table).set(rows == null ? 0L : rows);
+        if (rows != null && rows > 0) {
+            // 이번 실행에서 옮기지 못한 행 (파티션 생성 실패) - 다음 실행에서 다시 옮긴다
+            log.warn("{} rows remain in default partition {}; they will be moved into monthly "
+                    + "partitions on the next run", rows, defaultPartition);
+        }
+    }
+
+    /**
+     * 보관 내보내기 후 파티션 분리 및 삭제 (내보내기 실패 시 삭제하지 않음)
+     */
+    private void dropPartition(PartitionedTable table, Partition partition) {
+        RetentionProperties.Archive archive = properties.archive();
+        if (archive != null && archive.enabled()) {
+            try {
+                partitionArchiver.export(table, partition.name(), archive.directory());
+            } catch (Exception e) {
+                failureCounters.get(table).increment();
+                log.error("Failed to archive partition {}, keeping it", partition.name(), e);
+                return;
+            }
+        }
+        String quoted = PartitionArchiver.quote(partition.name());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute(
+                        "ALTER TABLE " + table.tableName() + " DETACH PARTITION " + quoted);
+                jdbcTemplate.execute("DROP TABLE " + quoted);
+            });
+        } catch (DataAccessException e) {
+            failureCounters.get(table).increment();
+            log.error("Failed to drop partition {}", partition.name(), e);
+            return;
+        }
+        log.info("Dropped partition {} of {} (rows before {})", partition.name(),
+                table.tableName(), partition.upperBound());
+    }
+
+    /**
+     * 만들어야 할 월 파티션의 시작 시각 (오름차순)
+     * 기존 파티션 상한 이후부터 이번 달 + premakeMonths개월까지의 달과, DEFAULT 파티션에 행이 있는 달
+     * (DEFAULT에 행이 있는 달은 다른 파티션 범위에 속하지 않는다)
+     */
+    static List<LocalDateTime> monthsToCreate(List<Partition> partitions,
+            Collection<LocalDateTime> defaultMonths, LocalDateTime now, int premakeMonths) {
+        LocalDateTime thisMonth = now.toLocalDate().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime month = partitions.stream().map(Partition::upperBound)
+                .filter(bound -> bound != null).max(LocalDateTime::compareTo)
+                .filter(bound -> bound.isAfter(thisMonth)).orElse(thisMonth);
+        LocalDateTime until = thisMonth.plusMonths(premakeMonths + 1L);
+        Set<LocalDateTime> months = new TreeSet<>(defaultMonths);
+        for (; month.isBefore(until); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return List.copyOf(months);
+    }
+
+    /**
+     * 모든 행이 보존 기준 시각 이전인 파티션 (DEFAULT 파티션 제외)
+     */
+    static List<Partition> expired(List<Partition> partitions, LocalDateTime cutoff) {
+        return partitions.stream()
+                .filter(partition -> partition.upperBound() != null
+                        && !partition.upperBound().isAfter(cutoff))
+                .toList();
+    }
+
+    /**
+     * 파티션 범위 식의 상한 (예: FOR VALUES FROM ('2025-01-01 00:00:00') TO ('2025-02-01 00:00:00'))
+     * DEFAULT 파티션처럼 상한이 없으면 null
+     */
+    static LocalDateTime upperBound(String boundExpression) {
+        Matcher matcher = UPPER_BOUND.matcher(boundExpression == null ? "" : boundExpression);
+        if (!matcher.find()) {
+            return null;
+        }
+        String bound = matcher.group(1);
+        return bound.length() == 10 ? LocalDate.parse(bound).atStartOfDay()
+                : LocalDateTime.parse(bound.substring(0, 19), BOUND_FORMAT);
+    }
+
+    /**
+     * 파티션 이름과 범위 상한 (DEFAULT 파티션은 null)
+     */
+    record Partition(String name, LocalDateTime upperBound) {
+    }
+}
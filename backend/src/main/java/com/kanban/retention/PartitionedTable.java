@@ -0,0 +1,29 @@
+package com.kanban.retention;
+
+/**
+ * 월별 범위 파티션으로 관리하는 추가 전용 테이블 (V14 마이그레이션에서 전환)
+ * 테이블/칼럼 이름은 DDL에 그대로 쓰이므로 이 목록에 있는 값만 사용한다.
+ */
+public enum PartitionedTable {
+    NOTIFICATION("notification", "created_at"),
+    NOTIFICATION_LOG("notification_log", "created_at"),
+    ACTIVITY("activities", "created_at"),
+    AUDIT_LOG("audit_logs", "created_at"),
+    CARD_HISTORY("card_history", "changed_at");
+
+    private final String tableName;
+    private final String partitionColumn;
+
+    PartitionedTable(String tableName, String partitionColumn) {
+        this.tableName = tableName;
+        this.partitionColumn = partitionColumn;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public String partitionColumn() {
+        return partitionColumn;
+    }
+}
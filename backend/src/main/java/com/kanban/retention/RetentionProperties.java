@@ -0,0 +1,31 @@
+package com.kanban.retention;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 추가 전용 테이블 보존 설정
+ *
+ * @param enabled       보존/파티션 관리 작업 실행 여부
+ * @param premakeMonths 미리 만들어 둘 다음 달 파티션 수
+ * @param leaseTtl      한 인스턴스만 실행하도록 잡는 임대의 최대 보관 시간
+ * @param archive       삭제 전 파티션 보관 내보내기 설정
+ * @param tables        테이블별 보존 기간 (없는 테이블은 삭제하지 않음)
+ */
+@ConfigurationProperties(prefix = "retention")
+public record RetentionProperties(
+        boolean enabled,
+        int premakeMonths,
+        Duration leaseTtl,
+        Archive archive,
+        Map<PartitionedTable, Duration> tables
+) {
+
+    /**
+     * @param enabled   삭제 전 gzip CSV로 내보낼지 여부
+     * @param directory 내보낸 파일을 둘 로컬 디렉터리
+     */
+    public record Archive(boolean enabled, String directory) {
+    }
+}
@@ -0,0 +1,188 @@
+package com.kanban.search;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import com.kanban.search.dto.CardSearchRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PostgreSQL 전문 검색(tsvector) 기반 카드 검색 저장소
+ * card.search_vector(제목 A, 설명 B 가중치의 생성 칼럼)와 GIN 인덱스를 사용하며, ts_rank 순으로 keyset 페이지네이션한다.
+ * search_vector 칼럼이 없는 DB(H2 등)에서는 사용할 수 없으며, 이 경우 SearchService가 LIKE 검색으로 대체한다.
+ */
+@Repository
+@Slf4j
+public class CardFullTextSearchRepository {
+
+    private static final String TS_QUERY = "to_tsquery('simple', :tsQuery)";
+    private static final String RANK_EXPRESSION = "ts_rank(c.search_vector, " + TS_QUERY + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${search.full-text.enabled:true}")
+    private boolean fullTextEnabled;
+
+    private volatile Boolean available;
+
+    /**
+     * 검색 범위
+     */
+    public enum Scope {
+        BOARD, WORKSPACE
+    }
+
+    /**
+     * 관련도 점수가 포함된 검색 결과 행
+     */
+    public record RankedCardId(Long id, float rank) {
+    }
+
+    /**
+     * 전문 검색 사용 가능 여부 (설정 활성화 + search_vector 칼럼 존재, 최초 1회 확인)
+     */
+    public boolean isAvailable() {
+        if (!fullTextEnabled) {
+            return false;
+        }
+        if (available == null) {
+            available = detectSearchVectorColumn();
+            log.info("Card full-text search {}", available ? "enabled" : "unavailable, using LIKE fallback");
+        }
+        return available;
+    }
+
+    /**
+     * 키워드를 접두사 일치 tsquery로 변환 (입력 중 검색 지원) 예: "api 로그" -> "api:* & 로그:*"
+     * 문자/숫자 외의 문자는 제거하여 tsquery 문법 오류를 방지하며, 남는 토큰이 없으면 null
+     */
+    public static String toPrefixTsQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : keyword.trim().toLowerCase().split("\\s+")) {
+            StringBuilder term = new StringBuilder();
+            token.codePoints().filter(Character::isLetterOrDigit).forEach(term::appendCodePoint);
+            if (!term.isEmpty()) {
+                terms.add(term + ":*");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    /**
+     * 전문 검색 실행 - 관련도 내림차순, ID 오름차순
+     *
+     * @param cursor 이전 페이지 마지막 항목 (첫 페이지는 null)
+     * @param limit 조회할 최대 행 수
+     */
+    public List<RankedCardId> search(Scope scope, Long scopeId, CardSearchRequest request,
+            String tsQuery, SearchCursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT c.id, ").append(RANK_EXPRESSION)
+                .append(" AS search_rank FROM card c")
+                .append(" JOIN columns col ON col.id = c.column_id")
+                .append(" JOIN boards b ON b.id = col.board_id")
+                .append(" WHERE c.search_vector @@ ").append(TS_QUERY)
+                .append(" AND (c.is_archived IS NULL OR c.is_archived = false)");
+        Map<String, Object> params = new HashMap<>();
+        params.put("tsQuery", tsQuery);
+
+        if (scope == Scope.BOARD) {
+            sql.append(" AND b.id = :scopeId");
+        } else {
+            sql.append(" AND b.workspace_id = :scopeId");
+        }
+        params.put("scopeId", scopeId);
+
+        appendFilters(sql, params, request);
+
+        if (cursor != null) {
+            sql.append(" AND (").append(RANK_EXPRESSION).append(" < :cursorRank OR (")
+                    .append(RANK_EXPRESSION).append(" = :cursorRank AND c.id > :cursorId))");
+            params.put("cursorRank", cursor.rank());
+            params.put("cursorId", cursor.id());
+        }
+
+        sql.append(" ORDER BY search_rank DESC, c.id ASC");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream().map(row -> new RankedCardId(((Number) row[0]).longValue(),
+                ((Number) row[1]).floatValue())).toList();
+    }
+
+    private void appendFilters(StringBuilder sql, Map<String, Object> params,
+            CardSearchRequest request) {
+        if (request.getPriorities() != null && !request.getPriorities().isEmpty()) {
+            sql.append(" AND c.priority IN (:priorities)");
+            params.put("priorities", request.getPriorities());
+        }
+        if (request.getAssigneeIds() != null && !request.getAssigneeIds().isEmpty()) {
+            sql.append(" AND c.assignee_id IN (:assigneeIds)");
+            params.put("assigneeIds", request.getAssigneeIds());
+        }
+        if (request.getIsCompleted() != null) {
+            sql.append(" AND c.is_completed = :isCompleted");
+            params.put("isCompleted", request.getIsCompleted());
+        }
+        if (request.getDueDateFrom() != null) {
+            sql.append(" AND c.due_date >= :dueDateFrom");
+            params.put("dueDateFrom", request.getDueDateFrom());
+        }
+        if (request.getDueDateTo() != null) {
+            sql.append(" AND c.due_date <= :dueDateTo");
+            params.put("dueDateTo", request.getDueDateTo());
+        }
+        if (Boolean.TRUE.equals(request.getOverdue())) {
+            sql.append(" AND c.due_date < :today AND c.is_completed = false");
+            params.put("today", LocalDate.now());
+        }
+        if (Boolean.TRUE.equals(request.getParentCardIdIsNull())) {
+            sql.append(" AND c.parent_card_id IS NULL");
+        }
+        if (request.getSprintId() != null) {
+            sql.append(" AND c.sprint_id = :sprintId");
+            params.put("sprintId", request.getSprintId());
+        }
+        if (request.getLabelIds() != null && !request.getLabelIds().isEmpty()) {
+            Set<Long> labelIds = Set.copyOf(request.getLabelIds());
+            if (LabelMatchMode.from(request.getLabelMatch()) == LabelMatchMode.ALL) {
+                sql.append(" AND (SELECT COUNT(DISTINCT cl.label_id) FROM card_labels cl")
+                        .append(" WHERE cl.card_id = c.id AND cl.label_id IN (:labelIds))")
+                        .append(" = :labelCount");
+                params.put("labelCount", labelIds.size());
+            } else {
+                sql.append(" AND EXISTS (SELECT 1 FROM card_labels cl WHERE cl.card_id = c.id")
+                        .append(" AND cl.label_id IN (:labelIds))");
+            }
+            params.put("labelIds", labelIds);
+        }
+    }
+
+    private boolean detectSearchVectorColumn() {
+        try {
+            Number count = (Number) entityManager.createNativeQuery(
+                    "SELECT COUNT(*) FROM information_schema.columns "
+                            + "WHERE table_name = 'card' AND column_name = 'search_vector'")
+                    .getSingleResult();
+            return count.longValue() > 0;
+        } catch (RuntimeException e) {
+            log.warn("Failed to detect card.search_vector column: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.kanban.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import com.kanban.search.dto.CardTitleSuggestion;
+
+/**
+ * 워크스페이스 단위 카드 제목 trigram 인덱스 (메모리 내)
+ * 제목을 소문자 3글자 단위(trigram)로 나누어 trigram별 문서 번호 목록(int 배열)을 유지하고,
+ * 검색 시 쿼리 trigram 목록의 교집합을 구한 뒤 실제 포함 여부를 확인한다.
+ *
+ * 문서 번호는 추가 순서대로 증가하므로 posting list는 항상 정렬 상태이며, 삭제/제목 변경은 tombstone 처리 후
+ * 삭제된 문서가 일정 비율을 넘으면 전체를 압축(compact)한다.
+ */
+class CardTitleIndex {
+
+    private static final int GRAM = 3;
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * posting list 엔트리, HashMap 노드, 배열 헤더 등 고정 오버헤드 추정치 (bytes)
+     */
+    private static final long POSTING_OVERHEAD_BYTES = 96;
+    private static final long DOC_OVERHEAD_BYTES = 120;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] cardIds = new long[INITIAL_CAPACITY];
+    private long[] boardIds = new long[INITIAL_CAPACITY];
+    private long[] columnIds = new long[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private String[] normalizedTitles = new String[INITIAL_CAPACITY];
+    private boolean[] deleted = new boolean[INITIAL_CAPACITY];
+    private int docCount;
+    private int deletedCount;
+
+    private final Map<Long, Integer> docByCardId = new HashMap<>();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    /**
+     * 카드 추가 또는 제목/위치 갱신
+     */
+    void upsert(long cardId, long boardId, long columnId, String title) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByCardId.get(cardId);
+            if (existing != null) {
+                if (titles[existing].equals(title)) {
+                    boardIds[existing] = boardId;
+                    columnIds[existing] = columnId;
+                    return;
+                }
+                markDeleted(existing);
+            }
+            addDocument(cardId, boardId, columnId, title);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 카드 제거 (삭제/아카이브)
+     */
+    void remove(long cardId) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByCardId.get(cardId);
+            if (existing != null) {
+                markDeleted(existing);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목에 쿼리 문자열이 포함된 카드 검색 (접두사 일치 우선, 짧은 제목 우선)
+     */
+    List<CardTitleSuggestion> search(String query, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Integer> matches = new ArrayList<>();
+            if (normalizedQuery.length() < GRAM) {
+                // trigram을 만들 수 없는 짧은 쿼리는 전체 제목을 순회
+                for (int doc = 0; doc < docCount; doc++) {
+                    if (!deleted[doc] && normalizedTitles[doc].contains(normalizedQuery)) {
+                        matches.add(doc);
+                    }
+                }
+            } else {
+                for (int doc : candidates(normalizedQuery)) {
+                    if (!deleted[doc] && normalizedTitles[doc].contains(normalizedQuery)) {
+                        matches.add(doc);
+                    }
+                }
+            }
+
+            return matches.stream()
+                    .sorted(Comparator
+                            .comparing((Integer doc) -> !normalizedTitles[doc]
+                                    .startsWith(normalizedQuery))
+                            .thenComparingInt(doc -> titles[doc].length())
+                            .thenComparing(doc -> -cardIds[doc]))
+                    .limit(limit)
+                    .map(doc -> CardTitleSuggestion.builder().cardId(cardIds[doc])
+                            .boardId(boardIds[doc]).columnId(columnIds[doc]).title(titles[doc])
+                            .build())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스된(삭제되지 않은) 카드 수
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * trigram 종류 수
+     */
+    int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스가 차지하는 메모리 추정치 (bytes)
+     */
+    long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) cardIds.length * (Long.BYTES * 3 + 1 + 8 * 2);
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted[doc]) {
+                    continue;
+                }
+                bytes += DOC_OVERHEAD_BYTES + 40L + titles[doc].length() * 2L;
+                if (normalizedTitles[doc] != titles[doc]) {
+                    bytes += 40L + normalizedTitles[doc].length() * 2L;
+                }
+            }
+            for (PostingList posting : postings.values()) {
+                bytes += POSTING_OVERHEAD_BYTES + (long) posting.docs.length * Integer.BYTES;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    /**
+     * 문자열의 trigram 키 목록 (UTF-16 문자 3개를 long 하나로 압축, 중복 제거)
+     */
+    static Set<Long> trigrams(String normalized) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.add(((long) normalized.charAt(i) << 32) | ((long) normalized.charAt(i + 1) << 16)
+                    | normalized.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private int[] candidates(String normalizedQuery) {
+        List<PostingList> lists = new ArrayList<>();
+        for (long gram : trigrams(normalizedQuery)) {
+            PostingList posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        // 가장 짧은 목록부터 교집합
+        lists.sort(Comparator.comparingInt(posting -> posting.size));
+        int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] left, PostingList right) {
+        int[] out = new int[Math.min(left.length, right.size)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < left.length && j < right.size) {
+            if (left[i] == right.docs[j]) {
+                out[n++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right.docs[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private void addDocument(long cardId, long boardId, long columnId, String title) {
+        ensureCapacity(docCount + 1);
+        int doc = docCount++;
+        String normalized = normalize(title);
+        cardIds[doc] = cardId;
+        boardIds[doc] = boardId;
+        columnIds[doc] = columnId;
+        titles[doc] = title;
+        // 소문자 변환 결과가 같으면 같은 인스턴스를 공유하여 메모리 절약
+        normalizedTitles[doc] = normalized.equals(title) ? title : normalized;
+        deleted[doc] = false;
+        docByCardId.put(cardId, doc);
+        for (long gram : trigrams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(doc);
+        }
+    }
+
+    private void markDeleted(int doc) {
+        if (!deleted[doc]) {
+            deleted[doc] = true;
+            deletedCount++;
+            docByCardId.remove(cardIds[doc]);
+        }
+    }
+
+    /**
+     * 삭제된 문서가 1,000개 이상이고 전체의 25%를 넘으면 살아있는 문서만으로 재구성
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < 1_000 || deletedCount * 4 < docCount) {
+            return;
+        }
+        long[] oldCardIds = cardIds;
+        long[] oldBoardIds = boardIds;
+        long[] oldColumnIds = columnIds;
+        String[] oldTitles = titles;
+        boolean[] oldDeleted = deleted;
+        int oldCount = docCount;
+
+        int capacity = Math.max(INITIAL_CAPACITY, oldCount - deletedCount);
+        cardIds = new long[capacity];
+        boardIds = new long[capacity];
+        columnIds = new long[capacity];
+        titles = new String[capacity];
+        normalizedTitles = new String[capacity];
+        deleted = new boolean[capacity];
+        docCount = 0;
+        deletedCount = 0;
+        docByCardId.clear();
+        postings.clear();
+
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (!oldDeleted[doc]) {
+                addDocument(oldCardIds[doc], oldBoardIds[doc], oldColumnIds[doc], oldTitles[doc]);
+            }
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= cardIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, cardIds.length + (cardIds.length >> 1));
+        cardIds = Arrays.copyOf(cardIds, capacity);
+        boardIds = Arrays.copyOf(boardIds, capacity);
+        columnIds = Arrays.copyOf(columnIds, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        normalizedTitles = Arrays.copyOf(normalizedTitles, capacity);
+        deleted = Arrays.copyOf(deleted, capacity);
+    }
+
+    /**
+     * 정렬된 문서 번호 목록 (int 배열 기반, 박싱 없음)
+     */
+    private static final class PostingList {
+        private int[] docs = new int[2];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size + Math.max(2, size >> 1));
+            }
+            docs[size++] = doc;
+        }
+    }
+}
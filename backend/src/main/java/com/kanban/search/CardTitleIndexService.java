@@ -0,0 +1,300 @@
+package com.kanban.search;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.kanban.board.Board;
+import com.kanban.board.BoardRepository;
+import com.kanban.card.Card;
+import com.kanban.card.CardRepository;
+import com.kanban.history.CardChangedEvent;
+import com.kanban.search.dto.CardTitleSuggestion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 제목 자동완성 인덱스 서비스
+ * 워크스페이스별 CardTitleIndex를 최초 조회 시 CardRepository.findByBoardId로 구성하고,
+ * CardService가 발행하는 CardChangedEvent로 최신 상태를 유지한다. 조회 시 DB에 접근하지 않는다.
+ *
+ * 변경 이벤트는 전용 단일 스레드(크기 제한 큐, 가득 차면 호출 스레드에서 처리)에서 순서대로 반영하며,
+ * 인덱스 변경은 cache.asMap().computeIfPresent 안에서 수행하여 캐시 가중치(카드 수)를 다시 계산하게 한다.
+ * 인덱스 구성 중에 도착한 이벤트는 버려지지 않도록 워크스페이스별로 모아 두었다가 구성 완료 후 다시 반영한다.
+ *
+ * 메모리 상한: 전체 인덱스 카드 수 합계(max-total-cards)를 기준으로 오래 사용하지 않은 워크스페이스부터 제거하며,
+ * 카드 수가 max-cards-per-workspace를 넘는 워크스페이스는 인덱스를 만들지 않고 DB LIKE 조회로 대체한다.
+ * 현재 사용량은 search.title_index.* 게이지로 Actuator에 노출된다.
+ */
+@Service
+@Slf4j
+public class CardTitleIndexService {
+
+    /**
+     * 제목 인덱스에 영향을 주는 카드 변경 필드
+     */
+    private static final Set<String> INDEXED_FIELDS =
+            Set.of("TITLE", "LIFECYCLE", "STATUS", "COLUMN");
+
+    private static final int MAX_LIMIT = 50;
+
+    /**
+     * 카드 수 상한을 넘어 인덱스를 만들지 않은 워크스페이스 표시 (가중치 1로 캐시에 유지)
+     */
+    private static final CardTitleIndex OVERSIZED = new CardTitleIndex();
+
+    private final CardRepository cardRepository;
+    private final BoardRepository boardRepository;
+    private final int maxCardsPerWorkspace;
+    private final LoadingCache<Long, CardTitleIndex> indexes;
+    private final Map<Long, Long> workspaceIdByBoardId = new ConcurrentHashMap<>();
+
+    /**
+     * 인덱스 구성 중인 워크스페이스별로 그 사이 변경된 카드 ID (구성 완료 후 다시 반영)
+     */
+    private final Map<Long, Set<Long>> pendingCardIds = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor updateExecutor;
+
+    public CardTitleIndexService(CardRepository cardRepository, BoardRepository boardRepository,
+            MeterRegistry meterRegistry,
+            @Value("${search.title-index.max-total-cards:1000000}") long maxTotalCards,
+            @Value("${search.title-index.max-cards-per-workspace:200000}") int maxCardsPerWorkspace,
+            @Value("${search.title-index.update-queue-capacity:10000}") int updateQueueCapacity) {
+        this.cardRepository = cardRepository;
+        this.boardRepository = boardRepository;
+        this.maxCardsPerWorkspace = maxCardsPerWorkspace;
+        this.indexes = Caffeine.newBuilder().maximumWeight(maxTotalCards)
+                .weigher((Long workspaceId, CardTitleIndex index) -> Math.max(1, index.size()))
+                .expireAfterAccess(Duration.ofHours(6))
+                .removalListener((Long workspaceId, CardTitleIndex index, RemovalCause cause) -> {
+                    if (workspaceId != null && cause != RemovalCause.REPLACED) {
+                        forgetWorkspace(workspaceId);
+                    }
+                }).build(this::buildIndex);
+
+        // 이벤트 순서를 유지하도록 단일 스레드, 큐가 가득 차면 호출 스레드에서 처리하여 변경을 버리지 않음
+        this.updateExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(updateQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "title-index-update");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("search.title_index.workspaces", indexes, cache -> cache.estimatedSize())
+                .description("Workspaces with a loaded card title index").register(meterRegistry);
+        Gauge.builder("search.title_index.cards", this, service -> service.totalIndexedCards())
+                .description("Cards held in card title indexes").register(meterRegistry);
+        Gauge.builder("search.title_index.memory", this, service -> service.estimatedBytes())
+                .description("Estimated heap used by card title indexes").baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("search.title_index.update.queue.size", updateExecutor,
+                pool -> pool.getQueue().size())
+                .description("Card changes waiting to be applied to title indexes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 워크스페이스 카드 제목 자동완성
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param query 검색어 (제목에 포함된 문자열)
+     * @param limit 최대 결과 수 (최대 50)
+     */
+    @Transactional(readOnly = true)
+    public List<CardTitleSuggestion> suggest(Long workspaceId, String query, int limit) {
+        String normalized = CardTitleIndex.normalize(query);
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        CardTitleIndex index = indexes.get(workspaceId);
+        replayPending(workspaceId);
+        if (index == OVERSIZED) {
+            return cardRepository
+                    .findActiveTitleMatchesInWorkspace(workspaceId, "%" + normalized + "%",
+                            PageRequest.of(0, cappedLimit))
+                    .stream().map(CardTitleIndexService::toSuggestion).toList();
+        }
+        return index.search(normalized, cappedLimit);
+    }
+
+    /**
+     * 카드 변경 이벤트 반영 (커밋 이후 전용 스레드에서 처리)
+     * 이벤트 순서와 무관하게 항상 DB의 최신 카드 상태를 다시 읽어 반영한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCardChangedEvent(CardChangedEvent event) {
+        if (event.getChanges() == null || event.getChanges().stream()
+                .noneMatch(change -> INDEXED_FIELDS.contains(change.getField()))) {
+            return;
+        }
+        updateExecutor.execute(() -> {
+            try {
+                applyChange(event.getBoardId(), event.getCardId());
+            } catch (Exception e) {
+                log.warn("Failed to apply card {} change to title index", event.getCardId(), e);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 대기 중인 변경 반영 후 정지
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        updateExecutor.shutdown();
+        if (!updateExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            updateExecutor.shutdownNow();
+        }
+    }
+
+    void applyChange(Long boardId, Long cardId) {
+        Long workspaceId = resolveWorkspaceId(boardId);
+        if (workspaceId == null) {
+            return;
+        }
+        Set<Long> pending = pendingCardIds.get(workspaceId);
+        if (pending != null) {
+            pending.add(cardId);
+            if (pendingCardIds.get(workspaceId) == pending) {
+                // 구성 중 - 구성이 끝난 뒤 replayPending에서 반영
+                return;
+            }
+        }
+        // 없는 인덱스는 최초 조회 시 최신 상태로 만들어지므로 반영하지 않음
+        indexes.asMap().computeIfPresent(workspaceId, (id, index) -> {
+            if (index != OVERSIZED) {
+                applyCard(index, cardId);
+            }
+            return index;
+        });
+    }
+
+    /**
+     * 구성 중에 모아 둔 변경 반영 (인덱스가 캐시에 등록된 뒤에만 목록을 가져옴)
+     * 목록을 먼저 제거하므로 이후 도착한 변경은 applyChange가 직접 반영한다.
+     */
+    private void replayPending(Long workspaceId) {
+        if (!pendingCardIds.containsKey(workspaceId)) {
+            return;
+        }
+        indexes.asMap().computeIfPresent(workspaceId, (id, index) -> {
+            Set<Long> pending = pendingCardIds.remove(id);
+            if (pending != null && index != OVERSIZED) {
+                pending.forEach(cardId -> applyCard(index, cardId));
+            }
+            return index;
+        });
+    }
+
+    /**
+     * DB의 최신 카드 상태를 인덱스에 반영 (삭제/아카이브된 카드는 제거)
+     */
+    private void applyCard(CardTitleIndex index, Long cardId) {
+        List<Card> cards = cardRepository.findByIdInWithColumnAndBoard(List.of(cardId));
+        if (cards.isEmpty() || Boolean.TRUE.equals(cards.get(0).getIsArchived())) {
+            index.remove(cardId);
+            return;
+        }
+        Card card = cards.get(0);
+        index.upsert(card.getId(), card.getColumn().getBoard().getId(), card.getColumn().getId(),
+                card.getTitle());
+    }
+
+    /**
+     * 제거된 워크스페이스의 보드 매핑 정리 (구성 중인 변경 목록은 구성 쪽에서 관리)
+     */
+    private void forgetWorkspace(Long workspaceId) {
+        workspaceIdByBoardId.values().removeIf(workspaceId::equals);
+    }
+
+    /**
+     * 워크스페이스 인덱스 제거 (다음 조회 시 재구성)
+     */
+    public void invalidate(Long workspaceId) {
+        indexes.invalidate(workspaceId);
+    }
+
+    long totalIndexedCards() {
+        return indexes.asMap().values().stream().mapToLong(CardTitleIndex::size).sum();
+    }
+
+    long estimatedBytes() {
+        return indexes.asMap().values().stream().mapToLong(CardTitleIndex::estimatedBytes).sum();
+    }
+
+    /**
+     * 워크스페이스의 활성 보드 카드로 인덱스 구성
+     */
+    private CardTitleIndex buildIndex(Long workspaceId) {
+        // DB를 읽기 전에 등록해야 읽은 이후의 변경이 빠지지 않음
+        pendingCardIds.put(workspaceId, ConcurrentHashMap.newKeySet());
+        try {
+            return loadIndex(workspaceId);
+        } catch (RuntimeException e) {
+            pendingCardIds.remove(workspaceId);
+            throw e;
+        }
+    }
+
+    private CardTitleIndex loadIndex(Long workspaceId) {
+        long startedAt = System.nanoTime();
+        CardTitleIndex index = new CardTitleIndex();
+        for (Board board : boardRepository.findActiveByWorkspaceId(workspaceId)) {
+            workspaceIdByBoardId.put(board.getId(), workspaceId);
+            for (Card card : cardRepository.findByBoardId(board.getId())) {
+                if (Boolean.TRUE.equals(card.getIsArchived())) {
+                    continue;
+                }
+                index.upsert(card.getId(), board.getId(), card.getColumn().getId(),
+                        card.getTitle());
+            }
+            if (index.size() > maxCardsPerWorkspace) {
+                log.warn("Workspace {} exceeds {} cards, title index disabled (DB fallback)",
+                        workspaceId, maxCardsPerWorkspace);
+                return OVERSIZED;
+            }
+        }
+        log.info("Built card title index for workspace {}: {} cards, {} trigrams, ~{} KB in {} ms",
+                workspaceId, index.size(), index.trigramCount(), index.estimatedBytes() / 1024,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return index;
+    }
+
+    private Long resolveWorkspaceId(Long boardId) {
+        if (boardId == null) {
+            return null;
+        }
+        Long workspaceId = workspaceIdByBoardId.get(boardId);
+        if (workspaceId == null) {
+            // 인덱스 구성 이후 생성된 보드
+            workspaceId = boardRepository.findById(boardId)
+                    .map(board -> board.getWorkspace().getId()).orElse(null);
+            // 인덱스가 있는 워크스페이스만 기억 (제거된 워크스페이스의 매핑이 다시 쌓이지 않도록)
+            if (workspaceId != null && indexes.asMap().containsKey(workspaceId)) {
+                workspaceIdByBoardId.put(boardId, workspaceId);
+            }
+        }
+        return workspaceId;
+    }
+
+    private static CardTitleSuggestion toSuggestion(Card card) {
+        return CardTitleSuggestion.builder().cardId(card.getId())
+                .boardId(card.getColumn().getBoard().getId()).columnId(card.getColumn().getId())
+                .title(card.getTitle()).build();
+    }
+}
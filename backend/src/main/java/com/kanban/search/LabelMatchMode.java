@@ -0,0 +1,24 @@
+package com.kanban.search;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 카드 검색 라벨 필터 일치 방식
+ */
+public enum LabelMatchMode {
+    /**
+     * 지정한 라벨 중 하나라도 가진 카드
+     */
+    ANY,
+    /**
+     * 지정한 라벨을 모두 가진 카드
+     */
+    ALL;
+
+    public static LabelMatchMode from(String value) {
+        if (!StringUtils.hasText(value)) {
+            return ANY;
+        }
+        return "all".equalsIgnoreCase(value.trim()) ? ALL : ANY;
+    }
+}
@@ -3,8 +3,10 @@ package com.kanban.search;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.kanban.search.dto.CardSearchPageResponse;
 import com.kanban.search.dto.CardSearchRequest;
 import com.kanban.search.dto.CardSearchResponse;
+import com.kanban.search.dto.CardTitleSuggestion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SearchController {
 
     private final SearchService searchService;
+    private final CardTitleIndexService cardTitleIndexService;
 
     /**
      * 보드 내 카드 검색 GET /api/v1/search/boards/{boardId}/cards
@@ -50,6 +53,48 @@ public class SearchController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * 보드 내 카드 페이지 검색 (관련도순 또는 최근 수정순, keyset 페이지네이션)
+     * GET /api/v1/search/boards/{boardId}/cards/page
+     *
+     * @param boardId 보드 ID
+     * @param request 검색 조건 (cursor, size 포함)
+     * @return 검색 결과 페이지
+     */
+    @GetMapping("/boards/{boardId}/cards/page")
+    public ResponseEntity<CardSearchPageResponse> searchCardsPageInBoard(
+            @PathVariable Long boardId, @ModelAttribute CardSearchRequest request) {
+        log.debug("GET /api/v1/search/boards/{}/cards/page - request: {}", boardId, request);
+        return ResponseEntity.ok(searchService.searchCardsPage(boardId, request));
+    }
+
+    /**
+     * 워크스페이스 내 카드 페이지 검색 (관련도순 또는 최근 수정순, keyset 페이지네이션)
+     * GET /api/v1/search/workspaces/{workspaceId}/cards/page
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param request 검색 조건 (cursor, size 포함)
+     * @return 검색 결과 페이지
+     */
+    @GetMapping("/workspaces/{workspaceId}/cards/page")
+    public ResponseEntity<CardSearchPageResponse> searchCardsPageInWorkspace(
+            @PathVariable Long workspaceId, @ModelAttribute CardSearchRequest request) {
+        log.debug("GET /api/v1/search/workspaces/{}/cards/page - request: {}", workspaceId,
+                request);
+        return ResponseEntity.ok(searchService.searchCardsInWorkspacePage(workspaceId, request));
+    }
+
+    /**
+     * 워크스페이스 내 카드 제목 자동완성 (메모리 인덱스, 멘션/부모 카드 선택/빠른 이동용)
+     * GET /api/v1/search/workspaces/{workspaceId}/cards/suggest?q=...&limit=10
+     */
+    @GetMapping("/workspaces/{workspaceId}/cards/suggest")
+    public ResponseEntity<List<CardTitleSuggestion>> suggestCardTitles(
+            @PathVariable Long workspaceId, @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(cardTitleIndexService.suggest(workspaceId, query, limit));
+    }
+
     /**
      * 워크스페이스 내 보드 검색 GET /api/v1/search/workspaces/{workspaceId}/boards
      */
@@ -0,0 +1,63 @@
+package com.kanban.search;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 카드 검색 keyset 페이지네이션 커서
+ * 전문 검색 모드는 (rank, id), 최신순 모드는 (updatedAt, id)를 마지막 항목 기준값으로 사용한다.
+ * 클라이언트에는 불투명한 Base64 문자열로 전달한다.
+ */
+public record SearchCursor(Float rank, LocalDateTime updatedAt, Long id) {
+
+    private static final String RANK_PREFIX = "r";
+    private static final String UPDATED_AT_PREFIX = "u";
+
+    public static SearchCursor ofRank(float rank, Long id) {
+        return new SearchCursor(rank, null, id);
+    }
+
+    public static SearchCursor ofUpdatedAt(LocalDateTime updatedAt, Long id) {
+        return new SearchCursor(null, updatedAt, id);
+    }
+
+    public boolean isRankCursor() {
+        return rank != null;
+    }
+
+    public String encode() {
+        String raw = isRankCursor() ? RANK_PREFIX + "|" + rank + "|" + id
+                : UPDATED_AT_PREFIX + "|" + updatedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 문자열이면 첫 페이지)
+     *
+     * @throws ResponseStatusException 형식이 올바르지 않은 경우 400
+     */
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Unexpected cursor format");
+            }
+            Long id = Long.valueOf(parts[2]);
+            return switch (parts[0]) {
+                case RANK_PREFIX -> ofRank(Float.parseFloat(parts[1]), id);
+                case UPDATED_AT_PREFIX -> ofUpdatedAt(LocalDateTime.parse(parts[1]), id);
+                default -> throw new IllegalArgumentException("Unknown cursor type");
+            };
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid search cursor");
+        }
+    }
+}
@@ -3,14 +3,28 @@ package com.kanban.search;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
 import com.kanban.card.Card;
-import com.kanban.label.CardLabelRepository;
+import com.kanban.card.CardRepository;
+import com.kanban.card.CardResponseAssembler;
+import com.kanban.label.CardLabel;
 import com.kanban.label.dto.LabelResponse;
+import com.kanban.search.CardFullTextSearchRepository.RankedCardId;
+import com.kanban.search.CardFullTextSearchRepository.Scope;
+import com.kanban.search.dto.CardSearchPageResponse;
 import com.kanban.search.dto.CardSearchRequest;
 import com.kanban.search.dto.CardSearchResponse;
+import com.kanban.user.User;
+import com.kanban.user.dto.UserSummary;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.*;
 import lombok.RequiredArgsConstructor;
@@ -26,9 +40,16 @@ import lombok.extern.slf4j.Slf4j;
 public class SearchService {
 
     private final EntityManager entityManager;
-    private final CardLabelRepository cardLabelRepository;
     private final com.kanban.board.BoardRepository boardRepository;
     private final com.kanban.column.ColumnRepository columnRepository;
+    private final CardResponseAssembler cardResponseAssembler;
+    private final CardRepository cardRepository;
+    private final CardFullTextSearchRepository cardFullTextSearchRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String RANKING_FULL_TEXT = "FULL_TEXT";
+    private static final String RANKING_RECENT = "RECENT";
 
     /**
      * 보드 내 카드 검색
@@ -46,7 +67,7 @@ public class SearchService {
         Join<Object, Object> column = card.join("column");
         Join<Object, Object> board = column.join("board");
 
-        List<Predicate> predicates = buildCommonPredicates(request, cb, card);
+        List<Predicate> predicates = buildCommonPredicates(request, query, cb, card);
         predicates.add(cb.equal(board.get("id"), boardId));
 
         query.where(predicates.toArray(new Predicate[0]));
@@ -54,13 +75,7 @@ public class SearchService {
 
         List<Card> cards = entityManager.createQuery(query).getResultList();
 
-        // 라벨 필터 적용 (라벨은 별도 테이블이므로 후처리)
-        if (request.getLabelIds() != null && !request.getLabelIds().isEmpty()) {
-            cards = cards.stream().filter(c -> hasAnyLabel(c.getId(), request.getLabelIds()))
-                    .toList();
-        }
-
-        return cards.stream().map(this::toSearchResponse).toList();
+        return toSearchResponses(cards);
     }
 
     /**
@@ -80,7 +95,7 @@ public class SearchService {
         Join<Object, Object> board = column.join("board");
         Join<Object, Object> workspace = board.join("workspace");
 
-        List<Predicate> predicates = buildCommonPredicates(request, cb, card);
+        List<Predicate> predicates = buildCommonPredicates(request, query, cb, card);
         predicates.add(cb.equal(workspace.get("id"), workspaceId));
 
         query.where(predicates.toArray(new Predicate[0]));
@@ -88,17 +103,143 @@ public class SearchService {
 
         List<Card> cards = entityManager.createQuery(query).getResultList();
 
-        // 라벨 필터
-        if (request.getLabelIds() != null && !request.getLabelIds().isEmpty()) {
-            cards = cards.stream().filter(c -> hasAnyLabel(c.getId(), request.getLabelIds()))
-                    .toList();
+        return toSearchResponses(cards);
+    }
+
+    /**
+     * 보드 내 카드 페이지 검색 (keyset 페이지네이션)
+     *
+     * @param boardId 보드 ID
+     * @param request 검색 조건 (cursor, size 포함)
+     * @return 검색 결과 페이지
+     */
+    public CardSearchPageResponse searchCardsPage(Long boardId, CardSearchRequest request) {
+        return searchPage(Scope.BOARD, boardId, request);
+    }
+
+    /**
+     * 워크스페이스 내 카드 페이지 검색 (keyset 페이지네이션)
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param request 검색 조건 (cursor, size 포함)
+     * @return 검색 결과 페이지
+     */
+    public CardSearchPageResponse searchCardsInWorkspacePage(Long workspaceId,
+            CardSearchRequest request) {
+        return searchPage(Scope.WORKSPACE, workspaceId, request);
+    }
+
+    /**
+     * 페이지 검색 공통 처리
+     * 키워드가 있고 전문 검색을 사용할 수 있으면 ts_rank 관련도순, 그 외에는 LIKE 조건의 최근 수정순으로 조회
+     */
+    private CardSearchPageResponse searchPage(Scope scope, Long scopeId,
+            CardSearchRequest request) {
+        int size = request.getSize() == null ? DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+        SearchCursor cursor = SearchCursor.decode(request.getCursor());
+        String tsQuery = CardFullTextSearchRepository.toPrefixTsQuery(request.getKeyword());
+        boolean fullText = tsQuery != null && cardFullTextSearchRepository.isAvailable();
+
+        if (cursor != null && cursor.isRankCursor() != fullText) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Search cursor does not match the current search mode");
+        }
+
+        if (fullText) {
+            List<RankedCardId> rows = cardFullTextSearchRepository.search(scope, scopeId, request,
+                    tsQuery, cursor, size + 1);
+            boolean hasNext = rows.size() > size;
+            List<RankedCardId> pageRows = hasNext ? rows.subList(0, size) : rows;
+            String nextCursor = null;
+            if (hasNext) {
+                RankedCardId last = pageRows.get(pageRows.size() - 1);
+                nextCursor = SearchCursor.ofRank(last.rank(), last.id()).encode();
+            }
+            List<Card> cards = loadCardsInOrder(pageRows.stream().map(RankedCardId::id).toList());
+            return CardSearchPageResponse.builder().content(toSearchResponses(cards))
+                    .nextCursor(nextCursor).hasNext(hasNext).size(size)
+                    .ranking(RANKING_FULL_TEXT).build();
         }
 
-        return cards.stream().map(this::toSearchResponse).toList();
+        List<Card> cards = findRecentPage(scope, scopeId, request, cursor, size + 1);
+        boolean hasNext = cards.size() > size;
+        List<Card> pageCards = hasNext ? cards.subList(0, size) : cards;
+        String nextCursor = null;
+        if (hasNext) {
+            Card last = pageCards.get(pageCards.size() - 1);
+            nextCursor = SearchCursor.ofUpdatedAt(last.getUpdatedAt(), last.getId()).encode();
+        }
+        return CardSearchPageResponse.builder().content(toSearchResponses(pageCards))
+                .nextCursor(nextCursor).hasNext(hasNext).size(size).ranking(RANKING_RECENT)
+                .build();
     }
 
-    private List<Predicate> buildCommonPredicates(CardSearchRequest request, CriteriaBuilder cb,
-            Root<Card> card) {
+    /**
+     * 최근 수정순 keyset 조회 (전문 검색을 사용할 수 없을 때의 대체 경로, H2 호환)
+     */
+    private List<Card> findRecentPage(Scope scope, Long scopeId, CardSearchRequest request,
+            SearchCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Card> query = cb.createQuery(Card.class);
+        Root<Card> card = query.from(Card.class);
+        Join<Object, Object> column = card.join("column");
+        Join<Object, Object> board = column.join("board");
+
+        List<Predicate> predicates = buildCommonPredicates(request, query, cb, card);
+        if (scope == Scope.BOARD) {
+            predicates.add(cb.equal(board.get("id"), scopeId));
+        } else {
+            predicates.add(cb.equal(board.get("workspace").get("id"), scopeId));
+        }
+        if (cursor != null) {
+            predicates.add(cb.or(cb.lessThan(card.get("updatedAt"), cursor.updatedAt()),
+                    cb.and(cb.equal(card.get("updatedAt"), cursor.updatedAt()),
+                            cb.lessThan(card.get("id"), cursor.id()))));
+        }
+
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.desc(card.get("updatedAt")), cb.desc(card.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * 라벨 조건을 카드별 서브쿼리로 생성 (카드를 모두 읽은 뒤 카드마다 라벨을 확인하지 않도록 SQL에서 처리)
+     * ANY: EXISTS, ALL: 일치하는 서로 다른 라벨 수가 요청한 라벨 수와 같은지 비교
+     */
+    private Predicate buildLabelPredicate(CriteriaQuery<?> query, CriteriaBuilder cb,
+            Root<Card> card, List<Long> labelIds, LabelMatchMode matchMode) {
+        Set<Long> distinctLabelIds = Set.copyOf(labelIds);
+        if (matchMode == LabelMatchMode.ALL) {
+            Subquery<Long> matchedCount = query.subquery(Long.class);
+            Root<CardLabel> cardLabel = matchedCount.from(CardLabel.class);
+            matchedCount.select(cb.countDistinct(cardLabel.get("label").get("id"))).where(
+                    cb.equal(cardLabel.get("card"), card),
+                    cardLabel.get("label").get("id").in(distinctLabelIds));
+            return cb.equal(matchedCount, (long) distinctLabelIds.size());
+        }
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<CardLabel> cardLabel = subquery.from(CardLabel.class);
+        subquery.select(cardLabel.get("id")).where(cb.equal(cardLabel.get("card"), card),
+                cardLabel.get("label").get("id").in(distinctLabelIds));
+        return cb.exists(subquery);
+    }
+
+    /**
+     * ID 순서를 유지하며 카드 일괄 조회 (칼럼/보드 포함)
+     */
+    private List<Card> loadCardsInOrder(List<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Card> cardsById = cardRepository.findByIdInWithColumnAndBoard(cardIds).stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+        return cardIds.stream().map(cardsById::get).filter(Objects::nonNull).toList();
+    }
+
+    private List<Predicate> buildCommonPredicates(CardSearchRequest request,
+            CriteriaQuery<?> query, CriteriaBuilder cb, Root<Card> card) {
         List<Predicate> predicates = new ArrayList<>();
 
         if (StringUtils.hasText(request.getKeyword())) {
@@ -140,6 +281,11 @@ public class SearchService {
             predicates.add(cb.equal(card.get("sprint").get("id"), request.getSprintId()));
         }
 
+        if (request.getLabelIds() != null && !request.getLabelIds().isEmpty()) {
+            predicates.add(buildLabelPredicate(query, cb, card, request.getLabelIds(),
+                    LabelMatchMode.from(request.getLabelMatch())));
+        }
+
         // 기본적으로 아카이브된 카드는 제외 (명시적 요청이 없는 한)
         // TODO: CardSearchRequest에 includeArchived 필드 추가 고려
         predicates.add(cb.equal(card.get("isArchived"), false));
@@ -174,27 +320,43 @@ public class SearchService {
     }
 
     /**
-     * 카드가 특정 라벨 중 하나라도 가지고 있는지 확인
+     * Card 엔티티 목록을 CardSearchResponse로 변환 (라벨/담당자 일괄 조회)
      */
-    private boolean hasAnyLabel(Long cardId, List<Long> labelIds) {
-        return cardLabelRepository.existsByCardIdAndLabelIds(cardId, labelIds);
+    private List<CardSearchResponse> toSearchResponses(List<Card> cards) {
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+        List<Long> cardIds = cards.stream().map(Card::getId).toList();
+        Map<Long, List<LabelResponse>> labelsByCardId =
+                cardResponseAssembler.getLabelsByCardIds(cardIds);
+        Set<Long> assigneeIds = cards.stream().map(Card::getAssignee).filter(Objects::nonNull)
+                .map(User::getId).collect(Collectors.toSet());
+        Map<Long, UserSummary> assignees = cardResponseAssembler.getUserSummariesByIds(assigneeIds);
+        Map<Long, Integer> ordinals = cardResponseAssembler.getOrdinals(cards);
+
+        return cards.stream().map(card -> toSearchResponse(card,
+                labelsByCardId.getOrDefault(card.getId(), List.of()), assignees,
+                ordinals.get(card.getId()))).toList();
     }
 
     /**
-     * Card 엔티티를 CardSearchResponse로 변환
+     * Card 엔티티를 CardSearchResponse로 변환 (position은 rankKey 순서의 표시 순번)
      */
-    private CardSearchResponse toSearchResponse(Card card) {
-        List<LabelResponse> labels = cardLabelRepository.findByCardId(card.getId()).stream()
-                .map(cl -> LabelResponse.from(cl.getLabel())).toList();
+    private CardSearchResponse toSearchResponse(Card card, List<LabelResponse> labels,
+            Map<Long, UserSummary> assignees, Integer position) {
+        UserSummary assignee =
+                card.getAssignee() != null ? assignees.get(card.getAssignee().getId()) : null;
 
         return CardSearchResponse.builder().id(card.getId())
                 .workspaceId(card.getColumn().getBoard().getWorkspace().getId())
                 .columnId(card.getColumn().getId()).columnName(card.getColumn().getName())
                 .boardId(card.getColumn().getBoard().getId())
                 .boardName(card.getColumn().getBoard().getName()).title(card.getTitle())
-                .description(card.getDescription()).position(card.getPosition())
+                .description(card.getDescription()).position(position)
                 .bgColor(card.getBgColor()).priority(card.getPriority())
                 .assigneeId(card.getAssignee() != null ? card.getAssignee().getId() : null)
+                .assignee(assignee != null ? assignee.getName() : null)
+                .assigneeAvatarUrl(assignee != null ? assignee.getProxyAvatarUrl() : null)
                 .dueDate(card.getDueDate()).isCompleted(card.getIsCompleted())
                 .startedAt(card.getStartedAt()).completedAt(card.getCompletedAt()).labels(labels)
                 .createdAt(card.getCreatedAt()).updatedAt(card.getUpdatedAt())
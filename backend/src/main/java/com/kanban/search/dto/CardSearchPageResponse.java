@@ -0,0 +1,33 @@
+package com.kanban.search.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카드 검색 페이지 응답 DTO (keyset 페이지네이션)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardSearchPageResponse {
+
+    private List<CardSearchResponse> content;
+
+    /**
+     * 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private int size;
+
+    /**
+     * 정렬 방식 (FULL_TEXT: 관련도순, RECENT: 최근 수정순)
+     */
+    private String ranking;
+}
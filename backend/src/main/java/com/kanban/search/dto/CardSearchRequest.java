@@ -36,6 +36,11 @@ public class CardSearchRequest {
      */
     private List<Long> labelIds;
 
+    /**
+     * 라벨 필터 일치 방식 (any: 하나라도 포함 - 기본값, all: 모두 포함)
+     */
+    private String labelMatch;
+
     /**
      * 완료 상태 필터
      */
@@ -65,4 +70,14 @@ public class CardSearchRequest {
      * 스프린트 ID 필터
      */
     private Long sprintId;
+
+    /**
+     * 페이지 검색 커서 (이전 응답의 nextCursor, 첫 페이지는 null)
+     */
+    private String cursor;
+
+    /**
+     * 페이지 크기 (페이지 검색 전용, 기본 20, 최대 100)
+     */
+    private Integer size;
 }
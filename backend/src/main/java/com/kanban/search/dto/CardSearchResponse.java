@@ -30,6 +30,8 @@ public class CardSearchResponse {
     private String bgColor;
     private String priority;
     private Long assigneeId;
+    private String assignee;
+    private String assigneeAvatarUrl;
     private LocalDate dueDate;
     private Boolean isCompleted;
     private LocalDateTime startedAt;
@@ -0,0 +1,24 @@
+package com.kanban.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카드 제목 자동완성 결과 DTO (멘션, 부모 카드 선택, 빠른 이동용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardTitleSuggestion {
+
+    private Long cardId;
+
+    private Long boardId;
+
+    private Long columnId;
+
+    private String title;
+}
@@ -11,7 +11,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "sprints")
+@Table(name = "sprints", indexes = {
+        @Index(name = "idx_sprints_board_status_end", columnList = "board_id,status,end_date")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,6 +41,12 @@ public class Sprint {
 
     private Integer capacity;
 
+    /**
+     * 완료 시점의 완료 스토리 포인트 (속도 차트용, 완료 전에는 null)
+     */
+    @Column(name = "completed_points")
+    private Integer completedPoints;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id", nullable = false)
     @JsonIgnore
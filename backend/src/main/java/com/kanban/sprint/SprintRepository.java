@@ -2,7 +2,10 @@ package com.kanban.sprint;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +18,14 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
                                                                                      // the
     // single active
     // sprint
+
+    List<Sprint> findByStatus(SprintStatus status);
+
+    /**
+     * 보드의 완료된 스프린트별 완료 포인트 (종료일 최신순)
+     */
+    @Query("SELECT s.completedPoints FROM Sprint s "
+            + "WHERE s.board.id = :boardId AND s.status = com.kanban.sprint.SprintStatus.COMPLETED "
+            + "ORDER BY s.endDate DESC NULLS LAST, s.id DESC")
+    List<Integer> findCompletedPointsByBoardId(@Param("boardId") Long boardId, Pageable pageable);
 }
@@ -1,9 +1,12 @@
 package com.kanban.sprint;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.kanban.board.Board;
@@ -22,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class SprintService {
 
     private static final String SPRINT_NOT_FOUND_MESSAGE = "Sprint not found";
+    private static final int VELOCITY_SPRINT_COUNT = 5;
 
     private final SprintRepository sprintRepository;
     private final BoardRepository boardRepository;
@@ -81,10 +85,11 @@ public class SprintService {
 
         // 2. Complete Sprint
         sprint.setStatus(SprintStatus.COMPLETED);
-        Sprint savedSprint = sprintRepository.save(sprint);
 
-        // Capture final snapshot
-        captureSnapshot(savedSprint);
+        // Capture final snapshot, 완료 포인트는 속도 차트용으로 스프린트에 보관
+        SprintSnapshot finalSnapshot = captureSnapshot(sprint);
+        sprint.setCompletedPoints(finalSnapshot.getCompletedPoints());
+        Sprint savedSprint = sprintRepository.save(sprint);
 
         return toDto(savedSprint);
     }
@@ -103,6 +108,7 @@ public class SprintService {
         newCard.setTitle(card.getTitle());
         newCard.setDescription(card.getDescription());
         newCard.setPosition(card.getPosition());
+        newCard.setRankKey(card.getRankKey());
         newCard.setBgColor(card.getBgColor());
         newCard.setPriority(card.getPriority());
         newCard.setAssignee(card.getAssignee());
@@ -134,29 +140,69 @@ public class SprintService {
         cardRepository.save(card);
     }
 
-    public void captureSnapshot(Sprint sprint) {
-        List<Card> cards = cardRepository.findBySprintId(sprint.getId());
-
-        int totalPoints = cards.stream()
-                .mapToInt(c -> c.getStoryPoints() != null ? c.getStoryPoints() : 0).sum();
-        int completedPoints = cards.stream().filter(Card::getIsCompleted)
-                .mapToInt(c -> c.getStoryPoints() != null ? c.getStoryPoints() : 0).sum();
-        int remainingPoints = totalPoints - completedPoints;
-
-        Map<String, Integer> statusCounts = cards.stream()
-                .collect(Collectors.groupingBy(c -> c.getIsCompleted() ? "DONE" : "TODO", // Simplified
-                                                                                          // status
-                        Collectors.summingInt(e -> 1)));
-
-        SprintSnapshot snapshot = new SprintSnapshot();
-        snapshot.setSprint(sprint);
-        snapshot.setSnapshotDate(LocalDate.now());
-        snapshot.setTotalPoints(totalPoints);
-        snapshot.setCompletedPoints(completedPoints);
-        snapshot.setRemainingPoints(remainingPoints);
-        snapshot.setStatusCounts(statusCounts);
-
-        sprintSnapshotRepository.save(snapshot);
+    public SprintSnapshot captureSnapshot(Sprint sprint) {
+        return captureSnapshots(List.of(sprint), LocalDate.now()).get(sprint.getId());
+    }
+
+    /**
+     * 진행 중인 모든 스프린트의 당일 스냅샷 기록 (일별 스냅샷 작업용)
+     *
+     * @return 스냅샷을 기록한 스프린트 수
+     */
+    public int captureActiveSprintSnapshots() {
+        List<Sprint> activeSprints = sprintRepository.findByStatus(SprintStatus.ACTIVE);
+        return captureSnapshots(activeSprints, LocalDate.now()).size();
+    }
+
+    /**
+     * 스프린트들의 스냅샷 기록
+     * 카드 포인트는 스프린트별 그룹 집계 한 번으로 계산하며, 같은 날짜의 스냅샷이 이미 있으면 갱신한다
+     * (스프린트당 하루 한 행).
+     */
+    private Map<Long, SprintSnapshot> captureSnapshots(List<Sprint> sprints,
+            LocalDate snapshotDate) {
+        if (sprints.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> sprintIds = sprints.stream().map(Sprint::getId).toList();
+        Map<Long, Object[]> summaries = cardRepository.summarizeSprints(sprintIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> row));
+        Map<Long, SprintSnapshot> existing = sprintSnapshotRepository
+                .findBySprintIdInAndSnapshotDate(sprintIds, snapshotDate).stream()
+                .collect(Collectors.toMap(ss -> ss.getSprint().getId(), ss -> ss));
+
+        Map<Long, SprintSnapshot> snapshots = new LinkedHashMap<>();
+        for (Sprint sprint : sprints) {
+            Object[] summary = summaries.get(sprint.getId());
+            int totalPoints = summary == null ? 0 : ((Number) summary[1]).intValue();
+            int completedPoints = summary == null ? 0 : ((Number) summary[2]).intValue();
+            int doneCount = summary == null ? 0 : ((Number) summary[3]).intValue();
+            int todoCount = summary == null ? 0 : ((Number) summary[4]).intValue();
+
+            // Simplified status
+            Map<String, Integer> statusCounts = new HashMap<>();
+            if (doneCount > 0) {
+                statusCounts.put("DONE", doneCount);
+            }
+            if (todoCount > 0) {
+                statusCounts.put("TODO", todoCount);
+            }
+
+            SprintSnapshot snapshot = existing.get(sprint.getId());
+            if (snapshot == null) {
+                snapshot = new SprintSnapshot();
+                snapshot.setSprint(sprint);
+                snapshot.setSnapshotDate(snapshotDate);
+            }
+            snapshot.setTotalPoints(totalPoints);
+            snapshot.setCompletedPoints(completedPoints);
+            snapshot.setRemainingPoints(totalPoints - completedPoints);
+            snapshot.setStatusCounts(statusCounts);
+            snapshots.put(sprint.getId(), snapshot);
+        }
+
+        sprintSnapshotRepository.saveAll(snapshots.values());
+        return snapshots;
     }
 
     public List<SprintDto> getSprints(Long boardId) {
@@ -212,25 +258,13 @@ public class SprintService {
         return sprintSnapshotRepository.findBySprintIdOrderBySnapshotDateAsc(sprintId);
     }
 
+    /**
+     * 최근 완료된 스프린트 5개의 완료 포인트 (종료일 최신순)
+     */
     public List<Integer> getVelocity(Long boardId) {
-        // Get last 5 completed sprints
-        List<Sprint> completedSprints =
-                sprintRepository.findByBoardIdAndStatus(boardId, SprintStatus.COMPLETED);
-        // Sort by end date desc and take 5
-        return completedSprints.stream()
-                .sorted((s1, s2) -> s2.getEndDate().compareTo(s1.getEndDate())).limit(5).map(s -> {
-                    // Calculate completed points for each sprint
-                    // This might be expensive if we calculate on the fly.
-                    // Better to store 'completedPoints' in Sprint entity when completing.
-                    // But for now, let's use the last snapshot or calculate from cards (but cards
-                    // move...).
-                    // Actually, we should use the last snapshot of the sprint.
-                    List<SprintSnapshot> snapshots = sprintSnapshotRepository
-                            .findBySprintIdOrderBySnapshotDateAsc(s.getId());
-                    if (snapshots.isEmpty())
-                        return 0;
-                    return snapshots.get(snapshots.size() - 1).getCompletedPoints();
-                }).toList();
+        return sprintRepository
+                .findCompletedPointsByBoardId(boardId, PageRequest.of(0, VELOCITY_SPRINT_COUNT))
+                .stream().map(points -> points != null ? points : 0).toList();
     }
 
     public void assignCardsToSprint(Long sprintId, List<Long> cardIds) {
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "sprint_snapshots")
+@Table(name = "sprint_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_sprint_snapshot_date", columnNames = {"sprint_id", "snapshot_date"})})
 @Getter
 @Setter
 @NoArgsConstructor
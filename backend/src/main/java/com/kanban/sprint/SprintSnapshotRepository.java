@@ -1,5 +1,7 @@
 package com.kanban.sprint;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +12,9 @@ import org.springframework.stereotype.Repository;
 public interface SprintSnapshotRepository extends JpaRepository<SprintSnapshot, Long> {
     List<SprintSnapshot> findBySprintIdOrderBySnapshotDateAsc(Long sprintId);
 
+    List<SprintSnapshot> findBySprintIdInAndSnapshotDate(Collection<Long> sprintIds,
+            LocalDate snapshotDate);
+
     @Query("""
             SELECT ss FROM SprintSnapshot ss
             WHERE ss.sprint.id IN :sprintIds
@@ -0,0 +1,48 @@
+package com.kanban.sprint;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.kanban.common.ClusterLease;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중인 스프린트 일별 스냅샷 스케줄러
+ * 번다운 차트가 스프린트당 하루 한 점을 갖도록 매일 하루가 끝나기 전에 당일 스냅샷을 기록(또는 갱신)한다.
+ * 여러 인스턴스 중 임대(ClusterLease)를 얻은 한 곳에서만 실행한다.
+ */
+@Component
+@Slf4j
+public class SprintSnapshotScheduler {
+
+    static final String LEASE_NAME = "sprint-snapshots";
+
+    private final SprintService sprintService;
+    private final ClusterLease clusterLease;
+    private final Duration leaseTtl;
+
+    public SprintSnapshotScheduler(SprintService sprintService, ClusterLease clusterLease,
+            @Value("${sprint.snapshot.lease-ttl:PT10M}") Duration leaseTtl) {
+        this.sprintService = sprintService;
+        this.clusterLease = clusterLease;
+        this.leaseTtl = leaseTtl;
+    }
+
+    @Scheduled(cron = "${sprint.snapshot.cron:0 55 23 * * *}")
+    public void captureDailySnapshots() {
+        clusterLease.runExclusively(LEASE_NAME, leaseTtl, this::capture);
+    }
+
+    private void capture() {
+        try {
+            int captured = sprintService.captureActiveSprintSnapshots();
+            log.info("Captured daily snapshots for {} active sprints", captured);
+        } catch (DataIntegrityViolationException e) {
+            // 임대 만료 후 시각이 어긋난 다른 인스턴스가 같은 날짜의 스냅샷을 먼저 기록한 경우
+            log.warn("Daily sprint snapshots were already captured by another instance: {}",
+                    e.getMostSpecificCause().getMessage());
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.kanban.user;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import com.kanban.user.dto.UserSummary;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +27,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "ORDER BY u.name ASC")
     List<User> searchByNameOrEmail(@Param("keyword") String keyword);
+
+    /**
+     * 여러 사용자의 요약 정보(이름, 아바타)를 한 번에 조회
+     */
+    @Query("SELECT new com.kanban.user.dto.UserSummary(u.id, u.name, u.avatarUrl) " +
+            "FROM User u WHERE u.id IN :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import com.kanban.attachment.service.FileStorageService;
+import com.kanban.auth.security.AuthenticatedUserCache;
 import com.kanban.exception.ResourceNotFoundException;
 import com.kanban.file.FileValidator;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final FileValidator fileValidator;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     /**
      * 프로필 사진 업데이트
@@ -62,6 +64,7 @@ public class UserService {
             String blobUrl = fileStorageService.getUrl(key);
             user.setAvatarUrl(blobUrl);
             userRepository.save(user);
+            authenticatedUserCache.evict(userId);
 
             log.info("Avatar updated successfully: userId={}, proxyUrl={}, blobUrl={}", userId,
                     proxyUrl, blobUrl);
@@ -101,6 +104,7 @@ public class UserService {
         // 4. DB 업데이트
         user.setAvatarUrl(null);
         userRepository.save(user);
+        authenticatedUserCache.evict(userId);
 
         log.info("Avatar deleted successfully: userId={}", userId);
     }
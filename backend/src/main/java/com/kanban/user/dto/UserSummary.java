@@ -0,0 +1,34 @@
+package com.kanban.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 요약 프로젝션 (목록 응답의 담당자 정보 일괄 조회용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummary {
+
+    private Long id;
+
+    private String name;
+
+    private String avatarUrl;
+
+    /**
+     * 응답용 아바타 URL (blob URL이면 프록시 URL로 변환)
+     */
+    public String getProxyAvatarUrl() {
+        return toProxyAvatarUrl(id, avatarUrl);
+    }
+
+    public static String toProxyAvatarUrl(Long userId, String avatarUrl) {
+        if (avatarUrl != null && !avatarUrl.startsWith("/users/")) {
+            return "/users/" + userId + "/avatar";
+        }
+        return avatarUrl;
+    }
+}
@@ -2,17 +2,18 @@ package com.kanban.watch;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import com.kanban.card.Card;
 import com.kanban.card.CardRepository;
+import com.kanban.card.CardResponseAssembler;
 import com.kanban.card.dto.CardResponse;
 import com.kanban.exception.ResourceNotFoundException;
-import com.kanban.label.CardLabelRepository;
-import com.kanban.label.dto.LabelResponse;
 import com.kanban.notification.domain.NotificationType;
 import com.kanban.notification.service.NotificationService;
-import com.kanban.user.UserRepository;
 import com.kanban.watch.dto.WatchResponse;
 import com.kanban.watch.dto.WatchedCardResponse;
 import jakarta.transaction.Transactional;
@@ -28,8 +29,7 @@ public class CardWatchService {
 
     private final CardWatchRepository cardWatchRepository;
     private final CardRepository cardRepository;
-    private final CardLabelRepository cardLabelRepository;
-    private final UserRepository userRepository;
+    private final CardResponseAssembler cardResponseAssembler;
     private final NotificationService notificationService;
 
     /**
@@ -69,23 +69,32 @@ public class CardWatchService {
      */
     public List<WatchedCardResponse> getWatchList(Long userId) {
         List<CardWatch> watches = cardWatchRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        List<WatchedCardResponse> result = new ArrayList<>();
+        if (watches.isEmpty()) {
+            return List.of();
+        }
 
-        for (CardWatch watch : watches) {
-            Optional<Card> cardOpt = cardRepository.findById(watch.getCardId());
-            if (cardOpt.isEmpty()) {
-                // 카드가 삭제된 경우 watch도 삭제
-                cardWatchRepository.delete(watch);
-                continue;
-            }
+        // 카드(칼럼/보드 포함), 라벨, 담당자를 watch 개수와 무관하게 일괄 조회
+        Map<Long, Card> cardsById = cardRepository
+                .findByIdInWithColumnAndBoard(watches.stream().map(CardWatch::getCardId).toList())
+                .stream().collect(Collectors.toMap(Card::getId, Function.identity()));
 
-            Card card = cardOpt.get();
+        // 카드가 삭제된 경우 watch도 삭제
+        List<CardWatch> orphanWatches = watches.stream()
+                .filter(watch -> !cardsById.containsKey(watch.getCardId())).toList();
+        if (!orphanWatches.isEmpty()) {
+            cardWatchRepository.deleteAllInBatch(orphanWatches);
+        }
 
-            // 라벨 조회
-            List<LabelResponse> labels = cardLabelRepository.findByCardId(card.getId()).stream()
-                    .map(cardLabel -> LabelResponse.from(cardLabel.getLabel())).toList();
+        List<CardWatch> liveWatches = watches.stream()
+                .filter(watch -> cardsById.containsKey(watch.getCardId())).toList();
+        List<CardResponse> cardResponses = cardResponseAssembler.toResponses(
+                liveWatches.stream().map(watch -> cardsById.get(watch.getCardId())).toList());
 
-            CardResponse cardResponse = enrichWithAssigneeInfo(CardResponse.from(card, labels));
+        List<WatchedCardResponse> result = new ArrayList<>();
+        for (int i = 0; i < liveWatches.size(); i++) {
+            CardWatch watch = liveWatches.get(i);
+            Card card = cardsById.get(watch.getCardId());
+            CardResponse cardResponse = cardResponses.get(i);
 
             WatchedCardResponse response = WatchedCardResponse.builder().watchId(watch.getId())
                     .card(cardResponse)
@@ -133,33 +142,12 @@ public class CardWatchService {
         String actionUrl = "/boards/" + workspaceId + "/" + boardId + "?cardId=" + cardId
                 + "&columnId=" + columnId;
 
-        for (CardWatch watch : watchers) {
-            // 본인이 변경한 경우는 알림 제외
-            if (watch.getUserId().equals(actorUserId)) {
-                continue;
-            }
+        // 본인이 변경한 경우는 알림 제외
+        List<Long> recipientIds = watchers.stream().map(CardWatch::getUserId)
+                .filter(userId -> !userId.equals(actorUserId)).toList();
 
-            notificationService.createNotification(watch.getUserId(), NotificationType.CARD_WATCH,
-                    "관심 카드 \"" + card.getTitle() + "\"이 변경되었습니다: " + changeMessage, actionUrl);
-        }
+        notificationService.createNotifications(recipientIds, NotificationType.CARD_WATCH,
+                "관심 카드 \"" + card.getTitle() + "\"이 변경되었습니다: " + changeMessage, actionUrl);
     }
 
-    /**
-     * CardResponse에 담당자 정보 추가
-     */
-    private CardResponse enrichWithAssigneeInfo(CardResponse cardResponse) {
-        if (cardResponse.getAssigneeId() != null) {
-            userRepository.findById(cardResponse.getAssigneeId()).ifPresent(user -> {
-                cardResponse.setAssignee(user.getName());
-                // Convert avatarUrl to proxy URL for consistent access
-                String avatarUrl = user.getAvatarUrl();
-                if (avatarUrl != null && !avatarUrl.startsWith("/users/")) {
-                    // blob URL이면 프록시 URL로 변환
-                    avatarUrl = "/users/" + user.getId() + "/avatar";
-                }
-                cardResponse.setAssigneeAvatarUrl(avatarUrl);
-            });
-        }
-        return cardResponse;
-    }
 }
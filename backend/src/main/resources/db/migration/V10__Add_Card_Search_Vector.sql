@@ -0,0 +1,20 @@
+-- 카드 전문 검색(tsvector) 도입
+-- LOWER(title) LIKE '%kw%' 검색은 매 입력마다 card 전체를 순차 스캔하므로, 생성 칼럼 + GIN 인덱스로 대체
+-- 'simple' 설정: 형태소 분석 없이 토큰 단위로 색인 (한국어/영어 혼용 제목 대응)
+-- 생성 칼럼이므로 카드 INSERT/UPDATE 시 DB가 자동으로 갱신 (PostgreSQL 12 이상)
+
+ALTER TABLE card
+ADD COLUMN IF NOT EXISTS search_vector tsvector
+GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+    || setweight(to_tsvector('simple',
+        regexp_replace(coalesce(description, ''), '<[^>]+>', ' ', 'g')), 'B')
+) STORED;
+
+-- 전문 검색용 GIN 인덱스
+CREATE INDEX IF NOT EXISTS idx_card_search_vector ON card USING GIN (search_vector);
+
+-- 최근 수정순 페이지 검색(대체 경로)용 인덱스
+CREATE INDEX IF NOT EXISTS idx_card_updated_at_id ON card (updated_at DESC, id DESC);
+
+COMMENT ON COLUMN card.search_vector IS '전문 검색 벡터 (제목 A, 설명 B 가중치, 생성 칼럼)';
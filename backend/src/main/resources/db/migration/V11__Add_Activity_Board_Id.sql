@@ -0,0 +1,22 @@
+-- 보드 활동 피드용 board_id 비정규화
+-- scope_id IN (보드의 카드 ID 서브쿼리) + OFFSET 페이지네이션은 이력이 쌓일수록, 깊은 페이지일수록 느려지므로
+-- 활동에 보드 ID를 직접 기록하고 (board_id, created_at, id) 인덱스로 keyset 페이지네이션한다.
+
+ALTER TABLE activities ADD COLUMN IF NOT EXISTS board_id BIGINT;
+
+-- 보드 범위 활동은 scope_id가 곧 보드 ID
+UPDATE activities
+SET board_id = scope_id
+WHERE scope_type = 'BOARD' AND board_id IS NULL;
+
+-- 카드 범위 활동은 카드가 속한 보드로 채움 (이미 삭제된 카드의 활동은 null로 남음)
+UPDATE activities a
+SET board_id = col.board_id
+FROM card c
+JOIN columns col ON col.id = c.column_id
+WHERE a.scope_type = 'CARD' AND a.scope_id = c.id AND a.board_id IS NULL;
+
+-- 보드 활동 피드 keyset 페이지네이션 인덱스 (역순 스캔)
+CREATE INDEX IF NOT EXISTS idx_activities_board_created ON activities (board_id, created_at, id);
+
+COMMENT ON COLUMN activities.board_id IS '활동이 속한 보드 ID (보드 활동 피드 조회용 비정규화 칼럼)';
@@ -0,0 +1,19 @@
+-- 스프린트 완료 포인트 저장 및 속도 차트 인덱스
+-- 속도 차트가 완료 스프린트마다 스냅샷 전체를 조회하지 않도록 완료 시점의 완료 포인트를 스프린트에 기록한다.
+
+ALTER TABLE sprints ADD COLUMN IF NOT EXISTS completed_points INTEGER;
+
+-- 이미 완료된 스프린트는 마지막 스냅샷의 완료 포인트로 채움
+UPDATE sprints s
+SET completed_points = latest.completed_points
+FROM (
+    SELECT DISTINCT ON (sprint_id) sprint_id, completed_points
+    FROM sprint_snapshots
+    ORDER BY sprint_id, snapshot_date DESC, created_at DESC
+) latest
+WHERE s.id = latest.sprint_id AND s.status = 'COMPLETED' AND s.completed_points IS NULL;
+
+-- 보드별 완료 스프린트 최신순 조회 인덱스
+CREATE INDEX IF NOT EXISTS idx_sprints_board_status_end ON sprints (board_id, status, end_date);
+
+COMMENT ON COLUMN sprints.completed_points IS '완료 시점의 완료 스토리 포인트 (속도 차트용)';
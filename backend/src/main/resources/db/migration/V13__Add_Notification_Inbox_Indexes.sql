@@ -0,0 +1,8 @@
+-- 알림함 keyset 페이지네이션 및 읽지 않은 알림 수 인덱스
+-- 알림함을 (created_at, id) 커서로 최신순 조회하고, 읽지 않은 알림 목록/개수는 is_read까지 포함한 인덱스로 읽는다.
+
+-- 읽지 않은 알림 목록 및 개수 (배지)
+CREATE INDEX IF NOT EXISTS idx_notification_recipient_read_created ON notification (recipient_id, is_read, created_at);
+
+-- 전체 알림함 keyset 페이지네이션 (역순 스캔)
+CREATE INDEX IF NOT EXISTS idx_notification_recipient_created ON notification (recipient_id, created_at, id);
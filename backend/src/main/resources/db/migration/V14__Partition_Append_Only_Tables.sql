@@ -0,0 +1,109 @@
+-- 추가 전용(append-only) 테이블 월별 범위 파티션 전환
+-- 알림, 마감 알림 발송 기록, 활동 로그, 감사 로그, 카드 변경 이력을 작성 시각 기준 월별 파티션으로 나눈다.
+-- 보존 기간이 지난 데이터는 PartitionRetentionJob이 DELETE 대신 파티션 단위로 분리 후 삭제한다.
+--
+-- 기존 행은 복사하지 않고 기존 테이블을 {테이블}_legacy 파티션(다음 달 시작 이전 전체)으로 그대로 붙인다.
+-- legacy 파티션은 가장 최근 행까지 보존 기간이 지나면 다른 파티션과 같은 방식으로 삭제된다.
+-- 파티션 키를 포함한 PK (id, 작성 시각)와 보조 인덱스는 legacy 파티션에도 새로 생성되므로,
+-- 큰 테이블은 점검 시간에 실행해야 한다. 작성 시각이 없는 행은 1970-01-01로 채운다.
+--
+-- 적용 방법: 이 애플리케이션은 Flyway가 비활성화(spring.flyway.enabled: false)되어 있고 운영은 ddl-auto: validate이므로
+-- 기동 시 자동 적용되지 않는다. 점검 시간에 직접 실행한다.
+--   psql -U kanban_user -d kanban -v ON_ERROR_STOP=1 -f V14__Partition_Append_Only_Tables.sql
+-- 이미 파티션 테이블이면 건너뛰므로 다시 실행해도 안전하다. 적용 전까지 PartitionRetentionJob은 해당 테이블을 건너뛴다.
+
+CREATE OR REPLACE FUNCTION kanban_partition_by_month(p_table TEXT, p_column TEXT, p_months_ahead INT)
+RETURNS VOID LANGUAGE plpgsql AS $$
+DECLARE
+    legacy TEXT := p_table || '_legacy';
+    next_id BIGINT;
+    legacy_until TIMESTAMP;
+    month_start TIMESTAMP;
+    index_defs TEXT[] := '{}';
+    index_def TEXT;
+    rec RECORD;
+BEGIN
+    IF to_regclass(p_table) IS NULL
+            OR EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(p_table)) THEN
+        RAISE NOTICE 'Skipping %: table is missing or already partitioned', p_table;
+        RETURN;
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', p_table, legacy);
+
+    -- 보조 인덱스는 이름이 스키마 단위로 유일하므로 정의만 보관하고 제거한 뒤 상위 테이블에 다시 생성
+    FOR rec IN
+        SELECT i.indexrelid::regclass AS index_name, pg_get_indexdef(i.indexrelid) AS def
+        FROM pg_index i
+        WHERE i.indrelid = to_regclass(legacy) AND NOT i.indisprimary
+          AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)
+    LOOP
+        index_defs := index_defs || rec.def;
+        EXECUTE format('DROP INDEX %s', rec.index_name);
+    END LOOP;
+
+    -- 기존 PK와 ID 생성 방식 제거 (파티션 키를 포함한 PK와 상위 테이블 identity로 대체)
+    EXECUTE format('SELECT COALESCE(MAX(id), 0) + 1 FROM %I', legacy) INTO next_id;
+    FOR rec IN
+        SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(legacy) AND contype = 'p'
+    LOOP
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', legacy, rec.conname);
+    END LOOP;
+    IF EXISTS (SELECT 1 FROM pg_attribute
+               WHERE attrelid = to_regclass(legacy) AND attname = 'id' AND attidentity <> '') THEN
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY', legacy);
+    ELSE
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', legacy);
+    END IF;
+
+    EXECUTE format('UPDATE %I SET %I = TIMESTAMP ''1970-01-01'' WHERE %I IS NULL',
+                   legacy, p_column, p_column);
+    EXECUTE format('SELECT GREATEST(date_trunc(''month'', now()::timestamp) + INTERVAL ''1 month'', '
+                   || 'date_trunc(''month'', MAX(%I)) + INTERVAL ''1 month'') FROM %I', p_column, legacy)
+        INTO legacy_until;
+
+    -- 상위 테이블 (칼럼, 기본값, CHECK 제약은 기존 테이블과 동일)
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS '
+                   || 'INCLUDING STORAGE INCLUDING COMMENTS) PARTITION BY RANGE (%I)',
+                   p_table, legacy, p_column);
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY (START WITH %s)',
+                   p_table, next_id);
+    EXECUTE format('ALTER TABLE %I ADD PRIMARY KEY (id, %I)', p_table, p_column);
+    FOR rec IN
+        SELECT conname, pg_get_constraintdef(oid) AS def
+        FROM pg_constraint WHERE conrelid = to_regclass(legacy) AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I %s', p_table, rec.conname, rec.def);
+    END LOOP;
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)',
+                   p_table, legacy, legacy_until);
+
+    -- 파티션 키가 없는 UNIQUE 인덱스처럼 파티션 테이블에 만들 수 없는 인덱스는 건너뜀
+    FOREACH index_def IN ARRAY index_defs LOOP
+        BEGIN
+            EXECUTE regexp_replace(index_def, ' ON (\S+\.)?' || legacy || ' ', ' ON ' || p_table || ' ');
+        EXCEPTION WHEN others THEN
+            RAISE NOTICE 'Skipping index on %: % (%)', p_table, index_def, SQLERRM;
+        END;
+    END LOOP;
+
+    -- 다음 달들의 파티션과 범위 밖 행을 받는 DEFAULT 파티션 (이후 PartitionRetentionJob이 미리 생성)
+    month_start := legacy_until;
+    WHILE month_start < date_trunc('month', now()::timestamp) + make_interval(months => p_months_ahead + 1) LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       p_table || '_p' || to_char(month_start, 'YYYYMM'), p_table,
+                       month_start, month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I DEFAULT', p_table || '_default', p_table);
+END;
+$$;
+
+SELECT kanban_partition_by_month('notification', 'created_at', 3);
+SELECT kanban_partition_by_month('notification_log', 'created_at', 3);
+SELECT kanban_partition_by_month('activities', 'created_at', 3);
+SELECT kanban_partition_by_month('audit_logs', 'created_at', 3);
+SELECT kanban_partition_by_month('card_history', 'changed_at', 3);
+
+DROP FUNCTION kanban_partition_by_month(TEXT, TEXT, INT);
@@ -0,0 +1,9 @@
+-- 보드 단위 칼럼 순서 버전(column_order_version) 도입
+-- 칼럼 생성/삭제/위치 변경 시 증가시키며, 클라이언트가 본 버전과 다르면 칼럼 위치 변경 요청을 409로 거절
+-- (columns.order_version은 칼럼 내 카드 순서 버전으로만 사용)
+
+ALTER TABLE boards
+ADD COLUMN column_order_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN boards.column_order_version IS '칼럼 순서 버전 (칼럼 생성, 삭제, 위치 변경 시 증가)';
+COMMENT ON COLUMN columns.order_version IS '칼럼 내 카드 순서 버전 (카드 생성, 삭제, 이동, 아카이브 시 증가)';
@@ -0,0 +1,19 @@
+-- 카드 정렬 키(rank_key) 도입
+-- 카드 이동 시 칼럼 내 후속 카드 전체의 position을 밀어내는 대신, 이웃 카드 사이의 값을 부여해 이동한 카드 한 행만 갱신
+
+ALTER TABLE card
+ADD COLUMN rank_key BIGINT;
+
+-- 기존 position 순서를 유지하며 1048576(2^20) 간격으로 rank_key 부여
+UPDATE card c
+SET rank_key = ranked.rn * 1048576
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY column_id ORDER BY position, id) AS rn
+    FROM card
+) ranked
+WHERE c.id = ranked.id;
+
+-- 칼럼 내 정렬 조회용 인덱스
+CREATE INDEX idx_card_column_rank ON card(column_id, rank_key);
+
+COMMENT ON COLUMN card.rank_key IS '칼럼 내 정렬 키 (간격을 둔 값, 작을수록 위)';
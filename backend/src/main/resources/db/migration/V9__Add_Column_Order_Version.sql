@@ -0,0 +1,7 @@
+-- 칼럼 순서 버전(order_version) 도입
+-- 카드 이동/칼럼 위치 변경 시 증가시키며, 클라이언트가 본 버전과 다르면 이동 요청을 409로 거절
+
+ALTER TABLE columns
+ADD COLUMN order_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN columns.order_version IS '칼럼 순서 버전 (카드 이동, 칼럼 위치 변경 시 증가)';
@@ -0,0 +1,73 @@
+package com.kanban.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ActivityWriter Unit Test
+ * batch-size 단위 다중 행 INSERT 구성 검증 (큐/재시도/무결성 위반 처리는 AsyncBatchWriterTest)
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ActivityWriter activityWriter;
+
+    @BeforeEach
+    void setUp() {
+        activityWriter = new ActivityWriter(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                60_000, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        activityWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐에 모인 활동은 batch-size 단위의 다중 행 INSERT로 반영되어야 함")
+    void shouldWriteMultiRowInserts() {
+        // given
+        activityWriter.submit(record(1L));
+        activityWriter.submit(record(2L));
+        activityWriter.submit(record(3L));
+
+        // when
+        int written = activityWriter.flush();
+
+        // then
+        assertThat(written).isEqualTo(3);
+        verify(jdbcTemplate).update(argThat((String sql) -> sql.contains("?), (?")),
+                any(Object[].class));
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        assertThat(activityWriter.queueSize()).isZero();
+    }
+
+    private ActivityRecord record(Long scopeId) {
+        return new ActivityRecord(ActivityScopeType.CARD, scopeId, 1L, ActivityEventType.CARD_UPDATED, 1L,
+                "카드 수정", null, LocalDateTime.now());
+    }
+}
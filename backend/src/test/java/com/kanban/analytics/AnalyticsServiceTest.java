@@ -0,0 +1,139 @@
+package com.kanban.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kanban.analytics.dto.BurndownDataPoint;
+import com.kanban.analytics.dto.CycleTimeData;
+import com.kanban.card.CardRepository;
+
+/**
+ * AnalyticsService Unit Test
+ * 일자별 집계 결과로 계산한 번다운이 카드 단위 계산과 같은지 대형 합성 보드로 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceTest {
+
+    private static final int CARD_COUNT = 50_000;
+    private static final int DAYS = 90;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @InjectMocks
+    private AnalyticsService analyticsService;
+
+    @Test
+    @DisplayName("번다운은 카드별 생성/완료/아카이브 시각으로 계산한 남은 카드 수와 같아야 함")
+    void shouldMatchPerCardBurndownOnLargeBoard() {
+        // given
+        List<SyntheticCard> cards = generateBoard(new Random(42), LocalDate.now());
+        when(cardRepository.countCreatedByDay(1L)).thenReturn(countByDay(cards, true));
+        when(cardRepository.countClosedByDay(1L)).thenReturn(countByDay(cards, false));
+
+        // when
+        List<BurndownDataPoint> points = analyticsService.getBurndownChart(1L, DAYS);
+
+        // then
+        assertThat(points).hasSize(DAYS + 1);
+        for (BurndownDataPoint point : points) {
+            long expected = cards.stream().filter(card -> card.isOpenAt(point.getDate())).count();
+            assertThat(point.getRemainingTasks()).as(point.getDate().toString())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("사이클 타임은 시작~완료 소요 일수를 소수 둘째 자리까지 계산해야 함")
+    void shouldComputeCycleTimeFromProjection() {
+        // given
+        LocalDateTime startedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime completedAt = startedAt.plusHours(36);
+        when(cardRepository.findCycleTimesByBoardId(1L)).thenReturn(List.<Object[]>of(
+                new Object[] {7L, "카드", startedAt, completedAt}));
+
+        // when
+        List<CycleTimeData> result = analyticsService.getCycleTime(1L);
+
+        // then
+        assertThat(result).singleElement().satisfies(data -> {
+            assertThat(data.getCardId()).isEqualTo(7L);
+            assertThat(data.getCycleTimeDays()).isEqualTo(1.5);
+            assertThat(data.getCompletedAt()).isEqualTo(completedAt);
+        });
+    }
+
+    private List<SyntheticCard> generateBoard(Random random, LocalDate today) {
+        LocalDateTime origin = today.minusDays(DAYS * 2L).atStartOfDay();
+        List<SyntheticCard> cards = new ArrayList<>(CARD_COUNT);
+        for (int i = 0; i < CARD_COUNT; i++) {
+            LocalDateTime createdAt = origin.plusMinutes(random.nextInt(DAYS * 2 * 24 * 60));
+            LocalDateTime completedAt = random.nextInt(3) == 0 ? null
+                    : createdAt.plusMinutes(random.nextInt(20 * 24 * 60));
+            boolean archived = random.nextInt(5) == 0;
+            LocalDateTime archivedAt = !archived || random.nextInt(10) == 0 ? null
+                    : createdAt.plusMinutes(random.nextInt(30 * 24 * 60));
+            cards.add(new SyntheticCard(createdAt, completedAt, archived, archivedAt));
+        }
+        return cards;
+    }
+
+    /**
+     * countCreatedByDay/countClosedByDay 쿼리와 같은 조건으로 일자별 개수 집계
+     */
+    private List<Object[]> countByDay(List<SyntheticCard> cards, boolean created) {
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        for (SyntheticCard card : cards) {
+            if (card.archived() && card.archivedAt() == null) {
+                continue;
+            }
+            LocalDateTime at = created ? card.createdAt() : card.closedAt();
+            if (at != null) {
+                counts.merge(at.toLocalDate(), 1L, Long::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new Object[] {entry.getKey(), entry.getValue()}).toList();
+    }
+
+    private record SyntheticCard(LocalDateTime createdAt, LocalDateTime completedAt,
+            boolean archived, LocalDateTime archivedAt) {
+
+        LocalDateTime closedAt() {
+            if (!archived) {
+                return completedAt;
+            }
+            if (completedAt == null || archivedAt.isBefore(completedAt)) {
+                return archivedAt;
+            }
+            return completedAt;
+        }
+
+        /**
+         * 해당 날짜가 끝난 시점에 남아 있는 카드인지 (카드 단위 기준 계산)
+         */
+        boolean isOpenAt(LocalDate date) {
+            LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
+            boolean createdBefore = createdAt.isBefore(endOfDay);
+            boolean completedAfter = completedAt == null || !completedAt.isBefore(endOfDay);
+            boolean archivedAfter = !archived
+                    || (archivedAt != null && !archivedAt.isBefore(endOfDay));
+            return createdBefore && completedAfter && archivedAfter;
+        }
+    }
+}
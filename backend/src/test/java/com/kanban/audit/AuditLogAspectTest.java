@@ -1,9 +1,9 @@
 package com.kanban.audit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
-import java.util.Optional;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,24 +12,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationContext;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.core.annotation.Order;
+import com.kanban.card.Card;
+import com.kanban.config.JpaConfig;
+import jakarta.persistence.EntityManager;
 
 
-@SuppressWarnings("rawtypes")
 @ExtendWith(MockitoExtension.class)
 class AuditLogAspectTest {
 
     @Mock
-    private AuditLogRepository auditLogRepository;
+    private AuditLogWriter auditLogWriter;
     @Mock
     private AuditContext auditContext;
     @Mock
     private EntityDiffCalculator entityDiffCalculator;
     @Mock
-    private ApplicationContext applicationContext;
-    @Mock
-    private CrudRepository repository;
+    private EntityManager entityManager;
     @Mock
     private ProceedingJoinPoint joinPoint;
     @Mock
@@ -41,7 +40,14 @@ class AuditLogAspectTest {
     @BeforeEach
     void setUp() {
         lenient().when(joinPoint.getSignature()).thenReturn(signature);
-        lenient().when(applicationContext.getBean(any(String.class))).thenReturn(repository);
+    }
+
+    @Test
+    void aspectOrder_ShouldRunInsideTransactionAdvisor() {
+        // 트랜잭션 advisor가 바깥(작은 order)에 있어야 스냅샷이 서비스 트랜잭션 안에서 떠짐
+        Order order = AuditLogAspect.class.getAnnotation(Order.class);
+
+        assertThat(order.value()).isGreaterThan(JpaConfig.TRANSACTION_ADVISOR_ORDER);
     }
 
     @Test
@@ -51,19 +57,19 @@ class AuditLogAspectTest {
         when(auditable.action()).thenReturn(AuditAction.CREATE);
         when(auditable.targetType()).thenReturn(AuditTargetType.CARD);
 
-        Object createdEntity = new Object();
+        Card createdEntity = Card.builder().id(1L).title("new").build();
         when(joinPoint.proceed()).thenReturn(createdEntity);
-        when(entityDiffCalculator.calculateDiff(isNull(), any()))
+        when(entityManager.find(Card.class, 1L)).thenReturn(createdEntity);
+        when(entityDiffCalculator.calculateDiff(isNull(), any(EntitySnapshot.class)))
                 .thenReturn("{\"diff\": \"created\"}");
 
         // When
         auditLogAspect.audit(joinPoint, auditable);
 
         // Then
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(auditLogWriter).submit(any(AuditLog.class));
     }
 
-    @SuppressWarnings("unchecked")
     @Test
     void audit_UpdateAction_ShouldSaveLog_WhenChangesExist() throws Throwable {
         // Given
@@ -77,18 +83,17 @@ class AuditLogAspectTest {
         when(signature.getParameterNames()).thenReturn(paramNames);
         when(joinPoint.getArgs()).thenReturn(args);
 
-        when(repository.findById(1L)).thenReturn(Optional.of(new Object()));
-        when(entityDiffCalculator.calculateDiff(any(), any()))
+        when(entityManager.find(Card.class, 1L)).thenReturn(Card.builder().id(1L).build());
+        when(entityDiffCalculator.calculateDiff(any(EntitySnapshot.class), any(EntitySnapshot.class)))
                 .thenReturn("{\"diff\": \"updated\"}");
 
         // When
         auditLogAspect.audit(joinPoint, auditable);
 
         // Then
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(auditLogWriter).submit(any(AuditLog.class));
     }
 
-    @SuppressWarnings("unchecked")
     @Test
     void audit_UpdateAction_ShouldNotSaveLog_WhenNoChanges() throws Throwable {
         // Given
@@ -102,13 +107,14 @@ class AuditLogAspectTest {
         when(signature.getParameterNames()).thenReturn(paramNames);
         when(joinPoint.getArgs()).thenReturn(args);
 
-        when(repository.findById(1L)).thenReturn(Optional.of(new Object()));
-        when(entityDiffCalculator.calculateDiff(any(), any())).thenReturn(null);
+        when(entityManager.find(Card.class, 1L)).thenReturn(Card.builder().id(1L).build());
+        when(entityDiffCalculator.calculateDiff(any(EntitySnapshot.class), any(EntitySnapshot.class)))
+                .thenReturn(null);
 
         // When
         auditLogAspect.audit(joinPoint, auditable);
 
         // Then
-        verify(auditLogRepository, never()).save(any(AuditLog.class));
+        verify(auditLogWriter, never()).submit(any(AuditLog.class));
     }
 }
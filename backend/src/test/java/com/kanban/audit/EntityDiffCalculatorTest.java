@@ -0,0 +1,62 @@
+package com.kanban.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kanban.card.Card;
+import com.kanban.user.User;
+
+/**
+ * EntityDiffCalculator Unit Test
+ * 스냅샷 기반 필드 비교, 연관 엔터티 ID 기록, 민감/컬렉션 필드 제외 검증
+ */
+class EntityDiffCalculatorTest {
+
+    private final EntityDiffCalculator calculator = new EntityDiffCalculator();
+
+    @Test
+    @DisplayName("스냅샷 이후 변경된 필드만 from/to로 기록되어야 함")
+    void shouldDiffOnlyChangedFields() {
+        // given
+        Card card = Card.builder().id(1L).title("before").priority("HIGH").build();
+        EntitySnapshot before = EntitySnapshot.of(card);
+
+        // when
+        card.setTitle("after");
+        String diff = calculator.calculateDiff(before, EntitySnapshot.of(card));
+
+        // then
+        assertThat(diff).isEqualTo("{\"title\":{\"from\":\"before\",\"to\":\"after\"}}");
+    }
+
+    @Test
+    @DisplayName("연관 엔터티는 ID로 기록하고 컬렉션 연관은 제외해야 함")
+    void shouldRecordAssociationIdsAndSkipCollections() {
+        // given
+        Card card = Card.builder().id(1L).title("card")
+                .assignee(User.builder().id(7L).build()).build();
+
+        // when
+        String diff = calculator.calculateDiff(null, EntitySnapshot.of(card));
+
+        // then
+        assertThat(diff).contains("\"assignee\":{\"to\":7}").doesNotContain("childCards")
+                .doesNotContain("comments");
+    }
+
+    @Test
+    @DisplayName("password 필드는 기록하지 않아야 함")
+    void shouldExcludePassword() {
+        // given
+        User user = User.builder().id(1L).password("old").build();
+        EntitySnapshot before = EntitySnapshot.of(user);
+
+        // when
+        user.setPassword("new");
+
+        // then
+        assertThat(calculator.calculateDiff(before, EntitySnapshot.of(user))).isNull();
+    }
+}
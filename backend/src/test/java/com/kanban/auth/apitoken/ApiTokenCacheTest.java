@@ -0,0 +1,80 @@
+package com.kanban.auth.apitoken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.kanban.board.member.BoardMemberRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ApiTokenCache Unit Test
+ * 검증 결과 재사용, 토큰 만료 반영, 폐기 시 제거 및 전파 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ApiTokenCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ApiTokenCache apiTokenCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        apiTokenCache = new ApiTokenCache(stringRedisTemplate, new SimpleMeterRegistry(), 100,
+                Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 토큰 해시는 한 번만 검증해야 함")
+    void shouldReuseVerifiedToken() {
+        LocalDateTime now = LocalDateTime.now();
+
+        ApiTokenPrincipal first = apiTokenCache.get("hash", now, hash -> load(10L, null));
+        ApiTokenPrincipal second = apiTokenCache.get("hash", now, hash -> load(10L, null));
+
+        assertThat(first).isEqualTo(second);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("expiresAt이 지난 토큰은 캐시에 있어도 인증되지 않아야 함")
+    void shouldRejectExpiredToken() {
+        LocalDateTime now = LocalDateTime.now();
+        apiTokenCache.get("hash", now, hash -> load(10L, now.plusHours(1)));
+
+        assertThat(apiTokenCache.get("hash", now.plusHours(2), hash -> null)).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 시 엔트리를 제거하고 다른 인스턴스에 전파해야 함")
+    void shouldEvictRevokedToken() {
+        LocalDateTime now = LocalDateTime.now();
+        apiTokenCache.get("hash", now, hash -> load(10L, null));
+
+        apiTokenCache.evict(10L);
+
+        assertThat(apiTokenCache.get("hash", now, hash -> null)).isNull();
+        verify(stringRedisTemplate).convertAndSend(ApiTokenCache.INVALIDATION_TOPIC, "10");
+    }
+
+    private ApiTokenCache.VerifiedToken load(Long tokenId, LocalDateTime expiresAt) {
+        loads.incrementAndGet();
+        return new ApiTokenCache.VerifiedToken(new ApiTokenPrincipal(1L, tokenId, 5L,
+                BoardMemberRole.EDITOR, Set.of(ApiTokenScope.CARD_READ)), expiresAt);
+    }
+}
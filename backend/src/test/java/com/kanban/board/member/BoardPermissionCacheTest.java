@@ -0,0 +1,105 @@
+package com.kanban.board.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * BoardPermissionCache Unit Test
+ * 캐시 적중 시 재조회 없음, 사용자/보드 단위 무효화 및 무효화 전파 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class BoardPermissionCacheTest {
+
+    @Mock
+    private BoardMemberRepository boardMemberRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoardPermissionCache boardPermissionCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        boardPermissionCache = new BoardPermissionCache(boardMemberRepository,
+                stringRedisTemplate, meterRegistry, 1000, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 보드/사용자 권한은 한 번만 조회하고 적중 통계를 남겨야 함")
+    void shouldLoadPermissionOnce() {
+        // given
+        when(boardMemberRepository.findOwnerIdAndMemberRole(1L, 7L, InvitationStatus.ACCEPTED))
+                .thenReturn(List.<Object[]>of(new Object[] {99L, BoardMemberRole.EDITOR}));
+
+        // when
+        BoardPermission first = boardPermissionCache.get(1L, 7L);
+        BoardPermission second = boardPermissionCache.get(1L, 7L);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.isOwner()).isFalse();
+        assertThat(first.getMemberRole()).isEqualTo(BoardMemberRole.EDITOR);
+        verify(boardMemberRepository, times(1)).findOwnerIdAndMemberRole(1L, 7L,
+                InvitationStatus.ACCEPTED);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "boardPermissions")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 보드는 null을 반환하고 캐시하지 않아야 함")
+    void shouldNotCacheMissingBoard() {
+        // given
+        when(boardMemberRepository.findOwnerIdAndMemberRole(5L, 7L, InvitationStatus.ACCEPTED))
+                .thenReturn(List.of());
+
+        // when & then
+        assertThat(boardPermissionCache.get(5L, 7L)).isNull();
+        assertThat(boardPermissionCache.get(5L, 7L)).isNull();
+        verify(boardMemberRepository, times(2)).findOwnerIdAndMemberRole(5L, 7L,
+                InvitationStatus.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("사용자/보드 단위 무효화 후에는 다시 조회하고 다른 인스턴스에 전파해야 함")
+    void shouldReloadAfterEviction() {
+        // given
+        when(boardMemberRepository.findOwnerIdAndMemberRole(1L, 7L, InvitationStatus.ACCEPTED))
+                .thenReturn(List.<Object[]>of(new Object[] {7L, null}));
+        when(boardMemberRepository.findOwnerIdAndMemberRole(1L, 8L, InvitationStatus.ACCEPTED))
+                .thenReturn(List.<Object[]>of(new Object[] {7L, BoardMemberRole.VIEWER}));
+        assertThat(boardPermissionCache.get(1L, 7L).isOwner()).isTrue();
+        assertThat(boardPermissionCache.get(1L, 8L).isMember()).isTrue();
+
+        // when
+        boardPermissionCache.evict(1L, 8L);
+        boardPermissionCache.get(1L, 7L);
+        boardPermissionCache.get(1L, 8L);
+        boardPermissionCache.evictBoard(1L);
+        boardPermissionCache.get(1L, 7L);
+
+        // then
+        verify(boardMemberRepository, times(2)).findOwnerIdAndMemberRole(1L, 7L,
+                InvitationStatus.ACCEPTED);
+        verify(boardMemberRepository, times(2)).findOwnerIdAndMemberRole(1L, 8L,
+                InvitationStatus.ACCEPTED);
+        verify(stringRedisTemplate).convertAndSend(BoardPermissionCache.INVALIDATION_TOPIC, "1:8");
+        verify(stringRedisTemplate).convertAndSend(BoardPermissionCache.INVALIDATION_TOPIC, "1:*");
+    }
+}
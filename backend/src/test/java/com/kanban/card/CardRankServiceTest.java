@@ -0,0 +1,128 @@
+package com.kanban.card;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CardRankService Unit Test
+ * 카드 이동 시 이웃 카드 사이의 rankKey 계산과 간격 소진 시 재정렬 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CardRankServiceTest {
+
+    private static final long GAP = CardRankService.RANK_GAP;
+    private static final Long COLUMN_ID = 1L;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @InjectMocks
+    private CardRankService cardRankService;
+
+    private static List<Object[]> rows(long... idAndRank) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < idAndRank.length; i += 2) {
+            rows.add(new Object[] {idAndRank[i], idAndRank[i + 1]});
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("이웃 카드 사이로 이동하면 중간값을 부여하고 다른 카드는 수정하지 않아야 함")
+    void shouldReturnMidpointBetweenNeighbors() {
+        // given: 10(1G), 11(2G), 12(3G) 순서에서 12번 카드를 인덱스 1로 이동
+        when(cardRepository.countUnrankedByColumnId(COLUMN_ID)).thenReturn(0L);
+        when(cardRepository.findActiveRankKeysByColumnId(COLUMN_ID))
+                .thenReturn(rows(10L, GAP, 11L, 2 * GAP, 12L, 3 * GAP));
+
+        // when
+        long rank = cardRankService.rankForIndex(COLUMN_ID, 12L, 1);
+
+        // then
+        assertThat(rank).isEqualTo(GAP + GAP / 2);
+        verify(cardRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("맨 앞/맨 뒤로 이동하면 경계값 기준으로 rankKey를 계산해야 함")
+    void shouldHandleHeadAndTail() {
+        // given
+        when(cardRepository.countUnrankedByColumnId(COLUMN_ID)).thenReturn(0L);
+        when(cardRepository.findActiveRankKeysByColumnId(COLUMN_ID))
+                .thenReturn(rows(10L, GAP, 11L, 2 * GAP));
+
+        // when & then
+        assertThat(cardRankService.rankForIndex(COLUMN_ID, 99L, 0)).isEqualTo(GAP / 2);
+        assertThat(cardRankService.rankForIndex(COLUMN_ID, 99L, 5)).isEqualTo(3 * GAP);
+    }
+
+    @Test
+    @DisplayName("이웃 간 간격이 소진되면 칼럼을 재정렬한 뒤 다시 계산해야 함")
+    void shouldRebalanceWhenGapExhausted() {
+        // given: 10과 11 사이 간격이 1로 소진된 상태
+        Card first = Card.builder().id(10L).position(0).rankKey(5L).build();
+        Card second = Card.builder().id(11L).position(1).rankKey(6L).build();
+        when(cardRepository.countUnrankedByColumnId(COLUMN_ID)).thenReturn(0L);
+        when(cardRepository.findActiveRankKeysByColumnId(COLUMN_ID))
+                .thenReturn(rows(10L, 5L, 11L, 6L))
+                .thenReturn(rows(10L, GAP, 11L, 2 * GAP));
+        when(cardRepository.findByColumnIdOrderByPosition(COLUMN_ID))
+                .thenReturn(List.of(first, second));
+
+        // when
+        long rank = cardRankService.rankForIndex(COLUMN_ID, 99L, 1);
+
+        // then
+        assertThat(first.getRankKey()).isEqualTo(GAP);
+        assertThat(second.getRankKey()).isEqualTo(2 * GAP);
+        assertThat(rank).isEqualTo(GAP + GAP / 2);
+    }
+
+    @Test
+    @DisplayName("rankKey가 없는 기존 칼럼은 첫 쓰기 시 position 순서대로 rankKey를 부여해야 함")
+    void shouldBackfillLegacyColumnOnFirstWrite() {
+        // given
+        Card legacy = Card.builder().id(10L).position(0).build();
+        when(cardRepository.countUnrankedByColumnId(COLUMN_ID)).thenReturn(1L);
+        when(cardRepository.findByColumnIdOrderByPosition(COLUMN_ID)).thenReturn(List.of(legacy));
+        when(cardRepository.findMaxRankKeyByColumnId(COLUMN_ID)).thenReturn(GAP);
+
+        // when
+        long rank = cardRankService.rankForAppend(COLUMN_ID);
+
+        // then
+        assertThat(legacy.getRankKey()).isEqualTo(GAP);
+        assertThat(rank).isEqualTo(2 * GAP);
+    }
+
+    @Test
+    @DisplayName("표시 순번은 저장된 position이 아니라 같은 칼럼 활성 카드의 rankKey 순번으로 계산해야 함")
+    void shouldComputeOrdinalsFromRankKeys() {
+        // given: position이 갱신되지 않은 이동 카드(20), 맨 앞 카드(21), rankKey가 없는 기존 칼럼 카드(22)
+        Card moved = Card.builder().id(20L).position(7).rankKey(3 * GAP).build();
+        Card first = Card.builder().id(21L).position(5).rankKey(GAP).build();
+        Card legacy = Card.builder().id(22L).position(4).build();
+        when(cardRepository.findActiveRankOrdinals(List.of(20L, 21L)))
+                .thenReturn(List.<Object[]>of(new Object[] {20L, 2L}, new Object[] {21L, 0L}));
+
+        // when
+        Map<Long, Integer> ordinals = cardRankService.getOrdinals(List.of(moved, first, legacy));
+
+        // then
+        assertThat(ordinals).containsEntry(20L, 2).containsEntry(21L, 0).containsEntry(22L, 4);
+    }
+}
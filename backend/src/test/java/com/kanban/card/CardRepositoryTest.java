@@ -0,0 +1,157 @@
+package com.kanban.card;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.kanban.board.Board;
+import com.kanban.column.BoardColumn;
+import com.kanban.user.User;
+import com.kanban.user.UserStatus;
+import com.kanban.workspace.Workspace;
+
+/**
+ * CardRepository 집계 쿼리 테스트 (H2)
+ * CAST(... AS LocalDate) 일자 그룹핑과 종료일 CASE 식(완료/아카이브 중 빠른 시점), ROW_NUMBER 표시 순번 검증
+ */
+@DataJpaTest
+class CardRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    private BoardColumn column;
+    private BoardColumn otherBoardColumn;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(User.builder().email("owner@example.com")
+                .name("Owner").status(UserStatus.ACTIVE).build());
+        Workspace workspace = entityManager.persist(
+                Workspace.builder().name("워크스페이스").slug("burndown").owner(owner).build());
+        column = persistColumn(workspace, owner, "번다운 보드");
+        otherBoardColumn = persistColumn(workspace, owner, "다른 보드");
+    }
+
+    @Test
+    @DisplayName("생성일별 카드 수는 날짜 단위로 묶고, 종료 시각 없이 아카이브된 카드와 다른 보드는 제외해야 함")
+    void shouldCountCreatedCardsByDay() {
+        // given
+        persistCards();
+
+        // when
+        Map<LocalDate, Long> created =
+                toMap(cardRepository.countCreatedByDay(column.getBoard().getId()));
+
+        // then
+        assertThat(created).isEqualTo(Map.of(
+                LocalDate.of(2025, 1, 10), 2L,
+                LocalDate.of(2025, 1, 11), 3L));
+    }
+
+    @Test
+    @DisplayName("종료일별 카드 수는 완료 시각과 아카이브 시각 중 빠른 날짜로 묶어야 함")
+    void shouldCountClosedCardsByEarlierOfCompletionAndArchive() {
+        // given
+        persistCards();
+
+        // when
+        Map<LocalDate, Long> closed =
+                toMap(cardRepository.countClosedByDay(column.getBoard().getId()));
+
+        // then
+        assertThat(closed).isEqualTo(Map.of(
+                LocalDate.of(2025, 1, 12), 2L,
+                LocalDate.of(2025, 1, 13), 1L,
+                LocalDate.of(2025, 1, 14), 1L));
+    }
+
+    @Test
+    @DisplayName("표시 순번은 칼럼별 활성 카드의 rankKey 순서로 매기고, 아카이브된 카드는 건너뛰어야 함")
+    void shouldNumberActiveCardsByRankKeyPerColumn() {
+        // given
+        Card third = persistRanked(column, 30L, false);
+        Card first = persistRanked(column, 10L, false);
+        persistRanked(column, 20L, true);
+        Card second = persistRanked(column, 25L, false);
+        Card otherBoard = persistRanked(otherBoardColumn, 50L, false);
+        entityManager.clear();
+
+        // when
+        Map<Long, Long> ordinals = new TreeMap<>();
+        cardRepository.findActiveRankOrdinals(
+                List.of(third.getId(), first.getId(), second.getId(), otherBoard.getId()))
+                .forEach(row -> ordinals.put(((Number) row[0]).longValue(),
+                        ((Number) row[1]).longValue()));
+
+        // then
+        assertThat(ordinals).isEqualTo(Map.of(first.getId(), 0L, second.getId(), 1L,
+                third.getId(), 2L, otherBoard.getId(), 0L));
+    }
+
+    private Card persistRanked(BoardColumn target, long rankKey, boolean archived) {
+        return entityManager.persist(Card.builder().column(target).title("카드").position(0)
+                .rankKey(rankKey).isArchived(archived).build());
+    }
+
+    /**
+     * 1/10: 진행 중 1, 1/12 완료 1 (23:30 생성 - 같은 날짜로 묶임)
+     * 1/11: 1/12 아카이브 1, 1/13 완료 후 1/14 아카이브 1, 1/15 완료 전 1/14 아카이브 1,
+     * 아카이브 시각이 없는 레거시 아카이브 1 (제외)
+     * 다른 보드 카드 1 (제외)
+     */
+    private void persistCards() {
+        persistCard(column, at(10, 9), null, null, false);
+        persistCard(column, LocalDateTime.of(2025, 1, 10, 23, 30), at(12, 8), null, false);
+        persistCard(column, at(11, 9), null, at(12, 10), true);
+        persistCard(column, at(11, 10), at(13, 9), at(14, 9), true);
+        persistCard(column, at(11, 11), at(15, 9), at(14, 9), true);
+        persistCard(column, at(11, 12), null, null, true);
+        persistCard(otherBoardColumn, at(10, 9), at(12, 9), null, false);
+        entityManager.clear();
+    }
+
+    private void persistCard(BoardColumn target, LocalDateTime createdAt,
+            LocalDateTime completedAt, LocalDateTime archivedAt, boolean archived) {
+        Card card = entityManager.persist(Card.builder().column(target).title("카드")
+                .position(0).completedAt(completedAt).isCompleted(completedAt != null)
+                .archivedAt(archivedAt).isArchived(archived).build());
+        entityManager.flush();
+        // createdAt은 JPA Auditing이 채우므로 저장 후 직접 갱신
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Card c SET c.createdAt = :createdAt WHERE c.id = :id")
+                .setParameter("createdAt", createdAt).setParameter("id", card.getId())
+                .executeUpdate();
+    }
+
+    private BoardColumn persistColumn(Workspace workspace, User owner, String boardName) {
+        Board board = entityManager.persist(
+                Board.builder().workspace(workspace).owner(owner).name(boardName).build());
+        return entityManager.persist(
+                BoardColumn.builder().board(board).name("할 일").position(0).build());
+    }
+
+    private static LocalDateTime at(int day, int hour) {
+        return LocalDateTime.of(2025, 1, day, hour, 0);
+    }
+
+    private static Map<LocalDate, Long> toMap(List<Object[]> rows) {
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        rows.forEach(row -> counts.put((LocalDate) row[0], (Long) row[1]));
+        return counts;
+    }
+}
@@ -0,0 +1,119 @@
+package com.kanban.card;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.kanban.board.Board;
+import com.kanban.card.dto.CardResponse;
+import com.kanban.column.BoardColumn;
+import com.kanban.label.CardLabel;
+import com.kanban.label.Label;
+import com.kanban.user.User;
+import com.kanban.user.UserStatus;
+import com.kanban.workspace.Workspace;
+
+/**
+ * CardResponseAssembler 쿼리 수 테스트 (H2)
+ * Hibernate Statistics의 prepared statement 수로 카드 수와 무관하게 라벨/자식 개수/순번/담당자 쿼리가 한 번씩만 실행되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CardResponseAssembler.class, CardRankService.class})
+class CardResponseAssemblerQueryCountTest {
+
+    /**
+     * 라벨, 자식 개수, 표시 순번, 담당자 요약 조회
+     */
+    private static final long ENRICH_QUERIES = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardResponseAssembler cardResponseAssembler;
+
+    private User owner;
+    private BoardColumn column;
+    private Label label;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(User.builder().email("owner@example.com").name("Owner")
+                .status(UserStatus.ACTIVE).build());
+        Workspace workspace = entityManager.persist(
+                Workspace.builder().name("워크스페이스").slug("query-count").owner(owner).build());
+        Board board = entityManager.persist(
+                Board.builder().workspace(workspace).owner(owner).name("보드").build());
+        column = entityManager.persist(
+                BoardColumn.builder().board(board).name("할 일").position(0).build());
+        label = entityManager.persist(
+                Label.builder().board(board).name("버그").colorToken("red").build());
+    }
+
+    @Test
+    @DisplayName("카드 목록 응답 조립은 카드 수와 무관하게 같은 수의 SQL만 실행해야 함")
+    void shouldIssueFixedNumberOfStatementsRegardlessOfCardCount() {
+        // given
+        List<Long> fewCardIds = persistCards(3);
+        List<Long> manyCardIds = persistCards(20);
+        entityManager.clear();
+
+        // when
+        long fewStatements = countStatementsToAssemble(fewCardIds);
+        long manyStatements = countStatementsToAssemble(manyCardIds);
+
+        // then
+        assertThat(fewStatements).isEqualTo(ENRICH_QUERIES);
+        assertThat(manyStatements).isEqualTo(ENRICH_QUERIES);
+    }
+
+    /**
+     * 카드를 조회한 뒤(통계 제외) 응답 조립 중 실행된 prepared statement 수를 센다.
+     * 영속성 컨텍스트를 비워 연관 엔티티가 지연 로딩 프록시 상태에서 조립되도록 한다.
+     */
+    private long countStatementsToAssemble(List<Long> cardIds) {
+        entityManager.clear();
+        List<Card> cards = cardRepository.findAllById(cardIds);
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CardResponse> responses = cardResponseAssembler.toResponsesWithChildMarkers(cards);
+
+        assertThat(responses).hasSize(cardIds.size())
+                .allSatisfy(response -> assertThat(response.getAssignee()).isEqualTo("Owner"));
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 담당자, 라벨, 자식 카드가 하나씩 있고 rankKey가 부여된 카드를 count개 저장
+     */
+    private List<Long> persistCards(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Card card = entityManager.persist(Card.builder().column(column).title("카드 " + i)
+                    .position(i).rankKey((i + 1L) * CardRankService.RANK_GAP).assignee(owner)
+                    .build());
+            entityManager.persist(CardLabel.builder().card(card).label(label).build());
+            entityManager.persist(Card.builder().column(column).title("자식 " + i).position(0)
+                    .parentCard(card).build());
+            ids.add(card.getId());
+        }
+        entityManager.flush();
+        return ids;
+    }
+}
@@ -0,0 +1,86 @@
+package com.kanban.card;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kanban.card.dto.CardResponse;
+import com.kanban.column.BoardColumn;
+import com.kanban.label.CardLabelRepository;
+import com.kanban.user.User;
+import com.kanban.user.UserRepository;
+import com.kanban.user.dto.UserSummary;
+
+/**
+ * CardResponseAssembler Unit Test
+ * 목록 응답 조립 시 조회 쿼리 수가 페이지 크기와 무관하게 일정한지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CardResponseAssemblerTest {
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CardLabelRepository cardLabelRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CardRankService cardRankService;
+
+    @InjectMocks
+    private CardResponseAssembler cardResponseAssembler;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50, 500})
+    @DisplayName("라벨/자식 개수/담당자/표시 순번 조회는 페이지 크기와 무관하게 각각 1회만 수행되어야 함")
+    void shouldIssueConstantQueryCountRegardlessOfPageSize(int pageSize) {
+        // given
+        BoardColumn column = BoardColumn.builder().id(1L).name("테스트 칼럼").position(0).build();
+        List<Card> cards = new ArrayList<>();
+        LongStream.rangeClosed(1, pageSize).forEach(id -> cards.add(Card.builder().id(id)
+                .column(column).title("카드 " + id).position((int) id)
+                .assignee(User.builder().id(id % 7).build()).build()));
+
+        when(cardLabelRepository.findByCardIdIn(anyList())).thenReturn(List.of());
+        when(cardRepository.countByParentCardIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[] {1L, 3L}));
+        when(cardRepository.countChildrenByParentCardIds(anyCollection())).thenCallRealMethod();
+        when(userRepository.findSummariesByIdIn(anyCollection()))
+                .thenReturn(List.of(new UserSummary(1L, "Alice", "https://blob/avatar.png")));
+        when(cardRankService.getOrdinals(anyCollection())).thenReturn(Map.of(1L, 0));
+
+        // when
+        List<CardResponse> responses = cardResponseAssembler.toResponsesWithChildMarkers(cards);
+
+        // then
+        assertThat(responses).hasSize(pageSize);
+        assertThat(responses.get(0).getChildCards()).isEmpty();
+        assertThat(responses.get(0).getAssignee()).isEqualTo("Alice");
+        assertThat(responses.get(0).getAssigneeAvatarUrl()).isEqualTo("/users/1/avatar");
+        assertThat(responses.get(0).getPosition()).isZero();
+
+        assertThat(mockingDetails(cardLabelRepository).getInvocations()).hasSize(1);
+        assertThat(mockingDetails(userRepository).getInvocations()).hasSize(1);
+        assertThat(mockingDetails(cardRankService).getInvocations()).hasSize(1);
+        // countChildrenByParentCardIds(default) -> countByParentCardIds(GROUP BY) 한 번
+        assertThat(mockingDetails(cardRepository).getInvocations()).hasSize(2);
+    }
+}
@@ -54,6 +54,18 @@ class CardServiceTest {
     @Mock
     private PolicyFactory htmlSanitizerPolicy;
 
+    @Mock
+    private CardResponseAssembler cardResponseAssembler;
+
+    @Mock
+    private CardRankService cardRankService;
+
+    @Mock
+    private com.kanban.column.ColumnOrderVersionService columnOrderVersionService;
+
+    @Mock
+    private com.kanban.dashboard.DashboardSummaryCache dashboardSummaryCache;
+
     @InjectMocks
     private CardService cardService;
 
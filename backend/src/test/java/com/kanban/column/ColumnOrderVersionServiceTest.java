@@ -0,0 +1,88 @@
+package com.kanban.column;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kanban.board.BoardRepository;
+import com.kanban.exception.ColumnOrderConflictException;
+
+/**
+ * ColumnOrderVersionService Unit Test
+ * 칼럼(카드 순서)/보드(칼럼 순서) 버전 검사/증가 및 충돌 시 현재 순서 전달 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ColumnOrderVersionServiceTest {
+
+    @Mock
+    private ColumnRepository columnRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @InjectMocks
+    private ColumnOrderVersionService columnOrderVersionService;
+
+    @Test
+    @DisplayName("클라이언트 버전이 일치하면 버전을 증가시키고 엔티티에 반영해야 함")
+    void shouldAdvanceVersionWhenExpectedMatches() {
+        // given
+        BoardColumn column = BoardColumn.builder().id(1L).orderVersion(3L).build();
+        when(columnRepository.incrementOrderVersion(1L, 3L)).thenReturn(1);
+        when(columnRepository.findOrderVersionById(1L)).thenReturn(4L);
+
+        // when
+        long version = columnOrderVersionService.advance(column, 3L, List::of);
+
+        // then
+        assertThat(version).isEqualTo(4L);
+        assertThat(column.getOrderVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("클라이언트 버전이 오래되었으면 현재 버전과 순서를 담아 충돌 예외를 던져야 함")
+    void shouldThrowConflictWithCurrentOrderingWhenStale() {
+        // given
+        BoardColumn column = BoardColumn.builder().id(1L).orderVersion(3L).build();
+        when(columnRepository.incrementOrderVersion(1L, 2L)).thenReturn(0);
+        when(columnRepository.findOrderVersionById(1L)).thenReturn(5L);
+
+        // when & then
+        assertThatThrownBy(() -> columnOrderVersionService.advance(column, 2L,
+                () -> List.of(30L, 10L, 20L)))
+                .isInstanceOfSatisfying(ColumnOrderConflictException.class, ex -> {
+                    assertThat(ex.getColumnId()).isEqualTo(1L);
+                    assertThat(ex.getExpectedVersion()).isEqualTo(2L);
+                    assertThat(ex.getCurrentVersion()).isEqualTo(5L);
+                    assertThat(ex.getOrderedIds()).containsExactly(30L, 10L, 20L);
+                });
+        assertThat(column.getOrderVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("보드의 칼럼 순서 버전이 오래되었으면 보드 ID와 현재 칼럼 순서를 담아 충돌 예외를 던져야 함")
+    void shouldThrowBoardConflictWhenColumnOrderStale() {
+        // given
+        when(boardRepository.incrementColumnOrderVersion(7L, 1L)).thenReturn(0);
+        when(boardRepository.findColumnOrderVersionById(7L)).thenReturn(2L);
+
+        // when & then
+        assertThatThrownBy(() -> columnOrderVersionService.advanceBoard(7L, 1L,
+                () -> List.of(3L, 1L, 2L)))
+                .isInstanceOfSatisfying(ColumnOrderConflictException.class, ex -> {
+                    assertThat(ex.getBoardId()).isEqualTo(7L);
+                    assertThat(ex.getColumnId()).isNull();
+                    assertThat(ex.getCurrentVersion()).isEqualTo(2L);
+                    assertThat(ex.getOrderedIds()).containsExactly(3L, 1L, 2L);
+                });
+    }
+}
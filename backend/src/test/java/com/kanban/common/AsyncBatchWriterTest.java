@@ -0,0 +1,155 @@
+package com.kanban.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * AsyncBatchWriter Unit Test
+ * 배치 분할, 실패 배치 재시도, 무결성 위반 항목 제외, 큐 초과 시 호출 스레드 기록, 커밋 이후 적재 검증
+ * (각 기록기 테스트는 SQL과 행 변환만 검증)
+ */
+class AsyncBatchWriterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RecordingWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("큐에 모인 항목은 batch-size 단위로 순서대로 반영되어야 함")
+    void shouldWriteInBatchesOfBatchSize() {
+        // given
+        writer = new RecordingWriter(2, 100);
+        writer.submitAll(List.of(1, 2, 3));
+        writer.submit(4);
+        writer.submit(5);
+
+        // when
+        int written = writer.flush();
+
+        // then
+        assertThat(written).isEqualTo(5);
+        assertThat(writer.batches).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        assertThat(writer.queueSize()).isZero();
+        assertThat(meterRegistry.counter("test.writer.written").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("DB 오류로 실패한 배치는 순서를 유지한 채 큐에 남아 다음 flush에서 재시도되어야 함")
+    void shouldRequeueFailedBatchInOrder() {
+        // given
+        writer = new RecordingWriter(10, 100);
+        writer.submitAll(List.of(1, 2, 3));
+        writer.failures.add(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> writer.flush()).isInstanceOf(QueryTimeoutException.class);
+        assertThat(writer.queueSize()).isEqualTo(3);
+        assertThat(writer.flush()).isEqualTo(3);
+        assertThat(writer.batches).containsExactly(List.of(1, 2, 3));
+        assertThat(meterRegistry.counter("test.writer.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무결성 위반으로 실패한 배치는 건별로 다시 반영하고 위반 항목만 버려야 함")
+    void shouldDropOnlyRejectedItems() {
+        // given
+        writer = new RecordingWriter(10, 100);
+        writer.rejected = Set.of(2);
+        writer.submitAll(List.of(1, 2, 3));
+
+        // when
+        int written = writer.flush();
+
+        // then
+        assertThat(written).isEqualTo(2);
+        assertThat(writer.batches).containsExactly(List.of(1), List.of(3));
+        assertThat(writer.queueSize()).isZero();
+        assertThat(meterRegistry.counter("test.writer.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 넘친 항목을 버리지 않고 호출 스레드에서 기록해야 함")
+    void shouldApplyBackPressureInsteadOfDropping() {
+        // given
+        writer = new RecordingWriter(100, 3);
+
+        // when
+        writer.submitAll(List.of(1, 2, 3, 4, 5));
+
+        // then
+        assertThat(writer.queueSize()).isEqualTo(3);
+        assertThat(writer.batches).containsExactly(List.of(4, 5));
+        assertThat(meterRegistry.counter("test.writer.backpressure").count()).isEqualTo(2);
+        assertThat(meterRegistry.find("test.writer.lag").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 기록 요청은 커밋 이후에만 큐에 적재되어야 함")
+    void shouldEnqueueOnlyAfterCommit() {
+        // given
+        writer = new RecordingWriter(10, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        writer.submit(1);
+        int queuedBeforeCommit = writer.queueSize();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(queuedBeforeCommit).isZero();
+        assertThat(writer.queueSize()).isEqualTo(1);
+    }
+
+    /**
+     * 반영한 배치를 기록하는 테스트용 기록기
+     * 주기 flush가 테스트에 끼어들지 않도록 긴 주기를 사용하고, flush는 테스트가 직접 호출한다.
+     */
+    private final class RecordingWriter extends AsyncBatchWriter<Integer> {
+
+        private final List<List<Integer>> batches = new ArrayList<>();
+        private final List<RuntimeException> failures = new ArrayList<>();
+        private Set<Integer> rejected = Set.of();
+
+        RecordingWriter(int batchSize, int queueCapacity) {
+            super("test.writer", mock(PlatformTransactionManager.class), meterRegistry, 60_000,
+                    batchSize, queueCapacity);
+        }
+
+        @Override
+        protected void write(List<Integer> batch) {
+            if (!failures.isEmpty()) {
+                throw failures.remove(0);
+            }
+            if (batch.stream().anyMatch(rejected::contains)) {
+                throw new DataIntegrityViolationException("rejected");
+            }
+            batches.add(List.copyOf(batch));
+        }
+    }
+}
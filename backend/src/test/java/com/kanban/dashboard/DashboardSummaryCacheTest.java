@@ -0,0 +1,117 @@
+package com.kanban.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kanban.board.BoardRepository;
+import com.kanban.card.CardRepository;
+import com.kanban.dashboard.dto.DashboardSummaryResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * DashboardSummaryCache Unit Test
+ * 한 번의 집계 쿼리로 요약 계산, 워크스페이스 단위 갱신 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardSummaryCacheTest {
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardSummaryCache dashboardSummaryCache;
+
+    @BeforeEach
+    void setUp() {
+        dashboardSummaryCache = new DashboardSummaryCache(cardRepository, boardRepository,
+                transactionManager, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1),
+                Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardSummaryCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("요약은 집계 쿼리 한 번으로 계산되고 캐시되어야 함")
+    void shouldSummarizeWithSingleAggregateQuery() {
+        // given
+        stubSummary(1L, 10L);
+
+        // when
+        DashboardSummaryResponse first = dashboardSummaryCache.get(1L);
+        DashboardSummaryResponse second = dashboardSummaryCache.get(1L);
+
+        // then
+        assertThat(first.getTotalCards()).isEqualTo(10L);
+        assertThat(first.getCompletedCards()).isEqualTo(4L);
+        assertThat(first.getRecentActivity().getUpdated7d()).isEqualTo(2L);
+        assertThat(second).isSameAs(first);
+        verify(cardRepository, times(1)).summarizeWorkspace(eq(1L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보드 변경 시 해당 워크스페이스 요약만 다시 계산해야 함")
+    void shouldRefreshOnlyAffectedWorkspace() {
+        // given
+        stubSummary(1L, 10L);
+        stubSummary(2L, 20L);
+        when(boardRepository.findWorkspaceIdById(100L)).thenReturn(Optional.of(1L));
+        dashboardSummaryCache.get(1L);
+        dashboardSummaryCache.get(2L);
+
+        // when
+        dashboardSummaryCache.refreshBoard(100L);
+
+        // then
+        verify(cardRepository, timeout(1000).times(2)).summarizeWorkspace(eq(1L), any(), any(),
+                any());
+        verify(cardRepository, times(1)).summarizeWorkspace(eq(2L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 워크스페이스는 갱신 요청 시 계산하지 않아야 함")
+    void shouldSkipRefreshForUncachedWorkspace() throws InterruptedException {
+        // when
+        dashboardSummaryCache.refreshWorkspace(3L);
+        Thread.sleep(100);
+
+        // then
+        verify(cardRepository, never()).summarizeWorkspace(anyLong(), any(), any(), any());
+    }
+
+    private void stubSummary(Long workspaceId, long totalCards) {
+        when(boardRepository.countActiveByWorkspaceId(workspaceId)).thenReturn(3L);
+        when(cardRepository.summarizeWorkspace(eq(workspaceId), any(), any(), any()))
+                .thenReturn(java.util.Collections.singletonList(
+                        new Object[] {totalCards, 4L, totalCards - 4, 1L, 1L, 0L, 3L, 2L}));
+        when(cardRepository.findBoardsByOverdueCount(eq(workspaceId), any(), any()))
+                .thenReturn(java.util.List.of());
+    }
+}
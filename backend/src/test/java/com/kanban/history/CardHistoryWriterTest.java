@@ -0,0 +1,76 @@
+package com.kanban.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CardHistoryWriter Unit Test
+ * 여러 카드 이력을 하나의 JDBC 배치로 반영하는지 검증 (큐/재시도/back-pressure는 AsyncBatchWriterTest)
+ */
+@ExtendWith(MockitoExtension.class)
+class CardHistoryWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CardHistoryWriter cardHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        cardHistoryWriter = new CardHistoryWriter(jdbcTemplate, transactionManager,
+                new SimpleMeterRegistry(), 60_000, 100, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cardHistoryWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 카드의 이력은 하나의 JDBC 배치로 반영되어야 함")
+    void shouldWriteHistoriesAcrossCardsInOneBatch() {
+        // given
+        cardHistoryWriter.submitAll(histories(1L, 2L));
+        cardHistoryWriter.submit(history(3L));
+
+        // when
+        int written = cardHistoryWriter.flush();
+
+        // then
+        assertThat(written).isEqualTo(3);
+        verify(jdbcTemplate).batchUpdate(any(String.class), anyList(), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private List<CardHistory> histories(Long... cardIds) {
+        return Arrays.stream(cardIds).map(this::history).toList();
+    }
+
+    private CardHistory history(long cardId) {
+        return CardHistory.builder().cardId(cardId).boardId(10L).field("STATUS").fromValue("ACTIVE")
+                .toValue("ARCHIVED").changedByUserId(1L).changedAt(LocalDateTime.now()).build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.kanban.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DueDateAlarmQueue Unit Test
+ * 알람 대체, 취소, 도래한 알람 일괄 추출 검증
+ */
+class DueDateAlarmQueueTest {
+
+    private final DueDateAlarmQueue alarmQueue = new DueDateAlarmQueue();
+
+    @Test
+    @DisplayName("발송 시각이 지난 알람은 즉시 한 번에 꺼내고, 다시 예약하거나 취소한 알람은 버려야 함")
+    void shouldTakeOnlyLatestDueAlarms() throws InterruptedException {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        alarmQueue.schedule(1L, past);
+        alarmQueue.schedule(2L, LocalDateTime.now().plusDays(1));
+        alarmQueue.schedule(2L, past); // 마감일 변경으로 앞당겨짐
+        alarmQueue.schedule(3L, past);
+        alarmQueue.schedule(4L, past.minusMinutes(1));
+        alarmQueue.cancel(3L);
+        alarmQueue.schedule(5L, LocalDateTime.now().plusDays(1));
+
+        // when
+        List<Long> due = alarmQueue.takeDue();
+
+        // then
+        assertThat(due).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(alarmQueue.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("retainOnly는 주어진 카드 외의 알람을 취소해야 함")
+    void shouldRetainOnlyGivenCards() throws InterruptedException {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        alarmQueue.schedule(1L, past);
+        alarmQueue.schedule(2L, past);
+
+        // when
+        alarmQueue.retainOnly(List.of(2L));
+
+        // then
+        assertThat(alarmQueue.takeDue()).containsExactly(2L);
+    }
+}
@@ -0,0 +1,117 @@
+package com.kanban.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kanban.common.ClusterLease;
+import com.kanban.notification.domain.Notification;
+import com.kanban.notification.service.NotificationService;
+
+/**
+ * NotificationScheduler Unit Test
+ * 발송 시각 재확인, 배치 단위 발송, 발송 실패 시 알람 재예약 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationSchedulerTest {
+
+    @Mock
+    private NotificationLogRepository logRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ClusterLease clusterLease;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationScheduler notificationScheduler;
+
+    @BeforeEach
+    void setUp() {
+        notificationScheduler = new NotificationScheduler(logRepository, notificationService,
+                clusterLease, jdbcTemplate, transactionManager, Duration.ofMinutes(1), Duration.ofDays(2),
+                Duration.ofSeconds(5), 2);
+    }
+
+    @Test
+    @DisplayName("알람이 도래한 카드 중 리드 타임이 지난 대상만 batch-size 단위로 알림과 발송 기록을 저장해야 함")
+    void shouldSendOnlyDueNotificationsInBatches() {
+        // given
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        LocalDateTime now = today.atTime(23, 30);
+        List<Long> cardIds = List.of(1L, 2L, 3L, 4L);
+        when(logRepository.findPendingDueDateNotificationsByCardIds(cardIds))
+                .thenReturn(List.of(
+                        row(1L, today, 60),
+                        row(2L, today, 10), // 23:49:59 이후 발송
+                        row(3L, today, 120),
+                        row(4L, today.plusDays(1), 60)));
+
+        // when
+        int sent = notificationScheduler.sendDueDateNotifications(cardIds, now);
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, times(1)).createNotifications(notifications.capture());
+        assertThat(notifications.getValue()).extracting(Notification::getRelatedUrl)
+                .containsExactly("/workspaces/30/boards/20?cardId=1&columnId=10",
+                        "/workspaces/30/boards/20?cardId=3&columnId=10");
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("임대를 얻은 뒤 발송에 실패한 카드는 retry-delay 후 다시 발송하도록 알람에 되돌려야 함")
+    void shouldRescheduleAlarmsWhenSendFails() {
+        // given
+        List<Long> cardIds = List.of(1L, 2L);
+        when(clusterLease.runExclusively(anyString(), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+        when(logRepository.findPendingDueDateNotificationsByCardIds(cardIds))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        notificationScheduler.fire(cardIds);
+
+        // then
+        assertThat(notificationScheduler.pendingAlarms()).isEqualTo(2);
+    }
+
+    private Object[] row(Long cardId, LocalDate dueDate, int beforeMinutes) {
+        return new Object[] {cardId, "카드 " + cardId, 10L, 20L, 30L, 100L, dueDate,
+                beforeMinutes};
+    }
+}
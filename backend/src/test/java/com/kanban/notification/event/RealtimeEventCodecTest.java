@@ -0,0 +1,92 @@
+package com.kanban.notification.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kanban.card.dto.CardResponse;
+
+/**
+ * 실시간 이벤트 프레임 코덱 단위 테스트 (형식별 왕복, JSON 전달, 크기 비교)
+ */
+class RealtimeEventCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final RealtimeEventCodec jsonCodec =
+            new RealtimeEventCodec(objectMapper, RealtimeEventCodec.Format.JSON);
+    private final RealtimeEventCodec smileCodec =
+            new RealtimeEventCodec(objectMapper, RealtimeEventCodec.Format.SMILE);
+
+    @Test
+    @DisplayName("프레임 헤더에서 역직렬화 없이 라우팅 ID를 읽을 수 있어야 함")
+    void shouldExposeRoutingIdInHeader() {
+        byte[] frame = smileCodec.encode(batchEvent(3));
+
+        assertThat(RealtimeEventCodec.isFramed(frame)).isTrue();
+        assertThat(RealtimeEventCodec.routingId(frame)).isEqualTo(42L);
+        assertThat(RealtimeEventCodec.routingId(smileCodec.encode(new NotificationEvent())))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("기존 JSON 메시지는 프레임으로 인식하지 않아야 함")
+    void shouldNotTreatLegacyJsonAsFrame() throws Exception {
+        byte[] legacy = objectMapper.writeValueAsBytes(batchEvent(1));
+
+        assertThat(RealtimeEventCodec.isFramed(legacy)).isFalse();
+    }
+
+    @Test
+    @DisplayName("SMILE 프레임을 JSON으로 변환한 결과는 JSON 프레임 본문과 같아야 함")
+    void shouldTranscodeSmileToSameJson() throws Exception {
+        BoardEvent event = batchEvent(20);
+
+        byte[] jsonBody = jsonCodec.toJson(jsonCodec.encode(event));
+        byte[] transcoded = smileCodec.toJson(smileCodec.encode(event));
+
+        JsonNode expected = objectMapper.readTree(jsonBody);
+        assertThat(objectMapper.readTree(transcoded)).isEqualTo(expected);
+        assertThat(new String(jsonBody, StandardCharsets.UTF_8)).startsWith("{\"type\":\"BATCH\"");
+        assertThat(expected.at("/payload/events/0/payload/createdAt").asText())
+                .isEqualTo("2025-01-15T10:30:00");
+    }
+
+    @Test
+    @DisplayName("SMILE 프레임은 같은 배치의 JSON 프레임보다 작아야 함")
+    void shouldProduceSmallerSmileFrame() {
+        BoardEvent event = batchEvent(200);
+
+        byte[] json = jsonCodec.encode(event);
+        byte[] smile = smileCodec.encode(event);
+
+        assertThat(smile.length).isLessThan(json.length);
+        assertThat(smileCodec.decode(smile, BoardEvent.class).getBoardId()).isEqualTo(42L);
+    }
+
+    private BoardEvent batchEvent(int size) {
+        List<BoardEvent> events = IntStream.range(0, size)
+                .mapToObj(i -> BoardEvent.builder().type("CARD_UPDATED").boardId(42L)
+                        .payload(CardResponse.builder().id((long) i).columnId(7L)
+                                .title("결제 모듈 리팩터링 " + i).description("설명 " + i)
+                                .priority("HIGH").position(i)
+                                .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30)).build())
+                        .triggeredByUserId(1L).timestamp(1_736_900_000_000L).build())
+                .toList();
+        return BoardEvent.builder().type("BATCH").boardId(42L).payload(Map.of("events", events))
+                .triggeredByUserId(1L).timestamp(1_736_900_000_000L).build();
+    }
+}
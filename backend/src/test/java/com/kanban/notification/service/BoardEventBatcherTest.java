@@ -0,0 +1,114 @@
+package com.kanban.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kanban.card.dto.CardResponse;
+import com.kanban.notification.event.BoardEvent;
+
+/**
+ * 보드 이벤트 배치 병합 규칙 및 버퍼 정리 단위 테스트
+ */
+class BoardEventBatcherTest {
+
+    @Test
+    @DisplayName("같은 카드의 연속 수정은 마지막 상태 하나로 합쳐져야 함")
+    void shouldCollapseRepeatedCardUpdates() {
+        BoardEventBatcher.BoardBuffer buffer = new BoardEventBatcher.BoardBuffer();
+
+        buffer.add(cardEvent("CARD_UPDATED", 1L, "첫 번째"));
+        buffer.add(cardEvent("CARD_UPDATED", 2L, "다른 카드"));
+        buffer.add(cardEvent("CARD_UPDATED", 1L, "마지막"));
+
+        List<BoardEvent> events = buffer.drain();
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getPayload()).extracting("id").isEqualTo(2L);
+        assertThat(events.get(1).getPayload()).extracting("title").isEqualTo("마지막");
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("생성/이동 이후의 수정은 생성/이동 이벤트로, 삭제는 항상 삭제로 합쳐져야 함")
+    void shouldKeepStrongestEventType() {
+        BoardEventBatcher.BoardBuffer buffer = new BoardEventBatcher.BoardBuffer();
+
+        buffer.add(cardEvent("CARD_CREATED", 1L, "새 카드"));
+        buffer.add(cardEvent("CARD_UPDATED", 1L, "새 카드 수정"));
+        buffer.add(cardEvent("CARD_MOVED", 2L, "이동"));
+        buffer.add(cardEvent("CARD_UPDATED", 2L, "이동 후 수정"));
+        buffer.add(cardEvent("CARD_UPDATED", 3L, "삭제 대상"));
+        buffer.add(event("CARD_DELETED", Map.of("cardId", 3L, "columnId", 10L)));
+
+        List<BoardEvent> events = buffer.drain();
+
+        assertThat(events).extracting(BoardEvent::getType)
+                .containsExactly("CARD_CREATED", "CARD_MOVED", "CARD_DELETED");
+        assertThat(events.get(0).getPayload()).extracting("title").isEqualTo("새 카드 수정");
+    }
+
+    @Test
+    @DisplayName("카드를 식별할 수 없는 이벤트는 합치지 않고 순서대로 유지해야 함")
+    void shouldKeepNonCardEventsInOrder() {
+        BoardEventBatcher.BoardBuffer buffer = new BoardEventBatcher.BoardBuffer();
+
+        buffer.add(event("COLUMN_UPDATED", Map.of("id", 10L)));
+        buffer.add(event("COLUMN_UPDATED", Map.of("id", 10L)));
+        buffer.add(event("CARD_DELETED", Map.of("action", "BULK_DELETE", "cards", List.of())));
+
+        assertThat(buffer.drain()).extracting(BoardEvent::getType)
+                .containsExactly("COLUMN_UPDATED", "COLUMN_UPDATED", "CARD_DELETED");
+    }
+
+    @Test
+    @DisplayName("발행이 끝난 보드의 버퍼는 제거되어야 함")
+    void shouldRemoveBufferAfterFlush() {
+        RealtimeEventDispatcher dispatcher = mock(RealtimeEventDispatcher.class);
+        BoardEventBatcher batcher = new BoardEventBatcher(dispatcher, 60_000, 500);
+
+        batcher.enqueue(cardEvent("CARD_UPDATED", 1L, "첫 번째"));
+        batcher.enqueue(cardEvent("CARD_UPDATED", 2L, "다른 카드"));
+        assertThat(batcher.pendingBoards()).isEqualTo(1);
+
+        batcher.flushAll();
+
+        assertThat(batcher.pendingBoards()).isZero();
+        verify(dispatcher, times(1)).dispatchBoardEvent(any(BoardEvent.class));
+    }
+
+    @Test
+    @DisplayName("디스패처 레인이 가득 차면 기다리지 않고 보드 버퍼에 되돌린 뒤 다시 발행해야 함")
+    void shouldRequeueWhenDispatcherLaneIsFull() {
+        RealtimeEventDispatcher dispatcher = mock(RealtimeEventDispatcher.class);
+        when(dispatcher.tryDispatchBoardEvent(any(BoardEvent.class))).thenReturn(false, true);
+        BoardEventBatcher batcher = new BoardEventBatcher(dispatcher, 20, 500);
+
+        batcher.enqueue(cardEvent("CARD_UPDATED", 1L, "첫 번째"));
+
+        verify(dispatcher, timeout(2_000).times(2)).tryDispatchBoardEvent(any(BoardEvent.class));
+        verify(dispatcher, never()).dispatchBoardEvent(any(BoardEvent.class));
+        batcher.flushAll();
+        assertThat(batcher.pendingBoards()).isZero();
+    }
+
+    private BoardEvent cardEvent(String type, Long cardId, String title) {
+        return event(type, CardResponse.builder().id(cardId).title(title).build());
+    }
+
+    private BoardEvent event(String type, Object payload) {
+        return BoardEvent.builder().type(type).boardId(1L).payload(payload).triggeredByUserId(7L)
+                .timestamp(System.currentTimeMillis()).build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.kanban.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.kanban.common.KeysetCursor;
+import com.kanban.notification.domain.Notification;
+import com.kanban.notification.dto.NotificationPageResponse;
+import com.kanban.notification.repository.NotificationRepository;
+
+/**
+ * NotificationService Unit Test
+ * 알림함 keyset 페이지네이션, 읽음 처리 시 읽지 않은 알림 수 반영 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private NotificationWriter notificationWriter;
+
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Test
+    @DisplayName("size + 1건을 읽어 다음 페이지 여부와 마지막 항목 기준 커서를 반환해야 함")
+    void shouldReturnKeysetPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 10, 9, 0);
+        Notification first = notification(3L, createdAt);
+        Notification second = notification(2L, createdAt);
+        Notification extra = mock(Notification.class);
+        KeysetCursor cursor = new KeysetCursor(createdAt.plusHours(1), 9L);
+        when(notificationRepository.findInboxPageAfter(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(first, second, extra));
+        when(unreadCounter.get(1L)).thenReturn(5L);
+
+        // when
+        NotificationPageResponse page =
+                notificationService.getNotifications(1L, cursor.encode(), 2, false);
+
+        // then
+        verify(notificationRepository).findInboxPageAfter(1L, cursor.createdAt(), 9L,
+                PageRequest.of(0, 3));
+        assertThat(page.getContent()).extracting("id").containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor()))
+                .isEqualTo(new KeysetCursor(createdAt, 2L));
+        assertThat(page.getUnreadCount()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 본인 알림을 읽음 처리한 경우에만 읽지 않은 알림 수를 줄여야 함")
+    void shouldDecrementUnreadCountOnlyWhenUpdated() {
+        // given
+        when(notificationRepository.markAsRead(10L, 1L)).thenReturn(1);
+        when(notificationRepository.markAsRead(11L, 1L)).thenReturn(0);
+
+        // when
+        notificationService.markAsRead(10L, 1L);
+        notificationService.markAsRead(11L, 1L);
+
+        // then
+        verify(unreadCounter, times(1)).add(anyMap());
+        verify(unreadCounter).add(Map.of(1L, -1L));
+        verify(unreadCounter, never()).reset(any());
+    }
+
+    private Notification notification(Long id, LocalDateTime createdAt) {
+        Notification notification = mock(Notification.class);
+        when(notification.getId()).thenReturn(id);
+        when(notification.getCreatedAt()).thenReturn(createdAt);
+        return notification;
+    }
+}
@@ -0,0 +1,95 @@
+package com.kanban.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kanban.notification.domain.Notification;
+import com.kanban.notification.domain.NotificationType;
+import com.kanban.notification.event.NotificationEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NotificationWriter Unit Test
+ * 여러 수신자 알림의 배치 저장과 실시간 이벤트 일괄 발행 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationWriter notificationWriter;
+
+    @BeforeEach
+    void setUp() {
+        notificationWriter = new NotificationWriter(jdbcTemplate, redisPublisher, unreadCounter,
+                transactionManager, new SimpleMeterRegistry(), 60_000, 500, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("200명의 관심 사용자 알림은 JDBC 배치 한 번과 이벤트 발행 한 번으로 처리되어야 함")
+    void shouldWriteFanOutInOneBatch() {
+        // given
+        doAnswer(invocation -> {
+            KeyHolder keyHolder = invocation.getArgument(2);
+            LongStream.rangeClosed(1, 200)
+                    .forEach(id -> keyHolder.getKeyList().add(Map.of("id", id)));
+            return new int[200];
+        }).when(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        notificationWriter.submitAll(LongStream.rangeClosed(1, 200)
+                .mapToObj(recipientId -> Notification.builder().recipientId(recipientId)
+                        .type(NotificationType.CARD_WATCH).message("관심 카드 변경")
+                        .relatedUrl("/boards/1/2?cardId=3&columnId=4").build())
+                .toList());
+
+        // when
+        int written = notificationWriter.flush();
+
+        // then
+        assertThat(written).isEqualTo(200);
+        verify(jdbcTemplate, times(1)).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(redisPublisher, times(1)).publishNotifications(events.capture());
+        assertThat(events.getValue()).hasSize(200);
+        assertThat(events.getValue().get(199).getId()).isEqualTo(200L);
+    }
+}
@@ -0,0 +1,29 @@
+package com.kanban.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RealtimeEventDispatcher 레인 선택 단위 테스트
+ */
+class RealtimeEventDispatcherTest {
+
+    @Test
+    @DisplayName("같은 보드의 이벤트는 항상 같은 레인으로, 보드들은 여러 레인에 나뉘어야 함")
+    void shouldRouteSameBoardToSameLane() {
+        int lane = RealtimeEventDispatcher.laneOf(42L, 4);
+
+        assertThat(IntStream.range(0, 100).map(i -> RealtimeEventDispatcher.laneOf(42L, 4)))
+                .containsOnly(lane);
+        assertThat(LongStream.rangeClosed(1, 100)
+                .mapToInt(boardId -> RealtimeEventDispatcher.laneOf(boardId, 4)).distinct())
+                .containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(RealtimeEventDispatcher.laneOf(null, 4)).isZero();
+        assertThat(RealtimeEventDispatcher.laneOf(-7L, 4)).isBetween(0, 3);
+    }
+}
@@ -0,0 +1,61 @@
+package com.kanban.notification.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanban.notification.event.BoardEvent;
+import com.kanban.notification.event.NotificationEvent;
+import com.kanban.notification.event.RealtimeEventCodec;
+
+/**
+ * RedisSubscriber 프레임 전달 단위 테스트 (라우팅 ID별 목적지, 라우팅 ID 없는 프레임 차단)
+ */
+class RedisSubscriberTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final RealtimeEventCodec codec =
+            new RealtimeEventCodec(objectMapper, RealtimeEventCodec.Format.JSON);
+    private final RedisSubscriber subscriber =
+            new RedisSubscriber(objectMapper, messagingTemplate, codec);
+
+    @Test
+    @DisplayName("보드 프레임은 보드 ID 토픽으로 전달해야 함")
+    void shouldForwardBoardFrameToBoardTopic() {
+        BoardEvent event = BoardEvent.builder().type("CARD_UPDATED").boardId(42L).build();
+
+        subscriber.onMessage(message(RedisPublisher.TOPIC_BOARD, codec.encode(event)), null);
+
+        verify(messagingTemplate).send(eq("/topic/board/42"), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("라우팅 ID가 없는 프레임은 전달하지 않아야 함")
+    void shouldDropFrameWithoutRoutingId() {
+        BoardEvent event = BoardEvent.builder().type("CARD_UPDATED").build();
+
+        subscriber.onMessage(message(RedisPublisher.TOPIC_BOARD, codec.encode(event)), null);
+        subscriber.onMessage(
+                message(RedisPublisher.TOPIC_NOTIFICATION, codec.encode(new NotificationEvent())),
+                null);
+
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    private static DefaultMessage message(String channel, byte[] body) {
+        return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body);
+    }
+}
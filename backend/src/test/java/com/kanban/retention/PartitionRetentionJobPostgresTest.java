@@ -0,0 +1,188 @@
+package com.kanban.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.kanban.common.ClusterLease;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PartitionRetentionJob 파티션 DDL 테스트 (PostgreSQL)
+ * DEFAULT 파티션 행 이관 후 ATTACH, 보관 내보내기 후 DETACH/DROP 검증
+ * H2는 선언적 파티션 DDL을 지원하지 않으므로 일회용 PostgreSQL 컨테이너를 사용한다 (Docker가 없으면 건너뜀).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(MockitoExtension.class)
+class PartitionRetentionJobPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 15, 3, 30);
+
+    @Mock
+    private PartitionArchiver partitionArchiver;
+
+    @Mock
+    private ClusterLease clusterLease;
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        meterRegistry = new SimpleMeterRegistry();
+
+        // V14 마이그레이션과 같은 형태의 축소 테이블 (나머지 대상 테이블은 없으므로 건너뜀)
+        jdbcTemplate.execute("DROP TABLE IF EXISTS activities CASCADE");
+        jdbcTemplate.execute("CREATE TABLE activities (id BIGINT NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL, PRIMARY KEY (id, created_at)) "
+                + "PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("CREATE TABLE activities_p202503 PARTITION OF activities "
+                + "FOR VALUES FROM ('2025-03-01 00:00:00') TO ('2025-04-01 00:00:00')");
+        jdbcTemplate.execute("CREATE TABLE activities_default PARTITION OF activities DEFAULT");
+    }
+
+    @Test
+    @DisplayName("DEFAULT 파티션에 행이 있는 달은 행을 새 파티션으로 옮긴 뒤 ATTACH하고, 다음 달 파티션을 미리 만들어야 함")
+    void shouldMoveDefaultRowsIntoAttachedPartition() {
+        // given - 2024-11 행 2건은 범위 밖이라 DEFAULT에 들어감
+        insert(1L, LocalDateTime.of(2024, 11, 3, 9, 0));
+        insert(2L, LocalDateTime.of(2024, 11, 28, 9, 0));
+        insert(3L, LocalDateTime.of(2025, 3, 10, 9, 0));
+
+        // when
+        job(Map.of(), null).maintain(NOW);
+
+        // then
+        assertThat(partitions()).containsExactlyInAnyOrder("activities_default",
+                "activities_p202411", "activities_p202503", "activities_p202504");
+        assertThat(count("activities_default")).isZero();
+        assertThat(count("activities_p202411")).isEqualTo(2);
+        assertThat(count("activities")).isEqualTo(3);
+        assertThat(meterRegistry.get("retention.default_partition.rows")
+                .tag("table", "activities").gauge().value()).isZero();
+        assertThat(failures()).isZero();
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 파티션은 보관 내보내기 후 분리하여 삭제하고, 최근 파티션과 DEFAULT는 남겨야 함")
+    void shouldDetachAndDropExpiredPartition() throws IOException {
+        // given
+        createPartition("activities_p202411", "2024-11-01 00:00:00", "2024-12-01 00:00:00");
+        insert(1L, LocalDateTime.of(2024, 11, 3, 9, 0));
+        insert(2L, LocalDateTime.of(2025, 3, 10, 9, 0));
+
+        // when
+        job(Map.of(PartitionedTable.ACTIVITY, Duration.ofDays(90)),
+                new RetentionProperties.Archive(true, "/tmp/archive")).maintain(NOW);
+
+        // then
+        verify(partitionArchiver).export(PartitionedTable.ACTIVITY, "activities_p202411",
+                "/tmp/archive");
+        assertThat(partitions()).containsExactlyInAnyOrder("activities_default",
+                "activities_p202503", "activities_p202504");
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('activities_p202411') IS NULL",
+                Boolean.class)).isTrue();
+        assertThat(count("activities")).isEqualTo(1);
+        assertThat(failures()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 내보내기에 실패한 파티션은 분리/삭제하지 않아야 함")
+    void shouldKeepPartitionWhenArchiveFails() throws IOException {
+        // given
+        createPartition("activities_p202411", "2024-11-01 00:00:00", "2024-12-01 00:00:00");
+        insert(1L, LocalDateTime.of(2024, 11, 3, 9, 0));
+        doThrow(new IOException("disk full")).when(partitionArchiver)
+                .export(eq(PartitionedTable.ACTIVITY), anyString(), any());
+
+        // when
+        job(Map.of(PartitionedTable.ACTIVITY, Duration.ofDays(90)),
+                new RetentionProperties.Archive(true, "/tmp/archive")).maintain(NOW);
+
+        // then
+        assertThat(partitions()).contains("activities_p202411");
+        assertThat(count("activities")).isEqualTo(1);
+        assertThat(failures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 설정되지 않은 테이블은 지난 파티션도 삭제하지 않아야 함")
+    void shouldNotDropWithoutRetention() {
+        // given
+        createPartition("activities_p202411", "2024-11-01 00:00:00", "2024-12-01 00:00:00");
+
+        // when
+        job(Map.of(), null).maintain(NOW);
+
+        // then
+        assertThat(partitions()).contains("activities_p202411");
+        verifyNoInteractions(partitionArchiver);
+    }
+
+    private PartitionRetentionJob job(Map<PartitionedTable, Duration> tables,
+            RetentionProperties.Archive archive) {
+        RetentionProperties properties =
+                new RetentionProperties(true, 1, Duration.ofMinutes(10), archive, tables);
+        return new PartitionRetentionJob(jdbcTemplate, transactionManager, partitionArchiver,
+                clusterLease, properties, meterRegistry);
+    }
+
+    private void createPartition(String name, String from, String to) {
+        jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF activities FOR VALUES FROM ('"
+                + from + "') TO ('" + to + "')");
+    }
+
+    private void insert(long id, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO activities (id, created_at) VALUES (?, ?)", id,
+                Timestamp.valueOf(createdAt));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'activities'::regclass", String.class);
+    }
+
+    private double failures() {
+        return meterRegistry.get("retention.partition.failures").tag("table", "activities")
+                .counter().count();
+    }
+}
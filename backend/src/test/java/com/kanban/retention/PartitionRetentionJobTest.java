@@ -0,0 +1,71 @@
+package com.kanban.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PartitionRetentionJob Unit Test
+ * 파티션 범위 상한 해석, 생성할 월 파티션 계산, 보존 기간이 지난 파티션 선택 검증
+ */
+class PartitionRetentionJobTest {
+
+    @Test
+    @DisplayName("범위 식에서 상한을 읽고, DEFAULT 파티션은 상한이 없어야 함")
+    void shouldParseUpperBound() {
+        assertThat(PartitionRetentionJob.upperBound(
+                "FOR VALUES FROM ('2025-01-01 00:00:00') TO ('2025-02-01 00:00:00')"))
+                .isEqualTo(LocalDateTime.of(2025, 2, 1, 0, 0));
+        assertThat(PartitionRetentionJob.upperBound(
+                "FOR VALUES FROM (MINVALUE) TO ('2025-04-01 00:00:00')"))
+                .isEqualTo(LocalDateTime.of(2025, 4, 1, 0, 0));
+        assertThat(PartitionRetentionJob.upperBound("DEFAULT")).isNull();
+    }
+
+    @Test
+    @DisplayName("모든 행이 보존 기준 시각 이전인 파티션만 삭제 대상이어야 함")
+    void shouldSelectOnlyFullyExpiredPartitions() {
+        // given
+        List<PartitionRetentionJob.Partition> partitions = List.of(
+                new PartitionRetentionJob.Partition("activities_legacy",
+                        LocalDateTime.of(2025, 2, 1, 0, 0)),
+                new PartitionRetentionJob.Partition("activities_p202502",
+                        LocalDateTime.of(2025, 3, 1, 0, 0)),
+                new PartitionRetentionJob.Partition("activities_p202503",
+                        LocalDateTime.of(2025, 4, 1, 0, 0)),
+                new PartitionRetentionJob.Partition("activities_default", null));
+
+        // when
+        List<PartitionRetentionJob.Partition> expired = PartitionRetentionJob.expired(partitions,
+                LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        // then
+        assertThat(expired).extracting(PartitionRetentionJob.Partition::name)
+                .containsExactly("activities_legacy", "activities_p202502");
+    }
+
+    @Test
+    @DisplayName("기존 파티션 이후 미리 만들 달과, DEFAULT 파티션에 행이 있는 지난 달을 함께 만들어야 함")
+    void shouldIncludeMonthsHeldByDefaultPartition() {
+        // given - 2025-03까지 파티션 존재, DEFAULT에 2024-11 행 (legacy 삭제 후 유입된 과거 행)
+        List<PartitionRetentionJob.Partition> partitions = List.of(
+                new PartitionRetentionJob.Partition("activities_p202503",
+                        LocalDateTime.of(2025, 4, 1, 0, 0)),
+                new PartitionRetentionJob.Partition("activities_default", null));
+
+        // when
+        List<LocalDateTime> months = PartitionRetentionJob.monthsToCreate(partitions,
+                List.of(LocalDateTime.of(2024, 11, 1, 0, 0)), LocalDateTime.of(2025, 3, 15, 10, 0),
+                2);
+
+        // then
+        assertThat(months).containsExactly(
+                LocalDateTime.of(2024, 11, 1, 0, 0),
+                LocalDateTime.of(2025, 4, 1, 0, 0),
+                LocalDateTime.of(2025, 5, 1, 0, 0));
+    }
+}
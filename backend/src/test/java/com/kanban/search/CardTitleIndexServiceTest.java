@@ -0,0 +1,89 @@
+package com.kanban.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kanban.board.Board;
+import com.kanban.board.BoardRepository;
+import com.kanban.card.Card;
+import com.kanban.card.CardRepository;
+import com.kanban.column.BoardColumn;
+import com.kanban.search.dto.CardTitleSuggestion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CardTitleIndexService Unit Test
+ * 인덱스 구성 중 도착한 변경의 재반영, 변경 후 가중치(카드 수) 갱신 검증
+ */
+class CardTitleIndexServiceTest {
+
+    private final CardRepository cardRepository = mock(CardRepository.class);
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final Board board = Board.builder().id(10L).build();
+    private final BoardColumn column = BoardColumn.builder().id(100L).board(board).build();
+    private CardTitleIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CardTitleIndexService(cardRepository, boardRepository,
+                new SimpleMeterRegistry(), 1_000, 1_000, 10);
+        when(boardRepository.findActiveByWorkspaceId(1L)).thenReturn(List.of(board));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("인덱스 구성 중에 도착한 카드 변경은 구성 완료 후 반영되어야 함")
+    void shouldReplayChangesArrivingDuringBuild() {
+        // given - 구성 쿼리가 읽은 뒤 카드 2가 생성되어 변경 이벤트가 도착
+        when(cardRepository.findByBoardId(10L)).thenAnswer(invocation -> {
+            service.applyChange(10L, 2L);
+            return List.of(card(1L, "로그인 오류 수정"));
+        });
+        when(cardRepository.findByIdInWithColumnAndBoard(List.of(2L)))
+                .thenReturn(List.of(card(2L, "로그인 화면 개선")));
+
+        // when
+        List<CardTitleSuggestion> results = service.suggest(1L, "로그인", 10);
+
+        // then
+        assertThat(results).extracting(CardTitleSuggestion::getCardId)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(service.totalIndexedCards()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("구성된 인덱스의 카드 변경은 즉시 반영되고, 아카이브된 카드는 제거되어야 함")
+    void shouldApplyChangesToBuiltIndex() {
+        // given
+        when(cardRepository.findByBoardId(10L))
+                .thenReturn(List.of(card(1L, "배포 스크립트"), card(2L, "배포 문서")));
+        service.suggest(1L, "배포", 10);
+        Card archived = card(2L, "배포 문서");
+        archived.setIsArchived(true);
+        when(cardRepository.findByIdInWithColumnAndBoard(List.of(2L))).thenReturn(List.of(archived));
+
+        // when
+        service.applyChange(10L, 2L);
+
+        // then
+        assertThat(service.suggest(1L, "배포", 10)).extracting(CardTitleSuggestion::getCardId)
+                .containsExactly(1L);
+        assertThat(service.totalIndexedCards()).isEqualTo(1L);
+    }
+
+    private Card card(Long id, String title) {
+        return Card.builder().id(id).title(title).column(column).isArchived(false).build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.kanban.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kanban.search.dto.CardTitleSuggestion;
+
+/**
+ * CardTitleIndex Unit Test
+ * trigram 인덱스 검색 정확도, 변경 반영, 메모리 상한 검증
+ */
+class CardTitleIndexTest {
+
+    @Test
+    @DisplayName("제목에 검색어가 포함된 카드를 접두사 일치 우선으로 반환해야 함")
+    void shouldReturnContainingTitlesWithPrefixFirst() {
+        CardTitleIndex index = new CardTitleIndex();
+        index.upsert(1L, 10L, 100L, "로그인 API 오류 수정");
+        index.upsert(2L, 10L, 100L, "API 문서 정리");
+        index.upsert(3L, 10L, 101L, "배포 스크립트");
+
+        List<CardTitleSuggestion> results = index.search("api", 10);
+
+        assertThat(results).extracting(CardTitleSuggestion::getCardId).containsExactly(2L, 1L);
+        assertThat(results.get(0).getColumnId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("3글자 미만 검색어도 전체 순회로 결과를 반환해야 함")
+    void shouldHandleShortQueries() {
+        CardTitleIndex index = new CardTitleIndex();
+        index.upsert(1L, 10L, 100L, "로그인 API 오류 수정");
+        index.upsert(2L, 10L, 100L, "배포 스크립트");
+
+        assertThat(index.search("로그", 10)).extracting(CardTitleSuggestion::getCardId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제목 변경과 삭제가 검색 결과에 즉시 반영되어야 함")
+    void shouldReflectTitleChangesAndRemovals() {
+        CardTitleIndex index = new CardTitleIndex();
+        index.upsert(1L, 10L, 100L, "결제 모듈 리팩터링");
+        index.upsert(2L, 10L, 100L, "결제 실패 알림");
+
+        index.upsert(1L, 10L, 100L, "정산 모듈 리팩터링");
+        index.remove(2L);
+
+        assertThat(index.search("결제", 10)).isEmpty();
+        assertThat(index.search("정산 모듈", 10)).extracting(CardTitleSuggestion::getCardId)
+                .containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제가 누적되어 압축된 이후에도 검색 결과가 유지되어야 함")
+    void shouldKeepResultsAfterCompaction() {
+        CardTitleIndex index = new CardTitleIndex();
+        for (long id = 1; id <= 4_000; id++) {
+            index.upsert(id, 10L, 100L, "task " + id);
+        }
+        for (long id = 1; id <= 2_000; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(2_000);
+        assertThat(index.search("task 3999", 10)).extracting(CardTitleSuggestion::getCardId)
+                .containsExactly(3999L);
+        assertThat(index.search("task 1999", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카드 10만 건 인덱스의 추정 메모리는 64MB 이하여야 함")
+    void shouldStayWithinMemoryBoundFor100kCards() {
+        CardTitleIndex index = new CardTitleIndex();
+        String[] words = {"로그인", "결제", "API", "배포", "리팩터링", "버그", "알림", "대시보드", "검색", "성능"};
+        for (int i = 0; i < 100_000; i++) {
+            String title = words[i % words.length] + " " + words[(i / 10) % words.length] + " 작업 #" + i;
+            index.upsert(i + 1L, i % 50, i % 500, title);
+        }
+
+        assertThat(index.size()).isEqualTo(100_000);
+        assertThat(index.estimatedBytes()).isLessThan(64L * 1024 * 1024);
+        assertThat(index.search("결제 배포", 5)).hasSize(5);
+    }
+}
@@ -0,0 +1,60 @@
+package com.kanban.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 카드 검색 커서 및 tsquery 변환 단위 테스트
+ */
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("관련도 커서는 인코딩 후 같은 값으로 복원되어야 함")
+    void shouldRoundTripRankCursor() {
+        SearchCursor cursor = SearchCursor.ofRank(0.0607927f, 42L);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertThat(decoded.isRankCursor()).isTrue();
+        assertThat(decoded.rank()).isEqualTo(0.0607927f);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("최근 수정순 커서는 인코딩 후 같은 값으로 복원되어야 함")
+    void shouldRoundTripUpdatedAtCursor() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 15, 10, 30, 12, 123456000);
+        SearchCursor cursor = SearchCursor.ofUpdatedAt(updatedAt, 7L);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertThat(decoded.isRankCursor()).isFalse();
+        assertThat(decoded.updatedAt()).isEqualTo(updatedAt);
+        assertThat(decoded.id()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null), 잘못된 커서는 400 예외")
+    void shouldRejectMalformedCursor() {
+        assertThat(SearchCursor.decode(null)).isNull();
+        assertThat(SearchCursor.decode(" ")).isNull();
+        assertThatThrownBy(() -> SearchCursor.decode("not-a-cursor"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("키워드는 특수문자를 제거한 접두사 일치 tsquery로 변환되어야 함")
+    void shouldBuildSanitizedPrefixTsQuery() {
+        assertThat(CardFullTextSearchRepository.toPrefixTsQuery("API 로그")).isEqualTo("api:* & 로그:*");
+        assertThat(CardFullTextSearchRepository.toPrefixTsQuery("foo&bar | !baz"))
+                .isEqualTo("foobar:* & baz:*");
+        assertThat(CardFullTextSearchRepository.toPrefixTsQuery(" ':*() ")).isNull();
+        assertThat(CardFullTextSearchRepository.toPrefixTsQuery(null)).isNull();
+    }
+}
@@ -0,0 +1,106 @@
+package com.kanban.sprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.kanban.board.BoardRepository;
+import com.kanban.card.CardRepository;
+
+/**
+ * SprintService Unit Test
+ * 일별 스냅샷 집계/갱신, 저장된 완료 포인트 기반 속도 조회 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class SprintServiceTest {
+
+    @Mock
+    private SprintRepository sprintRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private SprintSnapshotRepository sprintSnapshotRepository;
+
+    @InjectMocks
+    private SprintService sprintService;
+
+    @Test
+    @DisplayName("진행 중인 스프린트 스냅샷은 한 번의 집계로 계산하고 당일 스냅샷이 있으면 갱신해야 함")
+    void shouldCaptureActiveSprintSnapshotsWithSingleAggregate() {
+        // given
+        Sprint first = sprint(1L);
+        Sprint second = sprint(2L);
+        SprintSnapshot todays = new SprintSnapshot();
+        todays.setSprint(first);
+        todays.setSnapshotDate(LocalDate.now());
+        when(sprintRepository.findByStatus(SprintStatus.ACTIVE)).thenReturn(List.of(first, second));
+        when(cardRepository.summarizeSprints(List.of(1L, 2L))).thenReturn(
+                List.<Object[]>of(new Object[] {1L, 13L, 5L, 2L, 3L}));
+        when(sprintSnapshotRepository.findBySprintIdInAndSnapshotDate(List.of(1L, 2L),
+                LocalDate.now())).thenReturn(List.of(todays));
+
+        // when
+        int captured = sprintService.captureActiveSprintSnapshots();
+
+        // then
+        assertThat(captured).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<SprintSnapshot>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(sprintSnapshotRepository).saveAll(saved.capture());
+        List<SprintSnapshot> snapshots = new ArrayList<>();
+        saved.getValue().forEach(snapshots::add);
+        assertThat(snapshots).hasSize(2);
+        assertThat(snapshots.get(0)).isSameAs(todays);
+        assertThat(todays.getRemainingPoints()).isEqualTo(8);
+        assertThat(todays.getStatusCounts()).containsEntry("DONE", 2).containsEntry("TODO", 3);
+        assertThat(snapshots.get(1).getTotalPoints()).isZero();
+        assertThat(snapshots.get(1).getSprint()).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("속도는 스프린트에 저장된 완료 포인트로 조회해야 함")
+    void shouldReadVelocityFromStoredCompletedPoints() {
+        // given
+        when(sprintRepository.findCompletedPointsByBoardId(eq(10L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(21, null, 8));
+
+        // when
+        List<Integer> velocity = sprintService.getVelocity(10L);
+
+        // then
+        assertThat(velocity).containsExactly(21, 0, 8);
+        verify(sprintSnapshotRepository, never())
+                .findBySprintIdOrderBySnapshotDateAsc(any());
+        verify(cardRepository, never()).summarizeSprints(anyList());
+    }
+
+    private Sprint sprint(Long id) {
+        Sprint sprint = new Sprint();
+        sprint.setId(id);
+        sprint.setStatus(SprintStatus.ACTIVE);
+        return sprint;
+    }
+}
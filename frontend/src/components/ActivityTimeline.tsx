@@ -67,6 +67,7 @@ export const ActivityTimeline = ({
   const [error, setError] = useState<string | null>(null);
   const [currentPage, setCurrentPage] = useState(0);
   const [hasMore, setHasMore] = useState(true);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const pageSize = 20;
   const { t } = useTranslation(['board', 'common']);
 
@@ -75,36 +76,42 @@ export const ActivityTimeline = ({
       setLoading(true);
       setError(null);
 
-      let response;
+      let content: Activity[];
       if (cardId) {
-        response = await activityService.getCardActivities(
+        const response = await activityService.getCardActivities(
           cardId,
           page,
           pageSize,
           userId,
         );
+        content = response.content;
+        setHasMore(page < response.totalPages - 1);
       } else if (userId) {
-        response = await activityService.getUserActivities(
+        const response = await activityService.getUserActivities(
           userId,
           page,
           pageSize,
         );
+        content = response.content;
+        setHasMore(page < response.totalPages - 1);
       } else {
-        response = await activityService.getBoardActivities(
+        const response = await activityService.getBoardActivities(
           boardId,
-          page,
+          page === 0 ? null : nextCursor,
           pageSize,
         );
+        content = response.content;
+        setNextCursor(response.nextCursor);
+        setHasMore(response.hasNext);
       }
 
       if (page === 0) {
-        setActivities(response.content);
+        setActivities(content);
       } else {
-        setActivities((prev) => [...prev, ...response.content]);
+        setActivities((prev) => [...prev, ...content]);
       }
 
       setCurrentPage(page);
-      setHasMore(page < response.totalPages - 1);
     } catch (err) {
       const errorMessage =
         err instanceof Error ? err.message : t('board:activity.loadFailed', { defaultValue: 'Failed to load activities' });
@@ -19,6 +19,11 @@ export const useBoardSubscription = (boardId: number | undefined, onEvent: (even
         const subscription: StompSubscription = client.subscribe(`/topic/board/${boardId}`, (message) => {
             try {
                 const event: BoardEvent = JSON.parse(message.body);
+                // 서버가 짧은 시간 동안 모아 보낸 이벤트 묶음은 순서대로 풀어서 전달
+                if (event.type === 'BATCH') {
+                    (event.payload?.events ?? []).forEach((item: BoardEvent) => onEvent(item));
+                    return;
+                }
                 onEvent(event);
             } catch (error) {
                 console.error('Error parsing board event:', error);
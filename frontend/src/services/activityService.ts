@@ -3,16 +3,16 @@ import type { Activity } from '@/types/activity';
 
 export const activityService = {
   /**
-   * 보드의 활동 로그 조회
+   * 보드의 활동 로그 조회 (커서 페이지네이션, 첫 페이지는 cursor 생략)
    */
   async getBoardActivities(
     boardId: number,
-    page: number = 0,
+    cursor?: string | null,
     size: number = 50
-  ): Promise<{ content: Activity[]; totalElements: number; totalPages: number }> {
+  ): Promise<{ content: Activity[]; nextCursor: string | null; hasNext: boolean }> {
     const response = await axiosInstance.get(
       `/activities/boards/${boardId}`,
-      { params: { page, size } }
+      { params: { cursor: cursor ?? undefined, size } }
     );
     return response.data;
   },
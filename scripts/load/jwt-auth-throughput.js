@@ -0,0 +1,40 @@
+// JWT 인증 경로 처리량 측정 (k6)
+//
+// 사용법:
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=user@example.com -e PASSWORD=secret \
+//     scripts/load/jwt-auth-throughput.js
+//
+// 같은 조건에서 변경 전/후 빌드를 각각 실행해 http_reqs(초당 요청 수)와 http_req_duration p95를 비교한다.
+// 인증 필터의 사용자 조회는 security.jwt.principal-cache.ttl 동안 캐시되므로
+// 측정 중 DB의 users 조회 횟수가 요청 수와 무관하게 유지되는지도 함께 확인한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+  scenarios: {
+    authenticated_requests: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 50),
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+};
+
+export function setup() {
+  const res = http.post(
+    `${BASE_URL}/api/v1/auth/login`,
+    JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' } },
+  );
+  check(res, { 'login succeeded': (r) => r.status === 200 });
+  return { token: res.json('accessToken') };
+}
+
+export default function (data) {
+  const res = http.get(`${BASE_URL}/api/v1/auth/me`, {
+    headers: { Authorization: `Bearer ${data.token}` },
+  });
+  check(res, { 'authenticated': (r) => r.status === 200 });
+}